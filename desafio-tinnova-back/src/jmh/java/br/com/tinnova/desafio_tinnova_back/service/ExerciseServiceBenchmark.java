@@ -0,0 +1,68 @@
+package br.com.tinnova.desafio_tinnova_back.service;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import br.com.tinnova.desafio_tinnova_back.dto.BubbleSortResponseDTO;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ExerciseServiceBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Services {
+        final ExerciseService exerciseService = new ExerciseService(new SortingService(), new SimpleMeterRegistry());
+    }
+
+    @State(Scope.Benchmark)
+    public static class SortInput {
+        @Param({"100", "1000", "10000"})
+        int size;
+
+        int[] array;
+
+        @Setup
+        public void setUp() {
+            array = new Random(42).ints(size, -1_000_000, 1_000_000).toArray();
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class FactorialInput {
+        @Param({"5", "12", "20"})
+        int number;
+    }
+
+    @State(Scope.Benchmark)
+    public static class MultiplesInput {
+        @Param({"10", "1000", "1000000", "2147483647"})
+        int number;
+    }
+
+    @Benchmark
+    public BubbleSortResponseDTO bubbleSort(Services services, SortInput input) {
+        // O serviço ordena o array recebido; cada chamada precisa de uma cópia desordenada
+        return services.exerciseService.bubbleSort(input.array.clone());
+    }
+
+    @Benchmark
+    public long calculateFactorial(Services services, FactorialInput input) {
+        return services.exerciseService.calculateFactorial(input.number);
+    }
+
+    @Benchmark
+    public long sumMultiplesOf3Or5(Services services, MultiplesInput input) {
+        return services.exerciseService.sumMultiplesOf3Or5(input.number);
+    }
+}
@@ -0,0 +1,97 @@
+package br.com.tinnova.desafio_tinnova_back.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.tinnova.desafio_tinnova_back.dto.VehicleResponseDTO;
+import br.com.tinnova.desafio_tinnova_back.entity.Brand;
+import br.com.tinnova.desafio_tinnova_back.entity.Model;
+import br.com.tinnova.desafio_tinnova_back.entity.Vehicle;
+
+/**
+ * Conversão de entidades em VehicleResponseDTO e serialização da lista em JSON,
+ * com um ObjectMapper configurado como o do Spring Boot
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class VehicleMappingBenchmark {
+
+    @Param({"1", "100", "10000"})
+    private int size;
+
+    private VehicleService vehicleService;
+    private ObjectMapper objectMapper;
+    private List<Vehicle> vehicles;
+    private List<VehicleResponseDTO> responses;
+
+    @Setup
+    public void setUp() {
+        // A conversão não acessa os repositórios
+        vehicleService = new VehicleService(null, null, null, null, null);
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        Brand brand = new Brand();
+        brand.setId(1L);
+        brand.setName("Toyota");
+        Model model = new Model();
+        model.setId(10L);
+        model.setName("Corolla");
+        model.setBrand(brand);
+
+        LocalDateTime now = LocalDateTime.now();
+        vehicles = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Vehicle vehicle = new Vehicle();
+            vehicle.setId((long) i);
+            vehicle.setPlate(String.format("ABC-%04d", i % 10_000));
+            vehicle.setBrand(brand);
+            vehicle.setModel(model);
+            vehicle.setYear(2000 + i % 25);
+            vehicle.setDescription("Veículo de teste " + i);
+            vehicle.setIsSold(i % 2 == 0);
+            vehicle.setCreatedAt(now);
+            vehicle.setUpdatedAt(now);
+            vehicles.add(vehicle);
+        }
+        responses = convertAll();
+    }
+
+    @Benchmark
+    public List<VehicleResponseDTO> convertToResponseDTO() {
+        return convertAll();
+    }
+
+    @Benchmark
+    public byte[] serializeResponseList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(responses);
+    }
+
+    @Benchmark
+    public byte[] convertAndSerialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(convertAll());
+    }
+
+    private List<VehicleResponseDTO> convertAll() {
+        List<VehicleResponseDTO> result = new ArrayList<>(vehicles.size());
+        for (Vehicle vehicle : vehicles) {
+            result.add(vehicleService.convertToResponseDTO(vehicle));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,183 @@
+package br.com.tinnova.desafio_tinnova_back.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.tinnova.desafio_tinnova_back.DesafioTinnovaBackApplication;
+import br.com.tinnova.desafio_tinnova_back.dto.VehicleCreateDTO;
+import br.com.tinnova.desafio_tinnova_back.dto.VehicleImportResultDTO;
+import br.com.tinnova.desafio_tinnova_back.entity.Model;
+import br.com.tinnova.desafio_tinnova_back.entity.Vehicle;
+import br.com.tinnova.desafio_tinnova_back.repository.ModelRepository;
+import br.com.tinnova.desafio_tinnova_back.util.PlateCodec;
+
+/**
+ * Vazão de escrita de veículos com os padrões do Spring (pool de 10 conexões, sem batch) e com o
+ * profile prod (pool fixo, batch de 50 com INSERTs reescritos pelo driver, cache de prepared statements).
+ * Sobe a aplicação sem a camada web contra um PostgreSQL em container (Testcontainers, exige Docker),
+ * ou contra o banco de -Dbenchmark.db.url/-Dbenchmark.db.username/-Dbenchmark.db.password (repassados ao
+ * fork do JMH com -jvmArgsAppend). O schema.sql recria as tabelas: use apenas um banco descartável.
+ *
+ *   ./mvnw -Pbenchmark test -Djmh.includes=VehicleWriteBenchmark
+ *   ./mvnw -Pbenchmark test -Djmh.includes=VehicleWriteBenchmark \
+ *     -Djmh.args="-f 1 -wi 3 -i 5 -jvmArgsAppend -Dbenchmark.db.url=jdbc:h2:mem:bench;DB_CLOSE_ON_EXIT=FALSE"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class VehicleWriteBenchmark {
+    static final int BULK_ROWS = 1_000;
+
+    @Param({"defaults", "prod"})
+    private String configuration;
+
+    private PostgreSQLContainer<?> postgres;
+    private ConfigurableApplicationContext context;
+    private VehicleService vehicleService;
+    private VehicleImportService vehicleImportService;
+    private JdbcTemplate jdbcTemplate;
+    private ObjectMapper objectMapper;
+    private Long brandId;
+    private Long modelId;
+    private long maxSeedId;
+    // Placas sequenciais a partir de um ponto aleatório do espaço de códigos, sem repetir entre invocações
+    private final AtomicLong nextPlate = new AtomicLong(ThreadLocalRandom.current().nextLong(PlateCodec.CODE_SPACE / 2));
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        String url = System.getProperty("benchmark.db.url");
+        String username = System.getProperty("benchmark.db.username", "sa");
+        String password = System.getProperty("benchmark.db.password", "");
+        if (url == null) {
+            postgres = new PostgreSQLContainer<>(DockerImageName.parse("postgres:15-alpine"));
+            postgres.start();
+            url = postgres.getJdbcUrl();
+            username = postgres.getUsername();
+            password = postgres.getPassword();
+        }
+
+        // Como argumentos de linha de comando, para prevalecer sobre o application.properties e o profile
+        List<String> args = new ArrayList<>();
+        args.add("--spring.datasource.url=" + url);
+        args.add("--spring.datasource.username=" + username);
+        args.add("--spring.datasource.password=" + password);
+        args.add("--logging.level.root=WARN");
+        if (url.startsWith("jdbc:h2:")) {
+            // H2 (sem reWriteBatchedInserts) só para validar o benchmark; o schema H2 vem das classes de teste
+            args.add("--spring.datasource.driver-class-name=org.h2.Driver");
+            args.add("--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect");
+        } else {
+            args.add("--spring.sql.init.schema-locations=file:src/main/resources/schema.sql");
+        }
+        if (!"prod".equals(configuration)) {
+            // Padrões do Spring/Hibernate: sem batch e sem ordenação dos INSERTs
+            args.add("--spring.jpa.properties.hibernate.jdbc.batch_size=1");
+            args.add("--spring.jpa.properties.hibernate.order_inserts=false");
+        }
+        context = new SpringApplicationBuilder(DesafioTinnovaBackApplication.class)
+            .web(WebApplicationType.NONE)
+            .profiles("prod".equals(configuration) ? new String[] {"prod"} : new String[0])
+            .run(args.toArray(String[]::new));
+
+        vehicleService = context.getBean(VehicleService.class);
+        vehicleImportService = context.getBean(VehicleImportService.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        objectMapper = context.getBean(ObjectMapper.class);
+        Model model = context.getBean(ModelRepository.class).findAllWithBrandOrderByNameAsc().get(0);
+        brandId = model.getBrand().getId();
+        modelId = model.getId();
+        maxSeedId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM vehicles", Long.class);
+    }
+
+    @TearDown(Level.Iteration)
+    public void deleteCreatedVehicles() {
+        // Mantém a tabela do mesmo tamanho entre as iterações
+        jdbcTemplate.update("DELETE FROM vehicles WHERE id > ?", maxSeedId);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+        if (postgres != null) {
+            postgres.stop();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class BulkPayload {
+        byte[] json;
+
+        @Setup(Level.Invocation)
+        public void setUp(VehicleWriteBenchmark benchmark) throws IOException {
+            List<VehicleCreateDTO> rows = new ArrayList<>(BULK_ROWS);
+            for (int i = 0; i < BULK_ROWS; i++) {
+                rows.add(benchmark.newVehicle());
+            }
+            json = benchmark.objectMapper.writeValueAsBytes(rows);
+        }
+    }
+
+    @Benchmark
+    public Vehicle createVehicle() {
+        return vehicleService.createVehicle(newVehicle());
+    }
+
+    /**
+     * Mais threads que conexões: mede também a espera pelo pool
+     */
+    @Benchmark
+    @Threads(32)
+    public Vehicle createVehicleConcurrent() {
+        return vehicleService.createVehicle(newVehicle());
+    }
+
+    /**
+     * Importação em massa (blocos de 500 linhas por transação); o resultado é em linhas por segundo
+     */
+    @Benchmark
+    @OperationsPerInvocation(BULK_ROWS)
+    public VehicleImportResultDTO bulkImport(BulkPayload payload) throws IOException {
+        VehicleImportResultDTO result = vehicleImportService.importJson(new ByteArrayInputStream(payload.json));
+        if (result.getImported() != BULK_ROWS) {
+            throw new IllegalStateException("Importação parcial: " + result.getFailed() + " linhas falharam");
+        }
+        return result;
+    }
+
+    private VehicleCreateDTO newVehicle() {
+        VehicleCreateDTO dto = new VehicleCreateDTO();
+        dto.setPlate(PlateCodec.decode(nextPlate.getAndIncrement()));
+        dto.setBrandId(brandId);
+        dto.setModelId(modelId);
+        dto.setYear(2020);
+        dto.setDescription("Benchmark de escrita");
+        dto.setIsSold(false);
+        return dto;
+    }
+}
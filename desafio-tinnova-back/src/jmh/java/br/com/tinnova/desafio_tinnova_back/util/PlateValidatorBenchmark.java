@@ -0,0 +1,36 @@
+package br.com.tinnova.desafio_tinnova_back.util;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PlateValidatorBenchmark {
+
+    // Brasileira normalizada, Mercosul minúscula, com espaços e inválida
+    @Param({"ABC-1234", "abc-1d23", "  XYZ-9876  ", "INVALIDA"})
+    private String plate;
+
+    @Benchmark
+    public boolean isValidPlate() {
+        return PlateValidator.isValidPlate(plate);
+    }
+
+    @Benchmark
+    public String normalizePlate() {
+        return PlateValidator.normalizePlate(plate);
+    }
+
+    @Benchmark
+    public String validateAndNormalize() {
+        return PlateValidator.validateAndNormalize(plate);
+    }
+}
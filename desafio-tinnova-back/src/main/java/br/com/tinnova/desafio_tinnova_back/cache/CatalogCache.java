@@ -0,0 +1,167 @@
+package br.com.tinnova.desafio_tinnova_back.cache;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import br.com.tinnova.desafio_tinnova_back.dto.BrandDTO;
+import br.com.tinnova.desafio_tinnova_back.dto.BrandWithModelsDTO;
+import br.com.tinnova.desafio_tinnova_back.dto.ModelDTO;
+import br.com.tinnova.desafio_tinnova_back.repository.BrandRepository;
+import br.com.tinnova.desafio_tinnova_back.repository.ModelRepository;
+
+/**
+ * Cache em memória do catálogo de marcas e modelos.
+ * Guarda um snapshot imutável, já ordenado por nome e indexado por id e por marca. O snapshot é
+ * recarregado sob demanda quando o contador de versão muda (qualquer escrita em Brand ou Model).
+ */
+@Component
+public class CatalogCache {
+    // Avança a cada escrita no catálogo; compartilhado com o CatalogChangeListener
+    private static final ChangeTracker CHANGES = new ChangeTracker("catalog");
+
+    private final BrandRepository brandRepository;
+    private final ModelRepository modelRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private volatile Snapshot snapshot;
+
+    public CatalogCache(BrandRepository brandRepository,
+                        ModelRepository modelRepository,
+                        PlatformTransactionManager transactionManager) {
+        this.brandRepository = brandRepository;
+        this.modelRepository = modelRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Marca o catálogo como alterado (ver ChangeTracker.markChanged)
+     */
+    public static void markChanged() {
+        CHANGES.markChanged();
+    }
+
+    public static ChangeTracker changes() {
+        return CHANGES;
+    }
+
+    public long getVersion() {
+        return CHANGES.getVersion();
+    }
+
+    public List<BrandDTO> getBrands() {
+        return current().brands;
+    }
+
+    public List<ModelDTO> getModels() {
+        return current().models;
+    }
+
+    public List<BrandWithModelsDTO> getBrandsWithModels() {
+        return current().brandsWithModels;
+    }
+
+    public Optional<BrandDTO> findBrand(Long brandId) {
+        return brandId == null ? Optional.empty() : Optional.ofNullable(current().brandsById.get(brandId));
+    }
+
+    public Optional<ModelDTO> findModel(Long modelId) {
+        return modelId == null ? Optional.empty() : Optional.ofNullable(current().modelsById.get(modelId));
+    }
+
+    public List<ModelDTO> getModelsByBrand(Long brandId) {
+        return current().modelsByBrand.getOrDefault(brandId, List.of());
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current != null && current.version == CHANGES.getVersion()) {
+            return current;
+        }
+
+        synchronized (this) {
+            current = snapshot;
+            long version = CHANGES.getVersion();
+            if (current == null || current.version != version) {
+                // A versão é lida antes da carga: uma escrita concorrente força nova recarga depois
+                current = readOnlyTransaction.execute(status -> load(version));
+                snapshot = current;
+            }
+            return current;
+        }
+    }
+
+    private Snapshot load(long version) {
+        // Duas consultas com projeção em DTO, qualquer que seja o tamanho do catálogo
+        List<BrandDTO> brands = brandRepository.findAllProjectedByOrderByNameAsc();
+        List<ModelDTO> models = modelRepository.findAllProjectedWithBrandOrderByNameAsc();
+
+        Map<Long, BrandDTO> brandsById = new HashMap<>();
+        for (BrandDTO brand : brands) {
+            brandsById.put(brand.getId(), brand);
+        }
+
+        Map<Long, ModelDTO> modelsById = new HashMap<>();
+        Map<Long, List<ModelDTO>> modelsByBrand = new LinkedHashMap<>();
+        for (ModelDTO dto : models) {
+            modelsById.put(dto.getId(), dto);
+            modelsByBrand.computeIfAbsent(dto.getBrandId(), id -> new ArrayList<>()).add(dto);
+        }
+        modelsByBrand.replaceAll((brandId, list) -> List.copyOf(list));
+
+        List<BrandWithModelsDTO> brandsWithModels = new ArrayList<>(brands.size());
+        for (BrandDTO brand : brands) {
+            brandsWithModels.add(new BrandWithModelsDTO(
+                brand.getId(),
+                brand.getName(),
+                brand.getCreatedAt(),
+                modelsByBrand.getOrDefault(brand.getId(), List.of())
+            ));
+        }
+
+        return new Snapshot(
+            version,
+            List.copyOf(brands),
+            List.copyOf(models),
+            List.copyOf(brandsWithModels),
+            Collections.unmodifiableMap(brandsById),
+            Collections.unmodifiableMap(modelsById),
+            Collections.unmodifiableMap(modelsByBrand)
+        );
+    }
+
+    private static final class Snapshot {
+        private final long version;
+        private final List<BrandDTO> brands;
+        private final List<ModelDTO> models;
+        private final List<BrandWithModelsDTO> brandsWithModels;
+        private final Map<Long, BrandDTO> brandsById;
+        private final Map<Long, ModelDTO> modelsById;
+        private final Map<Long, List<ModelDTO>> modelsByBrand;
+
+        private Snapshot(long version,
+                         List<BrandDTO> brands,
+                         List<ModelDTO> models,
+                         List<BrandWithModelsDTO> brandsWithModels,
+                         Map<Long, BrandDTO> brandsById,
+                         Map<Long, ModelDTO> modelsById,
+                         Map<Long, List<ModelDTO>> modelsByBrand) {
+            this.version = version;
+            this.brands = brands;
+            this.models = models;
+            this.brandsWithModels = brandsWithModels;
+            this.brandsById = brandsById;
+            this.modelsById = modelsById;
+            this.modelsByBrand = modelsByBrand;
+        }
+    }
+}
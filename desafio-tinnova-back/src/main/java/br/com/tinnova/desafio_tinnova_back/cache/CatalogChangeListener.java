@@ -0,0 +1,18 @@
+package br.com.tinnova.desafio_tinnova_back.cache;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+/**
+ * Listener JPA das entidades do catálogo (marcas e modelos): qualquer escrita invalida o CatalogCache
+ */
+public class CatalogChangeListener {
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onCatalogChange(Object entity) {
+        CatalogCache.markChanged();
+    }
+}
@@ -0,0 +1,59 @@
+package br.com.tinnova.desafio_tinnova_back.cache;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Contador de escritas de um conjunto de dados. É o carimbo de versão barato das leituras em cache e das
+ * respostas condicionais (ETag), sem consultar o banco.
+ * Vale para esta instância da aplicação; o identificador de boot na ETag invalida as ETags antigas a cada
+ * reinício.
+ */
+public final class ChangeTracker {
+    private static final String BOOT_ID = Long.toString(System.currentTimeMillis(), 36);
+
+    private final String name;
+    private final AtomicLong version = new AtomicLong();
+
+    public ChangeTracker(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Marca os dados como alterados. Se houver transação ativa, marca de novo ao final dela,
+     * para que uma leitura feita com dados ainda não confirmados (ou desfeitos) seja descartada.
+     */
+    public void markChanged() {
+        bump();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    bump();
+                }
+            });
+        }
+    }
+
+    public long getVersion() {
+        return version.get();
+    }
+
+    /**
+     * ETag forte que muda a cada escrita em qualquer um dos conjuntos
+     */
+    public static String eTag(List<ChangeTracker> trackers) {
+        StringBuilder eTag = new StringBuilder("\"").append(BOOT_ID);
+        for (ChangeTracker tracker : trackers) {
+            eTag.append('-').append(tracker.name).append('.').append(tracker.getVersion());
+        }
+        return eTag.append('"').toString();
+    }
+
+    private void bump() {
+        version.incrementAndGet();
+    }
+}
@@ -0,0 +1,28 @@
+package br.com.tinnova.desafio_tinnova_back.cache;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+/**
+ * Listener JPA dos veículos: qualquer escrita avança o contador de versão dos veículos.
+ * Escritas em lote por JPQL/Criteria não passam pelos callbacks e devem chamar markChanged.
+ */
+public class VehicleChangeListener {
+    private static final ChangeTracker CHANGES = new ChangeTracker("vehicles");
+
+    public static ChangeTracker changes() {
+        return CHANGES;
+    }
+
+    public static void markChanged() {
+        CHANGES.markChanged();
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onVehicleChange(Object entity) {
+        markChanged();
+    }
+}
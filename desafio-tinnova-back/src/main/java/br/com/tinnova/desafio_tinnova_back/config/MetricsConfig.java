@@ -0,0 +1,44 @@
+package br.com.tinnova.desafio_tinnova_back.config;
+
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.lang.NonNull;
+
+import br.com.tinnova.desafio_tinnova_back.metrics.SqlQueryListener;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+
+@Configuration
+public class MetricsConfig {
+    /**
+     * Envolve o DataSource em um proxy (datasource-proxy) que alimenta o SqlQueryListener em cada execução.
+     * Estático para ser registrado antes dos demais beans; o MeterRegistry é resolvido na primeira consulta.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "app.sql.proxy.enabled", havingValue = "true", matchIfMissing = true)
+    public static BeanPostProcessor sqlMetricsDataSourceProxy(ObjectProvider<MeterRegistry> meterRegistry,
+                                                              @Value("${app.sql.slow-query-threshold:200ms}") Duration slowQueryThreshold,
+                                                              @Value("${app.sql.max-signatures:200}") int maxSignatures) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(@NonNull Object bean, @NonNull String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof ProxyDataSource) {
+                    return bean;
+                }
+                return ProxyDataSourceBuilder.create(beanName, dataSource)
+                    .listener(new SqlQueryListener(meterRegistry::getObject, slowQueryThreshold, maxSignatures))
+                    .build();
+            }
+        };
+    }
+}
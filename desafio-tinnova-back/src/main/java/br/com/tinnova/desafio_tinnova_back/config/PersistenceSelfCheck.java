@@ -0,0 +1,134 @@
+package br.com.tinnova.desafio_tinnova_back.config;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+import javax.sql.DataSource;
+
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.generator.Generator;
+import org.hibernate.id.IdentityGenerator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.actuate.info.Info;
+import org.springframework.boot.actuate.info.InfoContributor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.jdbc.DataSourceUnwrapper;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.zaxxer.hikari.HikariConfigMXBean;
+import com.zaxxer.hikari.HikariDataSource;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Confere na inicialização a configuração efetiva do pool de conexões e da escrita em batch
+ * (que pode vir de profiles, variáveis de ambiente ou dos padrões do Spring) e a registra no log,
+ * com avisos para o que anula o batch. O mesmo relatório fica em /actuator/info, em "persistence".
+ */
+@Component
+public class PersistenceSelfCheck implements InfoContributor {
+    private static final Logger log = LoggerFactory.getLogger(PersistenceSelfCheck.class);
+
+    private final DataSource dataSource;
+    private final EntityManagerFactory entityManagerFactory;
+
+    public PersistenceSelfCheck(DataSource dataSource, EntityManagerFactory entityManagerFactory) {
+        this.dataSource = dataSource;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void check() {
+        Map<String, Object> report = report();
+        log.info("Persistência: pool={} batch={}", report.get("pool"), report.get("batch"));
+        for (Object warning : (List<?>) report.get("warnings")) {
+            log.warn("Persistência: {}", warning);
+        }
+    }
+
+    @Override
+    public void contribute(Info.Builder builder) {
+        builder.withDetail("persistence", report());
+    }
+
+    /**
+     * @return A configuração efetiva do pool ("pool"), do batch do Hibernate ("batch") e os avisos ("warnings")
+     */
+    public Map<String, Object> report() {
+        List<String> warnings = new ArrayList<>();
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("pool", poolReport(warnings));
+        report.put("batch", batchReport(warnings));
+        report.put("warnings", warnings);
+        return report;
+    }
+
+    private Map<String, Object> poolReport(List<String> warnings) {
+        Map<String, Object> pool = new LinkedHashMap<>();
+        HikariDataSource hikari = DataSourceUnwrapper.unwrap(dataSource, HikariConfigMXBean.class, HikariDataSource.class);
+        if (hikari == null) {
+            pool.put("type", dataSource.getClass().getName());
+            return pool;
+        }
+
+        pool.put("type", "hikari");
+        pool.put("name", hikari.getPoolName());
+        pool.put("maximumPoolSize", hikari.getMaximumPoolSize());
+        pool.put("minimumIdle", hikari.getMinimumIdle());
+        pool.put("connectionTimeoutMs", hikari.getConnectionTimeout());
+        pool.put("maxLifetimeMs", hikari.getMaxLifetime());
+        pool.put("keepaliveTimeMs", hikari.getKeepaliveTime());
+        pool.put("leakDetectionThresholdMs", hikari.getLeakDetectionThreshold());
+        // Propriedades do driver (sem credenciais)
+        Map<String, Object> driverProperties = new TreeMap<>();
+        hikari.getDataSourceProperties().forEach((key, value) -> {
+            if (!key.toString().toLowerCase(Locale.ROOT).contains("password")) {
+                driverProperties.put(key.toString(), value);
+            }
+        });
+        pool.put("dataSourceProperties", driverProperties);
+
+        String jdbcUrl = hikari.getJdbcUrl();
+        if (jdbcUrl != null && jdbcUrl.startsWith("jdbc:postgresql:")
+                && !"true".equalsIgnoreCase(String.valueOf(driverProperties.get("reWriteBatchedInserts")))
+                && !jdbcUrl.contains("reWriteBatchedInserts=true")) {
+            warnings.add("reWriteBatchedInserts desligado no driver PostgreSQL: cada INSERT do lote é enviado separadamente");
+        }
+        return pool;
+    }
+
+    private Map<String, Object> batchReport(List<String> warnings) {
+        SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        SessionFactoryOptions options = sessionFactory.getSessionFactoryOptions();
+
+        Map<String, Object> batch = new LinkedHashMap<>();
+        batch.put("jdbcBatchSize", options.getJdbcBatchSize());
+        batch.put("orderInserts", options.isOrderInsertsEnabled());
+        batch.put("orderUpdates", options.isOrderUpdatesEnabled());
+        batch.put("batchVersionedData", options.isJdbcBatchVersionedData());
+        // Entidades com id IDENTITY precisam do id logo após cada INSERT e nunca entram em batch
+        List<String> identityEntities = new ArrayList<>();
+        sessionFactory.getMappingMetamodel().forEachEntityDescriptor(persister -> {
+            Generator generator = persister.getGenerator();
+            if (generator instanceof IdentityGenerator) {
+                identityEntities.add(persister.getJavaType().getJavaTypeClass().getSimpleName());
+            }
+        });
+        identityEntities.sort(null);
+        batch.put("identityEntities", identityEntities);
+
+        if (options.getJdbcBatchSize() <= 1) {
+            warnings.add("hibernate.jdbc.batch_size=" + options.getJdbcBatchSize() + ": INSERTs e UPDATEs não são agrupados em batch");
+        } else if (!options.isOrderInsertsEnabled()) {
+            warnings.add("hibernate.order_inserts desligado: lotes com entidades intercaladas são quebrados a cada troca de tabela");
+        }
+        return batch;
+    }
+}
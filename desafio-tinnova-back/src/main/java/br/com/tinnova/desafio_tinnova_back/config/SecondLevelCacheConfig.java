@@ -0,0 +1,75 @@
+package br.com.tinnova.desafio_tinnova_back.config;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+
+/**
+ * Cache de segundo nível do Hibernate para o catálogo (Brand e Model) e suas consultas, em memória
+ * via JCache com Caffeine. Cada região tem tamanho máximo e TTL; as escritas pelo Hibernate invalidam
+ * as entidades e, pela região de timestamps, as consultas em cache das tabelas alteradas.
+ * Desligado com app.second-level-cache.enabled=false.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.second-level-cache.enabled", havingValue = "true", matchIfMissing = true)
+public class SecondLevelCacheConfig {
+    public static final String BRAND_REGION = "catalog.brand";
+    public static final String MODEL_REGION = "catalog.model";
+
+    /**
+     * CacheManager próprio (URI única), para não ser compartilhado entre contextos Spring na mesma JVM
+     */
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(@Value("${app.second-level-cache.max-entries:10000}") long maxEntries,
+                                              @Value("${app.second-level-cache.ttl:PT1H}") Duration ttl,
+                                              MeterRegistry meterRegistry) {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+            .getCacheManager(URI.create("hibernate-second-level-cache-" + UUID.randomUUID()), getClass().getClassLoader());
+
+        CaffeineConfiguration<Object, Object> bounded = new CaffeineConfiguration<>();
+        bounded.setMaximumSize(OptionalLong.of(maxEntries));
+        bounded.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+        bounded.setStatisticsEnabled(true);
+        for (String region : new String[] {BRAND_REGION, MODEL_REGION, RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME}) {
+            JCacheMetrics.monitor(meterRegistry, cacheManager.createCache(region, bounded));
+        }
+
+        // Os timestamps das tabelas não podem expirar nem ser descartados antes das consultas que dependem deles
+        CaffeineConfiguration<Object, Object> timestamps = new CaffeineConfiguration<>();
+        timestamps.setStatisticsEnabled(true);
+        JCacheMetrics.monitor(meterRegistry,
+            cacheManager.createCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME, timestamps));
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            // Toda região usada precisa ter sido criada acima, com limite de tamanho
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+}
@@ -9,9 +9,11 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
-import br.com.tinnova.desafio_tinnova_back.entity.Brand;
-import br.com.tinnova.desafio_tinnova_back.repository.BrandRepository;
+import br.com.tinnova.desafio_tinnova_back.cache.CatalogCache;
+import br.com.tinnova.desafio_tinnova_back.dto.BrandDTO;
+import br.com.tinnova.desafio_tinnova_back.dto.BrandWithModelsDTO;
 
 @RestController
 @CrossOrigin
@@ -19,22 +21,20 @@ import br.com.tinnova.desafio_tinnova_back.repository.BrandRepository;
 public class BrandController {
     
     @Autowired
-    private BrandRepository brandRepository;
+    private CatalogCache catalogCache;
     
     @GetMapping
-    public List<Brand> listAllBrands() {
-        return brandRepository.findAllByOrderByNameAsc();
+    public ResponseEntity<List<BrandDTO>> listAllBrands(WebRequest request) {
+        return ConditionalResponses.ifModified(request, List.of(CatalogCache.changes()), catalogCache::getBrands);
     }
     
     @GetMapping("/{id}")
-    public ResponseEntity<Brand> getBrandById(@PathVariable Long id) {
-        return brandRepository.findById(id)
-            .map(brand -> ResponseEntity.ok().body(brand))
-            .orElse(ResponseEntity.notFound().build());
+    public ResponseEntity<BrandDTO> getBrandById(@PathVariable Long id, WebRequest request) {
+        return ConditionalResponses.ifModifiedOptional(request, List.of(CatalogCache.changes()), () -> catalogCache.findBrand(id));
     }
     
     @GetMapping("/com-modelos")
-    public List<Brand> listBrandsWithModels() {
-        return brandRepository.findAllByOrderByNameAsc();
+    public ResponseEntity<List<BrandWithModelsDTO>> listBrandsWithModels(WebRequest request) {
+        return ConditionalResponses.ifModified(request, List.of(CatalogCache.changes()), catalogCache::getBrandsWithModels);
     }
 }
@@ -0,0 +1,49 @@
+package br.com.tinnova.desafio_tinnova_back.controller;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import br.com.tinnova.desafio_tinnova_back.cache.ChangeTracker;
+
+/**
+ * Respostas condicionais das leituras: a ETag vem dos contadores de versão, e uma requisição com
+ * If-None-Match ainda válido recebe 304 antes de qualquer consulta. Não há Last-Modified: com resolução
+ * de um segundo, um If-Modified-Since receberia 304 indevido após uma escrita no mesmo segundo da leitura.
+ * Cache-Control: no-cache faz o navegador revalidar sempre, em vez de reaproveitar a resposta por heurística.
+ */
+final class ConditionalResponses {
+
+    private ConditionalResponses() {
+    }
+
+    static <T> ResponseEntity<T> ifModified(WebRequest request, List<ChangeTracker> trackers, Supplier<T> body) {
+        return ifModifiedOptional(request, trackers, () -> Optional.of(body.get()));
+    }
+
+    /**
+     * Como ifModified, respondendo 404 quando o corpo vier vazio
+     */
+    static <T> ResponseEntity<T> ifModifiedOptional(WebRequest request, List<ChangeTracker> trackers,
+                                                    Supplier<Optional<T>> body) {
+        // Versão lida antes da consulta: uma escrita concorrente gera ETag nova na próxima requisição
+        String eTag = ChangeTracker.eTag(trackers);
+        if (request.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache())
+                .build();
+        }
+        return body.get()
+            .map(value -> ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache())
+                .body(value))
+            .orElse(ResponseEntity.notFound().build());
+    }
+}
@@ -1,19 +1,46 @@
 package br.com.tinnova.desafio_tinnova_back.controller;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import br.com.tinnova.desafio_tinnova_back.dto.BubbleSortResponseDTO;
+import br.com.tinnova.desafio_tinnova_back.dto.ElectionBatchRequestDTO;
+import br.com.tinnova.desafio_tinnova_back.dto.ElectionBatchResultDTO;
 import br.com.tinnova.desafio_tinnova_back.dto.ElectionResultDTO;
+import br.com.tinnova.desafio_tinnova_back.dto.ElectionTallySnapshotDTO;
+import br.com.tinnova.desafio_tinnova_back.dto.ExerciseCacheStatsDTO;
+import br.com.tinnova.desafio_tinnova_back.dto.MultiplesSumQueryDTO;
+import br.com.tinnova.desafio_tinnova_back.dto.MultiplesSumResultDTO;
 import br.com.tinnova.desafio_tinnova_back.entity.Election;
-import br.com.tinnova.desafio_tinnova_back.service.ExerciseService;
+import br.com.tinnova.desafio_tinnova_back.service.CpuTaskExecutor;
+import br.com.tinnova.desafio_tinnova_back.service.ElectionBatchService;
+import br.com.tinnova.desafio_tinnova_back.service.ElectionTallyService;
+import br.com.tinnova.desafio_tinnova_back.service.FactorialService;
+import br.com.tinnova.desafio_tinnova_back.service.MemoizedExerciseService;
+import br.com.tinnova.desafio_tinnova_back.service.MemoizedExerciseService.Memoized;
+import br.com.tinnova.desafio_tinnova_back.service.MultiplesSumService;
 
 
 @RestController
@@ -21,32 +48,120 @@ import br.com.tinnova.desafio_tinnova_back.service.ExerciseService;
 @RequestMapping("/api/exercises")
 public class ExerciseController {
     @Autowired
-    private ExerciseService exerciseService;
+    private MemoizedExerciseService memoizedExerciseService;
+
+    @Autowired
+    private FactorialService factorialService;
+
+    @Autowired
+    private MultiplesSumService multiplesSumService;
+
+    @Autowired
+    private ElectionBatchService electionBatchService;
+
+    @Autowired
+    private ElectionTallyService electionTallyService;
+
+    @Autowired
+    private CpuTaskExecutor cpuTaskExecutor;
     
     @PostMapping("/election-percentages")
     public ResponseEntity<ElectionResultDTO> calculateElectionPercentages(@RequestBody Election electionData) {
-        ElectionResultDTO electionResult = exerciseService.calculateElectionPercentages(electionData);
+        Memoized<ElectionResultDTO> electionResult = memoizedExerciseService.calculateElectionPercentages(electionData);
+
+        return withETag(electionResult);
+    }
+
+    @PostMapping("/election-percentages/batch")
+    public CompletableFuture<ResponseEntity<ElectionBatchResultDTO>> calculateElectionPercentagesBatch(@RequestBody ElectionBatchRequestDTO batch) {
+        return cpuTaskExecutor.submit(() -> ResponseEntity.ok(electionBatchService.calculateElectionPercentages(batch)));
+    }
+
+    @PostMapping("/election-tallies")
+    public ResponseEntity<ElectionTallySnapshotDTO> createElectionTally() {
+        return ResponseEntity.ok(electionTallyService.create());
+    }
 
-        return ResponseEntity.ok(electionResult);
+    @PostMapping(value = "/election-tallies/{id}/upload", consumes = "text/csv", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ElectionTallySnapshotDTO> uploadElectionTallyCsv(@PathVariable String id, InputStream body) throws IOException {
+        return ResponseEntity.ok(electionTallyService.ingestCsv(id, body));
+    }
+
+    @PostMapping(value = "/election-tallies/{id}/upload", consumes = "application/x-ndjson", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ElectionTallySnapshotDTO> uploadElectionTallyNdjson(@PathVariable String id, InputStream body) throws IOException {
+        return ResponseEntity.ok(electionTallyService.ingestNdjson(id, body));
+    }
+
+    @GetMapping("/election-tallies/{id}")
+    public ResponseEntity<ElectionTallySnapshotDTO> getElectionTally(@PathVariable String id) {
+        return electionTallyService.getSnapshot(id)
+            .map(ResponseEntity::ok)
+            .orElse(ResponseEntity.notFound().build());
     }
 
     @PostMapping("/bubble-sort")
-    public ResponseEntity<BubbleSortResponseDTO> bubbleSort(@RequestBody int[] integerArray) {
-        BubbleSortResponseDTO result = exerciseService.bubbleSort(integerArray);
-        return ResponseEntity.ok(result);
+    public CompletableFuture<ResponseEntity<BubbleSortResponseDTO>> bubbleSort(@RequestBody int[] integerArray,
+                                                                               @RequestParam(required = false) String algorithm) {
+        // Ordenação no pool de CPU: a thread da requisição fica livre enquanto espera
+        return cpuTaskExecutor.submit(() -> withETag(memoizedExerciseService.sort(integerArray, algorithm)));
     }
 
     @GetMapping("/factorial")
-    public ResponseEntity<Long> calculateFactorial(@RequestParam int number) {
-        long result = exerciseService.calculateFactorial(number);
-        return ResponseEntity.ok(result);
+    public ResponseEntity<Long> calculateFactorial(@RequestParam int number, WebRequest request) {
+        // A ETag depende só da entrada (validada antes): um GET condicional repetido recebe 304 sem recalcular
+        String eTag = memoizedExerciseService.factorialETag(number);
+        if (request.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        return withETag(memoizedExerciseService.calculateFactorial(number));
     }
     
+    @GetMapping(value = "/factorial/big", produces = MediaType.TEXT_PLAIN_VALUE)
+    public CompletableFuture<ResponseEntity<StreamingResponseBody>> calculateBigFactorial(@RequestParam int number) {
+        return cpuTaskExecutor.submit(() -> {
+            BigInteger result = factorialService.factorial(number);
+
+            StreamingResponseBody body = out -> {
+                Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.US_ASCII), 64 * 1024);
+                factorialService.writeDecimal(result, writer);
+                writer.flush();
+            };
+            return ResponseEntity.ok()
+                .contentType(new MediaType(MediaType.TEXT_PLAIN, StandardCharsets.US_ASCII))
+                .body(body);
+        });
+    }
+
     @GetMapping("/sum-multiples-of-3-or-5")
-    public ResponseEntity<Long> sumMultiplesOf3Or5(@RequestParam int number) {
-        long result = exerciseService.sumMultiplesOf3Or5(number);
+    public ResponseEntity<Long> sumMultiplesOf3Or5(@RequestParam int number, WebRequest request) {
+        String eTag = memoizedExerciseService.sumMultiplesETag(number);
+        if (request.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        return withETag(memoizedExerciseService.sumMultiplesOf3Or5(number));
+    }
+
+    @GetMapping("/cache/stats")
+    public ResponseEntity<ExerciseCacheStatsDTO> getCacheStats() {
+        return ResponseEntity.ok(memoizedExerciseService.getStats());
+    }
 
+    @GetMapping("/sum-multiples")
+    public ResponseEntity<BigInteger> sumOfMultiples(@RequestParam BigInteger limit,
+                                                     @RequestParam(required = false) List<Long> divisors) {
+        BigInteger result = multiplesSumService.sumOfMultiples(limit, divisors);
         return ResponseEntity.ok(result);
     }
-    
+
+    @PostMapping("/sum-multiples/batch")
+    public ResponseEntity<List<MultiplesSumResultDTO>> sumOfMultiplesBatch(@RequestBody List<MultiplesSumQueryDTO> queries) {
+        return ResponseEntity.ok(multiplesSumService.sumOfMultiplesBatch(queries));
+    }
+
+    private static <T> ResponseEntity<T> withETag(Memoized<T> memoized) {
+        if (memoized.eTag() == null) {
+            return ResponseEntity.ok(memoized.value());
+        }
+        return ResponseEntity.ok().eTag(memoized.eTag()).body(memoized.value());
+    }
 }
@@ -0,0 +1,79 @@
+package br.com.tinnova.desafio_tinnova_back.controller;
+
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import br.com.tinnova.desafio_tinnova_back.dto.ExerciseJobDTO;
+import br.com.tinnova.desafio_tinnova_back.service.ExerciseJobService;
+
+
+@RestController
+@CrossOrigin
+@RequestMapping("/api/exercises/jobs")
+public class ExerciseJobController {
+    @Autowired
+    private ExerciseJobService exerciseJobService;
+
+    @PostMapping("/sort")
+    public ResponseEntity<ExerciseJobDTO> submitSort(@RequestBody int[] integerArray,
+                                                     @RequestParam(required = false) String algorithm) {
+        return ResponseEntity.accepted().body(exerciseJobService.submitSort(integerArray, algorithm));
+    }
+
+    @PostMapping("/factorial")
+    public ResponseEntity<ExerciseJobDTO> submitFactorial(@RequestParam int number) {
+        return ResponseEntity.accepted().body(exerciseJobService.submitFactorial(number));
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<ExerciseJobDTO> getJob(@PathVariable String id) {
+        return exerciseJobService.getJob(id)
+            .map(ResponseEntity::ok)
+            .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Resultado do job: 200 com o resultado quando concluído, 202 com o estado enquanto está na fila ou
+     * em execução, 409 com o estado se falhou ou foi cancelado, 410 com o estado se concluiu mas o
+     * resultado já saiu do cache de resultados (ou não coube nele)
+     */
+    @GetMapping("/{id}/result")
+    public ResponseEntity<?> getResult(@PathVariable String id) {
+        Object result = exerciseJobService.getResult(id).orElse(null);
+        if (result instanceof String decimal) {
+            return ResponseEntity.ok()
+                .contentType(new MediaType(MediaType.TEXT_PLAIN, StandardCharsets.US_ASCII))
+                .body(decimal);
+        }
+        if (result != null) {
+            return ResponseEntity.ok(result);
+        }
+        return exerciseJobService.getJob(id)
+            .map(job -> switch (job.getStatus()) {
+                case QUEUED, RUNNING -> ResponseEntity.accepted().body(job);
+                case COMPLETED -> ResponseEntity.status(HttpStatus.GONE).body(job);
+                default -> ResponseEntity.status(HttpStatus.CONFLICT).body(job);
+            })
+            .orElse(ResponseEntity.notFound().build());
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<ExerciseJobDTO> cancel(@PathVariable String id) {
+        return exerciseJobService.cancel(id)
+            .map(ResponseEntity::ok)
+            .orElse(ResponseEntity.notFound().build());
+    }
+}
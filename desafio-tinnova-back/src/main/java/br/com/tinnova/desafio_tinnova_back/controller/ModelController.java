@@ -9,9 +9,10 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
-import br.com.tinnova.desafio_tinnova_back.entity.Model;
-import br.com.tinnova.desafio_tinnova_back.repository.ModelRepository;
+import br.com.tinnova.desafio_tinnova_back.cache.CatalogCache;
+import br.com.tinnova.desafio_tinnova_back.dto.ModelDTO;
 
 @RestController
 @CrossOrigin
@@ -19,27 +20,25 @@ import br.com.tinnova.desafio_tinnova_back.repository.ModelRepository;
 public class ModelController {
     
     @Autowired
-    private ModelRepository modelRepository;
+    private CatalogCache catalogCache;
     
     @GetMapping
-    public List<Model> listAllModels() {
-        return modelRepository.findAllByOrderByNameAsc();
+    public ResponseEntity<List<ModelDTO>> listAllModels(WebRequest request) {
+        return ConditionalResponses.ifModified(request, List.of(CatalogCache.changes()), catalogCache::getModels);
     }
     
     @GetMapping("/{id}")
-    public ResponseEntity<Model> getModelById(@PathVariable Long id) {
-        return modelRepository.findById(id)
-            .map(model -> ResponseEntity.ok().body(model))
-            .orElse(ResponseEntity.notFound().build());
+    public ResponseEntity<ModelDTO> getModelById(@PathVariable Long id, WebRequest request) {
+        return ConditionalResponses.ifModifiedOptional(request, List.of(CatalogCache.changes()), () -> catalogCache.findModel(id));
     }
     
     @GetMapping("/marca/{brandId}")
-    public List<Model> getModelsByBrand(@PathVariable Long brandId) {
-        return modelRepository.findByBrandIdOrderByNameAsc(brandId);
+    public ResponseEntity<List<ModelDTO>> getModelsByBrand(@PathVariable Long brandId, WebRequest request) {
+        return ConditionalResponses.ifModified(request, List.of(CatalogCache.changes()), () -> catalogCache.getModelsByBrand(brandId));
     }
     
     @GetMapping("/com-marca")
-    public List<Model> listModelsWithBrand() {
-        return modelRepository.findAllByOrderByNameAsc();
+    public ResponseEntity<List<ModelDTO>> listModelsWithBrand(WebRequest request) {
+        return ConditionalResponses.ifModified(request, List.of(CatalogCache.changes()), catalogCache::getModels);
     }
 }
@@ -1,9 +1,13 @@
 package br.com.tinnova.desafio_tinnova_back.controller;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
@@ -15,14 +19,26 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import br.com.tinnova.desafio_tinnova_back.cache.CatalogCache;
+import br.com.tinnova.desafio_tinnova_back.cache.VehicleChangeListener;
 import br.com.tinnova.desafio_tinnova_back.dto.VehicleBrandDTO;
 import br.com.tinnova.desafio_tinnova_back.dto.VehicleCreateDTO;
+import br.com.tinnova.desafio_tinnova_back.dto.VehicleFilterDTO;
+import br.com.tinnova.desafio_tinnova_back.dto.VehicleImportResultDTO;
 import br.com.tinnova.desafio_tinnova_back.dto.VehicleModelDTO;
+import br.com.tinnova.desafio_tinnova_back.dto.VehiclePageDTO;
 import br.com.tinnova.desafio_tinnova_back.dto.VehicleResponseDTO;
+import br.com.tinnova.desafio_tinnova_back.dto.VehicleStatisticsDTO;
 import br.com.tinnova.desafio_tinnova_back.dto.VehicleUpdateDTO;
 import br.com.tinnova.desafio_tinnova_back.entity.Vehicle;
+import br.com.tinnova.desafio_tinnova_back.service.VehicleExportService;
+import br.com.tinnova.desafio_tinnova_back.service.VehicleExportService.ExportFormat;
+import br.com.tinnova.desafio_tinnova_back.service.VehicleImportService;
 import br.com.tinnova.desafio_tinnova_back.service.VehicleService;
 
 
@@ -34,9 +50,56 @@ public class VehicleController {
     @Autowired
     private VehicleService vehicleService;
 
+    @Autowired
+    private VehicleExportService vehicleExportService;
+
+    @Autowired
+    private VehicleImportService vehicleImportService;
+
     @GetMapping
-    public List<VehicleResponseDTO> listAll() {
-        return vehicleService.listAllVehiclesWithDetails();
+    public ResponseEntity<List<VehicleResponseDTO>> listAll(WebRequest request) {
+        // A listagem traz nomes de marca e modelo: muda com escritas em veículos e no catálogo
+        return ConditionalResponses.ifModified(request,
+            List.of(VehicleChangeListener.changes(), CatalogCache.changes()),
+            vehicleService::listAllVehiclesWithDetails);
+    }
+
+    @GetMapping("/paginado")
+    public ResponseEntity<VehiclePageDTO> listPage(@RequestParam(required = false) Long cursor,
+                                                   @RequestParam(required = false) Integer size,
+                                                   VehicleFilterDTO filter) {
+        VehiclePageDTO page = vehicleService.listVehiclesPage(cursor, size, filter);
+        return ResponseEntity.ok(page);
+    }
+
+    @GetMapping("/busca")
+    public ResponseEntity<List<VehicleResponseDTO>> search(@RequestParam(required = false) String plate,
+                                                           @RequestParam(required = false) String q,
+                                                           @RequestParam(required = false) Integer limit,
+                                                           VehicleFilterDTO filter) {
+        return ResponseEntity.ok(vehicleService.searchVehicles(plate, q, filter, limit));
+    }
+
+    @GetMapping("/estatisticas")
+    public ResponseEntity<VehicleStatisticsDTO> getStatistics() {
+        return ResponseEntity.ok(vehicleService.getStatistics());
+    }
+
+    @GetMapping("/exportar")
+    public ResponseEntity<StreamingResponseBody> export(@RequestParam(defaultValue = "ndjson") String format,
+                                                        VehicleFilterDTO filter) {
+        ExportFormat exportFormat = ExportFormat.fromString(format);
+        MediaType contentType = exportFormat == ExportFormat.CSV
+            ? new MediaType("text", "csv", StandardCharsets.UTF_8)
+            : MediaType.APPLICATION_NDJSON;
+        String fileName = "veiculos." + exportFormat.name().toLowerCase();
+
+        StreamingResponseBody body = out -> vehicleExportService.export(exportFormat, filter, out);
+
+        return ResponseEntity.ok()
+            .contentType(contentType)
+            .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
+            .body(body);
     }
 
     @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
@@ -45,12 +108,26 @@ public class VehicleController {
         return ResponseEntity.ok(createdVehicle);
     }
 
+    @PostMapping(value = "/importar", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<VehicleImportResultDTO> importJson(InputStream body) throws IOException {
+        return ResponseEntity.ok(vehicleImportService.importJson(body));
+    }
+
+    @PostMapping(value = "/importar", consumes = "text/csv", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<VehicleImportResultDTO> importCsv(InputStream body) throws IOException {
+        return ResponseEntity.ok(vehicleImportService.importCsv(body));
+    }
+
     @PutMapping(value = "/{id}", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
     public ResponseEntity<Vehicle> updateVehicle(@PathVariable Long id, @RequestBody VehicleUpdateDTO vehicleDTO) {
         Vehicle updatedVehicle = vehicleService.updateVehicle(id, vehicleDTO);
         return ResponseEntity.ok(updatedVehicle);
     }
 
+    /**
+     * Atualização parcial em um único UPDATE; o veículo atualizado é relido para a resposta.
+     * Sem campos a alterar, devolve o veículo como está. Se a versão informada no corpo não for mais a atual, responde 409.
+     */
     @PatchMapping(value = "/{id}", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
     public ResponseEntity<Vehicle> partialUpdateVehicle(@PathVariable Long id, @RequestBody VehicleUpdateDTO vehicleDTO) {
         Vehicle updatedVehicle = vehicleService.partialUpdateVehicle(id, vehicleDTO);
@@ -65,15 +142,14 @@ public class VehicleController {
 
     // Endpoints para marcas e modelos
     @GetMapping("/marcas")
-    public ResponseEntity<List<VehicleBrandDTO>> getAllBrands() {
-        List<VehicleBrandDTO> brands = vehicleService.getAllBrands();
-        return ResponseEntity.ok(brands);
+    public ResponseEntity<List<VehicleBrandDTO>> getAllBrands(WebRequest request) {
+        return ConditionalResponses.ifModified(request, List.of(CatalogCache.changes()), vehicleService::getAllBrands);
     }
 
     @GetMapping("/marcas/{brandId}/modelos")
-    public ResponseEntity<List<VehicleModelDTO>> getModelsByBrand(@PathVariable String brandId) {
-        List<VehicleModelDTO> models = vehicleService.getModelsByBrand(brandId);
-        return ResponseEntity.ok(models);
+    public ResponseEntity<List<VehicleModelDTO>> getModelsByBrand(@PathVariable String brandId, WebRequest request) {
+        return ConditionalResponses.ifModified(request, List.of(CatalogCache.changes()),
+            () -> vehicleService.getModelsByBrand(brandId));
     }
 
     @GetMapping("/marcas/{brandId}")
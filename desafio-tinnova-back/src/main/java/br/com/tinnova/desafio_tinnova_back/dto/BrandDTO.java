@@ -0,0 +1,12 @@
+package br.com.tinnova.desafio_tinnova_back.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.Value;
+
+@Value
+public class BrandDTO {
+    Long id;
+    String name;
+    LocalDateTime createdAt;
+}
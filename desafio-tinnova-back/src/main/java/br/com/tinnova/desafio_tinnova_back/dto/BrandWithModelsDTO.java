@@ -0,0 +1,14 @@
+package br.com.tinnova.desafio_tinnova_back.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import lombok.Value;
+
+@Value
+public class BrandWithModelsDTO {
+    Long id;
+    String name;
+    LocalDateTime createdAt;
+    List<ModelDTO> models;
+}
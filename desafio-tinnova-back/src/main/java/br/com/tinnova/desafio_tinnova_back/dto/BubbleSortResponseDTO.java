@@ -3,15 +3,17 @@ package br.com.tinnova.desafio_tinnova_back.dto;
 public class BubbleSortResponseDTO {
     private int[] originalArray;
     private int[] sortedArray;
-    private int comparisons;
-    private int swaps;
+    private String algorithm;
+    private long comparisons;
+    private long swaps;
     private double executionTimeMs;
 
     public BubbleSortResponseDTO() {}
 
-    public BubbleSortResponseDTO(int[] originalArray, int[] sortedArray, int comparisons, int swaps, double executionTimeMs) {
+    public BubbleSortResponseDTO(int[] originalArray, int[] sortedArray, String algorithm, long comparisons, long swaps, double executionTimeMs) {
         this.originalArray = originalArray;
         this.sortedArray = sortedArray;
+        this.algorithm = algorithm;
         this.comparisons = comparisons;
         this.swaps = swaps;
         this.executionTimeMs = executionTimeMs;
@@ -33,19 +35,27 @@ public class BubbleSortResponseDTO {
         this.sortedArray = sortedArray;
     }
 
-    public int getComparisons() {
+    public String getAlgorithm() {
+        return algorithm;
+    }
+
+    public void setAlgorithm(String algorithm) {
+        this.algorithm = algorithm;
+    }
+
+    public long getComparisons() {
         return comparisons;
     }
 
-    public void setComparisons(int comparisons) {
+    public void setComparisons(long comparisons) {
         this.comparisons = comparisons;
     }
 
-    public int getSwaps() {
+    public long getSwaps() {
         return swaps;
     }
 
-    public void setSwaps(int swaps) {
+    public void setSwaps(long swaps) {
         this.swaps = swaps;
     }
 
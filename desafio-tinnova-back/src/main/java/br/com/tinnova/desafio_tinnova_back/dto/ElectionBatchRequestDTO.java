@@ -0,0 +1,21 @@
+package br.com.tinnova.desafio_tinnova_back.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Lote de eleições em formato colunar: a posição i de cada array descreve a eleição i
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ElectionBatchRequestDTO {
+    private int[] voters;
+    private int[] valid;
+    private int[] blank;
+    @JsonProperty("null")
+    private int[] nullVotes;
+}
@@ -0,0 +1,26 @@
+package br.com.tinnova.desafio_tinnova_back.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Percentuais de um lote de eleições em formato colunar, na mesma ordem da requisição,
+ * e os totais agregados do lote
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ElectionBatchResultDTO {
+    private int count;
+    private double[] validVotePercentages;
+    private double[] blankVotePercentages;
+    private double[] nullVotePercentages;
+    private long totalVoters;
+    private long totalValidVotes;
+    private long totalBlankVotes;
+    private long totalNullVotes;
+    private double validVotePercentage;
+    private double blankVotePercentage;
+    private double nullVotePercentage;
+}
@@ -0,0 +1,20 @@
+package br.com.tinnova.desafio_tinnova_back.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ElectionTallyRegionDTO {
+    private String region;
+    private long stations;
+    private long totalVoters;
+    private long totalValidVotes;
+    private long totalBlankVotes;
+    private long totalNullVotes;
+    private double validVotePercentage;
+    private double blankVotePercentage;
+    private double nullVotePercentage;
+}
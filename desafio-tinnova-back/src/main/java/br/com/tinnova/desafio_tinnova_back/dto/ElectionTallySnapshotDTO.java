@@ -0,0 +1,33 @@
+package br.com.tinnova.desafio_tinnova_back.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Estado de uma apuração: os agregados publicados até o momento, inclusive durante o envio
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ElectionTallySnapshotDTO {
+    private String id;
+    private Status status;
+    private long rowsProcessed;
+    private long rowsRejected;
+    private ElectionTallyRegionDTO national;
+    private List<ElectionTallyRegionDTO> regions;
+    private List<String> errors;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    public enum Status {
+        CREATED,
+        INGESTING,
+        COMPLETED,
+        FAILED
+    }
+}
@@ -0,0 +1,21 @@
+package br.com.tinnova.desafio_tinnova_back.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Estatísticas do cache de resultados dos exercícios desde a subida da aplicação
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExerciseCacheStatsDTO {
+    private long hits;
+    private long misses;
+    private double hitRate;
+    private long evictions;
+    private long entries;
+    // Soma dos tamanhos estimados das entradas, em bytes
+    private long weightBytes;
+}
@@ -0,0 +1,41 @@
+package br.com.tinnova.desafio_tinnova_back.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Estado de um job de exercício; o resultado fica em /api/exercises/jobs/{id}/result
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExerciseJobDTO {
+    private String id;
+    private Type type;
+    private Status status;
+    // Trabalho concluído/total previsto, na unidade do cálculo (passadas do bubble sort, elementos, etapas)
+    private long completed;
+    private long total;
+    private double progress;
+    private boolean cached;
+    private String message;
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+
+    public enum Type {
+        SORT,
+        FACTORIAL
+    }
+
+    public enum Status {
+        QUEUED,
+        RUNNING,
+        COMPLETED,
+        FAILED,
+        CANCELLED
+    }
+}
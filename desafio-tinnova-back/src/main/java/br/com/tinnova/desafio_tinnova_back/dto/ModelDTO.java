@@ -0,0 +1,14 @@
+package br.com.tinnova.desafio_tinnova_back.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.Value;
+
+@Value
+public class ModelDTO {
+    Long id;
+    String name;
+    Long brandId;
+    String brandName;
+    LocalDateTime createdAt;
+}
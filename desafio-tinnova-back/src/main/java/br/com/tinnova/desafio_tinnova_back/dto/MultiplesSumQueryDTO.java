@@ -0,0 +1,16 @@
+package br.com.tinnova.desafio_tinnova_back.dto;
+
+import java.math.BigInteger;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MultiplesSumQueryDTO {
+    private BigInteger limit;
+    private List<Long> divisors;
+}
@@ -0,0 +1,17 @@
+package br.com.tinnova.desafio_tinnova_back.dto;
+
+import java.math.BigInteger;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MultiplesSumResultDTO {
+    private BigInteger limit;
+    private List<Long> divisors;
+    private BigInteger sum;
+}
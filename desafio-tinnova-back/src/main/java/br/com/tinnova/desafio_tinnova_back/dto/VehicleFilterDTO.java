@@ -0,0 +1,16 @@
+package br.com.tinnova.desafio_tinnova_back.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class VehicleFilterDTO {
+    private Long brandId;
+    private Long modelId;
+    private Integer yearFrom;
+    private Integer yearTo;
+    private Boolean isSold;
+}
@@ -0,0 +1,19 @@
+package br.com.tinnova.desafio_tinnova_back.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class VehicleImportResultDTO {
+    private long totalRows;
+    private long imported;
+    private long failed;
+    private double executionTimeMs;
+    private double rowsPerSecond;
+    private List<VehicleImportRowResultDTO> rows;
+}
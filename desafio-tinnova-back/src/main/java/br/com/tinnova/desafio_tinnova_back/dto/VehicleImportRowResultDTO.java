@@ -0,0 +1,21 @@
+package br.com.tinnova.desafio_tinnova_back.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class VehicleImportRowResultDTO {
+    public enum Status {
+        IMPORTED,
+        FAILED
+    }
+
+    private long rowNumber;
+    private String plate;
+    private Status status;
+    private Long vehicleId;
+    private String message;
+}
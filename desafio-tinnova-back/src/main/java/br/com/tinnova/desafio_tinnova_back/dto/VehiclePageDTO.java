@@ -0,0 +1,17 @@
+package br.com.tinnova.desafio_tinnova_back.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class VehiclePageDTO {
+    private List<VehicleResponseDTO> content;
+    private int size;
+    private boolean hasNext;
+    private Long nextCursor;
+}
@@ -0,0 +1,45 @@
+package br.com.tinnova.desafio_tinnova_back.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class VehicleStatisticsDTO {
+    private long total;
+    private long notSold;
+    private long sold;
+    private List<YearCount> byYear;
+    private List<DecadeCount> byDecade;
+    private List<BrandCount> byBrand;
+    private long recentlyRegistered;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class YearCount {
+        private String year;
+        private long count;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class DecadeCount {
+        private int decade;
+        private long count;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BrandCount {
+        private Long brandId;
+        private String brand;
+        private long count;
+    }
+}
@@ -0,0 +1,17 @@
+package br.com.tinnova.desafio_tinnova_back.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.Value;
+
+/**
+ * Estado de um veículo usado pelas estatísticas (marca, ano, vendido, criação) e a versão em que foi lido
+ */
+@Value
+public class VehicleStatisticsStateDTO {
+    Long brandId;
+    Integer year;
+    Boolean isSold;
+    LocalDateTime createdAt;
+    Long version;
+}
@@ -14,4 +14,6 @@ public class VehicleUpdateDTO {
     private Integer year;
     private String description;
     private Boolean isSold;
+    // Versão lida pelo cliente; se informada, a atualização falha com 409 quando o veículo já foi alterado
+    private Long version;
 }
@@ -3,11 +3,15 @@ package br.com.tinnova.desafio_tinnova_back.entity;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import com.fasterxml.jackson.annotation.JsonManagedReference;
 
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
@@ -19,11 +23,16 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import br.com.tinnova.desafio_tinnova_back.cache.CatalogChangeListener;
+import br.com.tinnova.desafio_tinnova_back.config.SecondLevelCacheConfig;
+
 @Entity
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Table(name = "brands")
+@EntityListeners(CatalogChangeListener.class)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.BRAND_REGION)
 public class Brand {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
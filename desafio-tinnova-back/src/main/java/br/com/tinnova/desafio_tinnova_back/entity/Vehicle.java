@@ -6,6 +6,7 @@ import com.fasterxml.jackson.annotation.JsonBackReference;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
@@ -14,19 +15,28 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import br.com.tinnova.desafio_tinnova_back.cache.VehicleChangeListener;
+
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
 @Table(name = "vehicles")
+@EntityListeners(VehicleChangeListener.class)
 public class Vehicle {
+    // Sequência com alocação em blocos de 50: permite ao Hibernate agrupar INSERTs em batch. Com o otimizador
+    // pooled-lo (application.properties) o valor lido é o início do bloco, então um INSERT fora do Hibernate que
+    // usa o DEFAULT nextval da coluna recebe o início de outro bloco e não colide com ids já reservados
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "vehicles_id_seq")
+    @SequenceGenerator(name = "vehicles_id_seq", sequenceName = "vehicles_id_seq", allocationSize = 50)
     @Column(name = "id")
     private Long id;
 
@@ -58,6 +68,11 @@ public class Vehicle {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    // Concorrência otimista: o UPDATE só é aplicado se a versão lida ainda for a do banco
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     @PrePersist
     public void prePersist() {
         this.createdAt = LocalDateTime.now();
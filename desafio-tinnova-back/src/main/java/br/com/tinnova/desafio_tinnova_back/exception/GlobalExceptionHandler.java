@@ -1,10 +1,14 @@
 package br.com.tinnova.desafio_tinnova_back.exception;
 
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
 
 @RestControllerAdvice
 public class GlobalExceptionHandler {
@@ -18,4 +22,28 @@ public class GlobalExceptionHandler {
             )
         );
     }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<Map<String, String>> handleOptimisticLockingFailureException(OptimisticLockingFailureException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(
+            Map.of(
+                "error", "Conflict",
+                "message", "O registro foi alterado por outra requisição; recarregue e tente novamente",
+                "status", "409 Conflict"
+            )
+        );
+    }
+
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<Map<String, String>> handleRejectedExecutionException(RejectedExecutionException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, "1")
+            .body(
+                Map.of(
+                    "error", "Service unavailable",
+                    "message", "Servidor ocupado, tente novamente em instantes",
+                    "status", "503 Service Unavailable"
+                )
+            );
+    }
 }
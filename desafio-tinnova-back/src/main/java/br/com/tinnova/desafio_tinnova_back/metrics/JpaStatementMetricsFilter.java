@@ -0,0 +1,122 @@
+package br.com.tinnova.desafio_tinnova_back.metrics;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Locale;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+/**
+ * Registra quantos comandos SQL cada requisição executou (jpa.statements.per.request), por método e rota.
+ * Conta apenas o que roda na thread da requisição; o corpo de respostas em streaming não entra na conta.
+ * Com app.sql.debug-header=true também devolve a contagem e o tempo no banco nos cabeçalhos
+ * X-SQL-Statement-Count e X-SQL-Time-Ms, com os valores do momento em que a resposta começa a ser escrita.
+ */
+@Component
+public class JpaStatementMetricsFilter extends OncePerRequestFilter {
+    public static final String METRIC_NAME = "jpa.statements.per.request";
+    public static final String STATEMENT_COUNT_HEADER = "X-SQL-Statement-Count";
+    public static final String SQL_TIME_HEADER = "X-SQL-Time-Ms";
+
+    private final MeterRegistry meterRegistry;
+    private final boolean debugHeader;
+
+    public JpaStatementMetricsFilter(MeterRegistry meterRegistry, @Value("${app.sql.debug-header:false}") boolean debugHeader) {
+        this.meterRegistry = meterRegistry;
+        this.debugHeader = debugHeader;
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        SqlRequestStats.begin(request.getMethod() + " " + request.getRequestURI());
+        SqlDebugHeaderResponse debugResponse = debugHeader ? new SqlDebugHeaderResponse(response) : null;
+        try {
+            filterChain.doFilter(request, debugResponse != null ? debugResponse : response);
+        } finally {
+            if (debugResponse != null) {
+                debugResponse.writeHeaders();
+            }
+            long statements = SqlRequestStats.end();
+            // Rota do mapeamento (/api/veiculos/{id}) em vez da URI, para não criar uma série por id
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            DistributionSummary.builder(METRIC_NAME)
+                .description("Comandos SQL executados por requisição HTTP")
+                .tag("method", request.getMethod())
+                .tag("uri", pattern != null ? pattern.toString() : "UNKNOWN")
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(statements);
+        }
+    }
+
+    /**
+     * Acrescenta os cabeçalhos de depuração imediatamente antes de a resposta ser confirmada,
+     * sem bufferizar o corpo (respostas grandes e em streaming continuam sendo escritas direto)
+     */
+    private static final class SqlDebugHeaderResponse extends HttpServletResponseWrapper {
+        private boolean headersWritten;
+
+        private SqlDebugHeaderResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        void writeHeaders() {
+            if (headersWritten || isCommitted()) {
+                return;
+            }
+            headersWritten = true;
+            setHeader(STATEMENT_COUNT_HEADER, Long.toString(SqlRequestStats.statements()));
+            setHeader(SQL_TIME_HEADER, String.format(Locale.ROOT, "%.3f", SqlRequestStats.elapsedNanos() / 1_000_000.0));
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            writeHeaders();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            writeHeaders();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            writeHeaders();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            writeHeaders();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            writeHeaders();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            writeHeaders();
+            super.sendRedirect(location);
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package br.com.tinnova.desafio_tinnova_back.metrics;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+/**
+ * Observa cada execução no DataSource (via datasource-proxy), no lugar do log de SQL do Hibernate:
+ * conta os comandos da requisição atual (SqlRequestStats), registra o tempo em um histograma por
+ * assinatura da consulta (jdbc.query) e escreve no logger "sql.slow" apenas as execuções acima do limite.
+ *
+ * A assinatura é o SQL normalizado (literais e listas de IN/VALUES colapsados), identificado pelo hash;
+ * a quantidade de assinaturas é limitada e o excedente vai para "other", para não multiplicar as séries.
+ * Os parâmetros nunca são registrados.
+ */
+public class SqlQueryListener implements QueryExecutionListener {
+    public static final String METRIC_NAME = "jdbc.query";
+    public static final String SLOW_QUERY_LOGGER = "sql.slow";
+    static final String OTHER = "other";
+
+    private static final Logger SLOW_QUERY_LOG = LoggerFactory.getLogger(SLOW_QUERY_LOGGER);
+    private static final String START_NANOS = SqlQueryListener.class.getName() + ".start";
+    private static final int MAX_LOGGED_SQL_LENGTH = 2_000;
+
+    private static final Pattern COMMENTS = Pattern.compile("/\\*.*?\\*/", Pattern.DOTALL);
+    private static final Pattern STRING_LITERALS = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERALS = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern IN_LISTS = Pattern.compile("(?i)\\bin \\(\\?(?: ?, ?\\?)+\\)");
+    private static final Pattern VALUES_ROWS = Pattern.compile("(\\(\\?(?: ?, ?\\?)*\\))(?: ?, ?\\1)+");
+
+    private final Supplier<MeterRegistry> meterRegistrySupplier;
+    private final long slowQueryThresholdNanos;
+    private final int maxSignatures;
+    // SQL original -> assinatura, para normalizar cada comando uma única vez
+    private final Map<String, Signature> bySql = new ConcurrentHashMap<>();
+    // SQL normalizado -> assinatura, limitado a maxSignatures
+    private final Map<String, Signature> byNormalizedSql = new ConcurrentHashMap<>();
+    private volatile MeterRegistry meterRegistry;
+    private volatile Signature other;
+
+    /**
+     * @param meterRegistrySupplier Resolvido na primeira execução, já que o DataSource é criado antes do registry
+     * @param slowQueryThreshold Execuções com duração igual ou maior vão para o log de consultas lentas
+     * @param maxSignatures Quantidade máxima de assinaturas com série própria
+     */
+    public SqlQueryListener(Supplier<MeterRegistry> meterRegistrySupplier, Duration slowQueryThreshold, int maxSignatures) {
+        this.meterRegistrySupplier = meterRegistrySupplier;
+        this.slowQueryThresholdNanos = slowQueryThreshold.toNanos();
+        this.maxSignatures = maxSignatures;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        execInfo.addCustomValue(START_NANOS, System.nanoTime());
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        Long start = execInfo.getCustomValue(START_NANOS, Long.class);
+        long elapsedNanos = start != null ? System.nanoTime() - start : TimeUnit.MILLISECONDS.toNanos(execInfo.getElapsedTime());
+        String sql = queryInfoList.isEmpty() ? "" : queryInfoList.get(0).getQuery();
+
+        SqlRequestStats.record(elapsedNanos);
+        Signature signature = signatureOf(sql);
+        signature.timer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        if (elapsedNanos >= slowQueryThresholdNanos) {
+            logSlowQuery(execInfo, queryInfoList, signature, elapsedNanos);
+        }
+    }
+
+    /**
+     * Normaliza o SQL para agrupar execuções da mesma consulta com literais ou quantidades de parâmetros diferentes
+     * @param sql O SQL executado
+     * @return O SQL sem comentários, com espaços colapsados, literais trocados por ? e listas de IN e VALUES reduzidas a um item
+     */
+    static String normalize(String sql) {
+        String normalized = COMMENTS.matcher(sql).replaceAll(" ");
+        normalized = STRING_LITERALS.matcher(normalized).replaceAll("?");
+        normalized = NUMBER_LITERALS.matcher(normalized).replaceAll("?");
+        normalized = WHITESPACE.matcher(normalized).replaceAll(" ").trim();
+        normalized = IN_LISTS.matcher(normalized).replaceAll("in (?)");
+        return VALUES_ROWS.matcher(normalized).replaceAll("$1");
+    }
+
+    /**
+     * @param normalizedSql O SQL normalizado
+     * @return Os primeiros 8 bytes do SHA-256 do SQL normalizado, em hexadecimal
+     */
+    static String signatureId(String normalizedSql) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(normalizedSql.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash, 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
+    }
+
+    static String operationOf(String normalizedSql) {
+        int end = normalizedSql.indexOf(' ');
+        String keyword = (end < 0 ? normalizedSql : normalizedSql.substring(0, end)).toLowerCase(Locale.ROOT);
+        return switch (keyword) {
+            case "select", "with", "insert", "update", "delete", "merge", "call" -> keyword;
+            default -> OTHER;
+        };
+    }
+
+    private Signature signatureOf(String sql) {
+        Signature signature = bySql.get(sql);
+        if (signature != null) {
+            return signature;
+        }
+        String normalized = normalize(sql);
+        signature = byNormalizedSql.get(normalized);
+        if (signature == null) {
+            signature = byNormalizedSql.size() < maxSignatures
+                ? byNormalizedSql.computeIfAbsent(normalized, key -> new Signature(signatureId(key), operationOf(key), key, registry()))
+                : other();
+        }
+        // Comandos gerados com literais variáveis não se repetem; o mapa do SQL original também é limitado
+        if (bySql.size() < maxSignatures * 4) {
+            bySql.putIfAbsent(sql, signature);
+        }
+        return signature;
+    }
+
+    private Signature other() {
+        Signature current = other;
+        if (current == null) {
+            synchronized (this) {
+                if (other == null) {
+                    other = new Signature(OTHER, OTHER, OTHER, registry());
+                }
+                current = other;
+            }
+        }
+        return current;
+    }
+
+    private MeterRegistry registry() {
+        MeterRegistry current = meterRegistry;
+        if (current == null) {
+            current = meterRegistrySupplier.get();
+            meterRegistry = current;
+        }
+        return current;
+    }
+
+    private void logSlowQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList, Signature signature, long elapsedNanos) {
+        if (!SLOW_QUERY_LOG.isWarnEnabled()) {
+            return;
+        }
+        String request = SqlRequestStats.request();
+        String sql = signature.sql.length() > MAX_LOGGED_SQL_LENGTH
+            ? signature.sql.substring(0, MAX_LOGGED_SQL_LENGTH) + "..."
+            : signature.sql;
+        SLOW_QUERY_LOG.warn("slow_query elapsed_ms={} signature={} operation={} batch={} batch_size={} queries={} success={} request=\"{}\" sql=\"{}\"",
+            TimeUnit.NANOSECONDS.toMillis(elapsedNanos), signature.id, signature.operation, execInfo.isBatch(),
+            execInfo.getBatchSize(), queryInfoList.size(), execInfo.isSuccess(), request != null ? request : "-",
+            sql.replace("\"", "\\\""));
+    }
+
+    private static final class Signature {
+        private final String id;
+        private final String operation;
+        private final String sql;
+        private final Timer timer;
+
+        private Signature(String id, String operation, String sql, MeterRegistry meterRegistry) {
+            this.id = id;
+            this.operation = operation;
+            this.sql = sql;
+            this.timer = Timer.builder(METRIC_NAME)
+                .description("Tempo de execução dos comandos SQL por assinatura")
+                .tag("operation", operation)
+                .tag("signature", id)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofSeconds(10))
+                .register(meterRegistry);
+        }
+    }
+}
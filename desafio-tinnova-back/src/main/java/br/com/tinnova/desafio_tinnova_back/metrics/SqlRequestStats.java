@@ -0,0 +1,79 @@
+package br.com.tinnova.desafio_tinnova_back.metrics;
+
+/**
+ * Comandos SQL executados e tempo gasto no banco pela thread atual, entre begin() e end().
+ * Alimentado pelo SqlQueryListener a cada execução no DataSource; fora desse intervalo
+ * (tarefas em background, inicialização) não conta nada.
+ */
+public final class SqlRequestStats {
+
+    private static final ThreadLocal<SqlRequestStats> CURRENT = new ThreadLocal<>();
+
+    private final String request;
+    private long statements;
+    private long elapsedNanos;
+
+    private SqlRequestStats(String request) {
+        this.request = request;
+    }
+
+    /**
+     * Inicia a contagem na thread atual
+     */
+    public static void begin() {
+        begin(null);
+    }
+
+    /**
+     * Inicia a contagem na thread atual
+     * @param request Identificação da requisição (método e URI) usada no log de consultas lentas
+     */
+    public static void begin(String request) {
+        CURRENT.set(new SqlRequestStats(request));
+    }
+
+    /**
+     * Registra uma execução na contagem da thread atual, se houver
+     */
+    static void record(long elapsedNanos) {
+        SqlRequestStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.statements++;
+            stats.elapsedNanos += elapsedNanos;
+        }
+    }
+
+    /**
+     * @return A quantidade de comandos na thread atual desde begin(), sem encerrar a contagem
+     */
+    public static long statements() {
+        SqlRequestStats stats = CURRENT.get();
+        return stats == null ? 0 : stats.statements;
+    }
+
+    /**
+     * @return O tempo total de execução no banco na thread atual desde begin(), em nanossegundos
+     */
+    public static long elapsedNanos() {
+        SqlRequestStats stats = CURRENT.get();
+        return stats == null ? 0 : stats.elapsedNanos;
+    }
+
+    /**
+     * @return A requisição informada em begin(), ou null fora de uma requisição
+     */
+    static String request() {
+        SqlRequestStats stats = CURRENT.get();
+        return stats == null ? null : stats.request;
+    }
+
+    /**
+     * Encerra a contagem na thread atual
+     * @return A quantidade de comandos desde begin()
+     */
+    public static long end() {
+        long statements = statements();
+        CURRENT.remove();
+        return statements;
+    }
+}
@@ -3,9 +3,15 @@ package br.com.tinnova.desafio_tinnova_back.repository;
 import java.util.List;
 import java.util.Optional;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.QueryHint;
+
+import br.com.tinnova.desafio_tinnova_back.dto.BrandDTO;
 import br.com.tinnova.desafio_tinnova_back.entity.Brand;
 
 @Repository
@@ -13,7 +19,15 @@ public interface BrandRepository extends JpaRepository<Brand, Long> {
     
     Optional<Brand> findByName(String name);
     
+    // Consultas do catálogo no cache de consultas do Hibernate (ver SecondLevelCacheConfig)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Brand> findAllByOrderByNameAsc();
+
+    // Projeção direta em DTO: só as colunas devolvidas pela API, sem hidratar entidades nem coleções
+    @Query("SELECT new br.com.tinnova.desafio_tinnova_back.dto.BrandDTO(b.id, b.name, b.createdAt) " +
+           "FROM Brand b ORDER BY b.name")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<BrandDTO> findAllProjectedByOrderByNameAsc();
     
     boolean existsByName(String name);
 }
@@ -3,23 +3,42 @@ package br.com.tinnova.desafio_tinnova_back.repository;
 import java.util.List;
 import java.util.Optional;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.QueryHint;
+
+import br.com.tinnova.desafio_tinnova_back.dto.ModelDTO;
 import br.com.tinnova.desafio_tinnova_back.entity.Model;
 
 @Repository
 public interface ModelRepository extends JpaRepository<Model, Long> {
     
+    // Consultas do catálogo no cache de consultas do Hibernate (ver SecondLevelCacheConfig)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Model> findByBrandIdOrderByNameAsc(Long brandId);
     
     Optional<Model> findByNameAndBrandId(String name, Long brandId);
     
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Model> findAllByOrderByNameAsc();
+
+    @Query("SELECT m FROM Model m JOIN FETCH m.brand ORDER BY m.name")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<Model> findAllWithBrandOrderByNameAsc();
+
+    // Modelos com o nome da marca em uma única consulta, projetados direto em DTO
+    @Query("SELECT new br.com.tinnova.desafio_tinnova_back.dto.ModelDTO(m.id, m.name, b.id, b.name, m.createdAt) " +
+           "FROM Model m JOIN m.brand b ORDER BY m.name")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<ModelDTO> findAllProjectedWithBrandOrderByNameAsc();
     
     @Query("SELECT m FROM Model m WHERE m.brand.id = :brandId ORDER BY m.name")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Model> findByBrandId(@Param("brandId") Long brandId);
     
     boolean existsByNameAndBrandId(String name, Long brandId);
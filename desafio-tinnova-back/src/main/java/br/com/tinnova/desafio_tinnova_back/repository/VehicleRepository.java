@@ -1,17 +1,76 @@
 package br.com.tinnova.desafio_tinnova_back.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
+import br.com.tinnova.desafio_tinnova_back.dto.VehicleResponseDTO;
+import br.com.tinnova.desafio_tinnova_back.dto.VehicleStatisticsStateDTO;
 import br.com.tinnova.desafio_tinnova_back.entity.Vehicle;
 
 @Repository
-public interface VehicleRepository extends JpaRepository<Vehicle, Long> {
+public interface VehicleRepository extends JpaRepository<Vehicle, Long>, VehicleSearchRepository, VehicleUpdateRepository {
 
     @Query("SELECT v FROM Vehicle v JOIN FETCH v.brand JOIN FETCH v.model")
     List<Vehicle> findAllWithBrandAndModel();
 
+    // Leitura somente-avante para exportação: o driver busca as linhas em blocos (fetch size)
+    @Query("SELECT new br.com.tinnova.desafio_tinnova_back.dto.VehicleResponseDTO(" +
+           "v.id, v.plate, b.id, b.name, m.id, m.name, v.year, v.description, v.isSold, v.createdAt, v.updatedAt) " +
+           "FROM Vehicle v JOIN v.brand b JOIN v.model m " +
+           "WHERE (:brandId IS NULL OR b.id = :brandId) " +
+           "AND (:modelId IS NULL OR m.id = :modelId) " +
+           "AND (:yearFrom IS NULL OR v.year >= :yearFrom) " +
+           "AND (:yearTo IS NULL OR v.year <= :yearTo) " +
+           "AND (:isSold IS NULL OR v.isSold = :isSold) " +
+           "ORDER BY v.id ASC")
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<VehicleResponseDTO> streamForExport(@Param("brandId") Long brandId,
+                                               @Param("modelId") Long modelId,
+                                               @Param("yearFrom") Integer yearFrom,
+                                               @Param("yearTo") Integer yearTo,
+                                               @Param("isSold") Boolean isSold);
+
+    @Query("SELECT v.plate FROM Vehicle v WHERE v.plate IN :plates")
+    List<String> findExistingPlates(@Param("plates") Collection<String> plates);
+
+    // Agregações usadas apenas para inicializar os contadores de estatísticas
+    long countByIsSoldTrue();
+
+    @Query("SELECT v.brand.id, COUNT(v) FROM Vehicle v GROUP BY v.brand.id")
+    List<Object[]> countGroupedByBrand();
+
+    @Query("SELECT v.year, COUNT(v) FROM Vehicle v GROUP BY v.year")
+    List<Object[]> countGroupedByYear();
+
+    @Query("SELECT v.createdAt FROM Vehicle v WHERE v.createdAt >= :since")
+    List<LocalDateTime> findCreatedAtSince(@Param("since") LocalDateTime since);
+
+    // Estado usado pelas estatísticas (marca, ano, vendido, criação) e versão, sem hidratar a entidade
+    @Query("SELECT new br.com.tinnova.desafio_tinnova_back.dto.VehicleStatisticsStateDTO(" +
+           "v.brand.id, v.year, v.isSold, v.createdAt, v.version) FROM Vehicle v WHERE v.id = :id")
+    Optional<VehicleStatisticsStateDTO> findStatisticsStateById(@Param("id") Long id);
+
+    // Mesma leitura com a linha travada até o fim da transação (SELECT ... FOR UPDATE)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT new br.com.tinnova.desafio_tinnova_back.dto.VehicleStatisticsStateDTO(" +
+           "v.brand.id, v.year, v.isSold, v.createdAt, v.version) FROM Vehicle v WHERE v.id = :id")
+    Optional<VehicleStatisticsStateDTO> findStatisticsStateByIdForUpdate(@Param("id") Long id);
+
 }
@@ -0,0 +1,29 @@
+package br.com.tinnova.desafio_tinnova_back.repository;
+
+import java.util.List;
+
+import br.com.tinnova.desafio_tinnova_back.dto.VehicleFilterDTO;
+import br.com.tinnova.desafio_tinnova_back.dto.VehicleResponseDTO;
+
+/**
+ * Busca de veículos com SQL montado apenas com os filtros informados,
+ * para que o planejador use o índice adequado a cada combinação
+ */
+public interface VehicleSearchRepository {
+
+    /**
+     * @param platePrefix Prefixo da placa já normalizado (maiúsculas, apenas A-Z, 0-9 e '-'), ou null
+     * @param text Termos buscados na descrição, ou null
+     * @param filter Filtros de marca, modelo, faixa de ano e status de venda
+     * @param limit Quantidade máxima de resultados
+     */
+    List<VehicleResponseDTO> search(String platePrefix, String text, VehicleFilterDTO filter, int limit);
+
+    /**
+     * Página de uma listagem por cursor (keyset) em ordem de id (que não é a ordem de criação)
+     * @param cursor Id do último veículo da página anterior, ou null para a primeira página
+     * @param filter Filtros de marca, modelo, faixa de ano e status de venda
+     * @param limit Quantidade máxima de resultados
+     */
+    List<VehicleResponseDTO> findPageAfterCursor(Long cursor, VehicleFilterDTO filter, int limit);
+}
@@ -0,0 +1,154 @@
+package br.com.tinnova.desafio_tinnova_back.repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.hibernate.query.NativeQuery;
+import org.springframework.beans.factory.annotation.Value;
+
+import br.com.tinnova.desafio_tinnova_back.dto.VehicleFilterDTO;
+import br.com.tinnova.desafio_tinnova_back.dto.VehicleResponseDTO;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+
+/**
+ * Implementação de {@link VehicleSearchRepository}.
+ * No PostgreSQL o texto usa full-text search (índice GIN sobre to_tsvector('portuguese', description));
+ * nos demais bancos (H2 nos testes) cai para LIKE sem diferenciar maiúsculas.
+ */
+public class VehicleSearchRepositoryImpl implements VehicleSearchRepository {
+    static final String TEXT_SEARCH_CONFIG = "portuguese";
+
+    private static final String SELECT_RESPONSE =
+        "SELECT v.id, v.plate, b.id AS brand_id, b.name AS brand_name, m.id AS model_id, m.name AS model_name, "
+            + "v.vehicle_year, v.description, v.is_sold, v.created_at, v.updated_at "
+            + "FROM vehicles v JOIN brands b ON b.id = v.brand_id JOIN models m ON m.id = v.model_id WHERE 1 = 1";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final boolean fullTextSearch;
+
+    public VehicleSearchRepositoryImpl(@Value("${spring.jpa.database-platform:}") String databasePlatform) {
+        this.fullTextSearch = databasePlatform.toLowerCase(Locale.ROOT).contains("postgres");
+    }
+
+    @Override
+    public List<VehicleResponseDTO> search(String platePrefix, String text, VehicleFilterDTO filter, int limit) {
+        StringBuilder sql = new StringBuilder(SELECT_RESPONSE);
+        Map<String, Object> params = new LinkedHashMap<>();
+
+        // LIKE com prefixo constante: usa o índice varchar_pattern_ops de plate
+        if (platePrefix != null) {
+            sql.append(" AND v.plate LIKE :platePrefix");
+            params.put("platePrefix", platePrefix + "%");
+        }
+        if (text != null) {
+            if (fullTextSearch) {
+                sql.append(" AND to_tsvector('" + TEXT_SEARCH_CONFIG + "', coalesce(v.description, '')) "
+                    + "@@ plainto_tsquery('" + TEXT_SEARCH_CONFIG + "', :text)");
+                params.put("text", text);
+            } else {
+                sql.append(" AND LOWER(v.description) LIKE :text");
+                params.put("text", "%" + text.toLowerCase(Locale.ROOT) + "%");
+            }
+        }
+        appendFilters(sql, params, filter);
+
+        if (text != null && platePrefix == null && fullTextSearch) {
+            sql.append(" ORDER BY ts_rank(to_tsvector('" + TEXT_SEARCH_CONFIG + "', coalesce(v.description, '')), "
+                + "plainto_tsquery('" + TEXT_SEARCH_CONFIG + "', :text)) DESC, v.id");
+        } else if (platePrefix != null) {
+            // Mesma ordem do índice: o banco para de ler assim que atinge o limite
+            sql.append(" ORDER BY v.plate");
+        } else {
+            sql.append(" ORDER BY v.id");
+        }
+
+        return list(sql, params, limit);
+    }
+
+    @Override
+    public List<VehicleResponseDTO> findPageAfterCursor(Long cursor, VehicleFilterDTO filter, int limit) {
+        StringBuilder sql = new StringBuilder(SELECT_RESPONSE);
+        Map<String, Object> params = new LinkedHashMap<>();
+
+        // Só os filtros informados entram no SQL: com plano genérico (prepareThreshold) um "(:x IS NULL OR ...)"
+        // impediria o uso dos índices compostos de filtro + id
+        if (cursor != null) {
+            sql.append(" AND v.id > :cursor");
+            params.put("cursor", cursor);
+        }
+        appendFilters(sql, params, filter);
+        sql.append(" ORDER BY v.id");
+
+        return list(sql, params, limit);
+    }
+
+    private static void appendFilters(StringBuilder sql, Map<String, Object> params, VehicleFilterDTO filter) {
+        if (filter.getBrandId() != null) {
+            sql.append(" AND v.brand_id = :brandId");
+            params.put("brandId", filter.getBrandId());
+        }
+        if (filter.getModelId() != null) {
+            sql.append(" AND v.model_id = :modelId");
+            params.put("modelId", filter.getModelId());
+        }
+        if (filter.getYearFrom() != null) {
+            sql.append(" AND v.vehicle_year >= :yearFrom");
+            params.put("yearFrom", filter.getYearFrom());
+        }
+        if (filter.getYearTo() != null) {
+            sql.append(" AND v.vehicle_year <= :yearTo");
+            params.put("yearTo", filter.getYearTo());
+        }
+        if (filter.getIsSold() != null) {
+            sql.append(" AND v.is_sold = :isSold");
+            params.put("isSold", filter.getIsSold());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<VehicleResponseDTO> list(StringBuilder sql, Map<String, Object> params, int limit) {
+        Query query = entityManager.createNativeQuery(sql.toString());
+        params.forEach(query::setParameter);
+        query.setMaxResults(limit);
+        query.unwrap(NativeQuery.class)
+            .addScalar("id", Long.class)
+            .addScalar("plate", String.class)
+            .addScalar("brand_id", Long.class)
+            .addScalar("brand_name", String.class)
+            .addScalar("model_id", Long.class)
+            .addScalar("model_name", String.class)
+            .addScalar("vehicle_year", Integer.class)
+            .addScalar("description", String.class)
+            .addScalar("is_sold", Boolean.class)
+            .addScalar("created_at", LocalDateTime.class)
+            .addScalar("updated_at", LocalDateTime.class);
+
+        List<Object[]> rows = query.getResultList();
+        List<VehicleResponseDTO> result = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            result.add(new VehicleResponseDTO(
+                (Long) row[0],
+                (String) row[1],
+                (Long) row[2],
+                (String) row[3],
+                (Long) row[4],
+                (String) row[5],
+                (Integer) row[6],
+                (String) row[7],
+                (Boolean) row[8],
+                (LocalDateTime) row[9],
+                (LocalDateTime) row[10]
+            ));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,29 @@
+package br.com.tinnova.desafio_tinnova_back.repository;
+
+import java.util.Map;
+
+import br.com.tinnova.desafio_tinnova_back.entity.Vehicle;
+
+/**
+ * Atualização parcial de veículos em um único UPDATE, sem carregar a entidade
+ */
+public interface VehicleUpdateRepository {
+
+    /**
+     * Grava apenas as colunas informadas, atualiza updatedAt e incrementa a versão
+     * @param id O id do veículo
+     * @param expectedVersion A versão esperada no banco, ou null para não conferir
+     * @param changes Novos valores por atributo da entidade Vehicle (plate, brand, model, year, description, isSold);
+     *                marca e modelo como referências (getReferenceById)
+     * @return A quantidade de linhas atualizadas: 0 se o veículo não existe ou a versão não confere
+     */
+    int partialUpdate(Long id, Long expectedVersion, Map<String, Object> changes);
+
+    /**
+     * Relê o veículo do banco depois de um partialUpdate, inclusive se ele já estava carregado no contexto de
+     * persistência (o UPDATE em massa não altera essa instância)
+     * @param id O id de um veículo existente
+     * @return O veículo com os valores gravados
+     */
+    Vehicle reload(Long id);
+}
@@ -0,0 +1,55 @@
+package br.com.tinnova.desafio_tinnova_back.repository;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import org.hibernate.Hibernate;
+
+import br.com.tinnova.desafio_tinnova_back.cache.VehicleChangeListener;
+import br.com.tinnova.desafio_tinnova_back.entity.Vehicle;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+/**
+ * Implementação de {@link VehicleUpdateRepository} com CriteriaUpdate.
+ * O UPDATE em massa não passa pelos callbacks da entidade (@PreUpdate, VehicleChangeListener),
+ * então updatedAt, a versão e o contador de alterações dos veículos são tratados aqui.
+ */
+public class VehicleUpdateRepositoryImpl implements VehicleUpdateRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public int partialUpdate(Long id, Long expectedVersion, Map<String, Object> changes) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Vehicle> update = cb.createCriteriaUpdate(Vehicle.class);
+        Root<Vehicle> root = update.from(Vehicle.class);
+
+        changes.forEach((attribute, value) -> update.set(root.<Object>get(attribute), value));
+        update.set(root.<LocalDateTime>get("updatedAt"), LocalDateTime.now());
+        update.set(root.<Long>get("version"), cb.sum(root.<Long>get("version"), 1L));
+
+        Predicate byId = cb.equal(root.get("id"), id);
+        update.where(expectedVersion == null ? byId : cb.and(byId, cb.equal(root.get("version"), expectedVersion)));
+
+        int updated = entityManager.createQuery(update).executeUpdate();
+        if (updated > 0) {
+            VehicleChangeListener.markChanged();
+        }
+        return updated;
+    }
+
+    @Override
+    public Vehicle reload(Long id) {
+        // getReference devolve a instância já carregada, se houver; refresh a relê com um único SELECT
+        Vehicle vehicle = entityManager.getReference(Vehicle.class, id);
+        entityManager.refresh(vehicle);
+        return Hibernate.unproxy(vehicle, Vehicle.class);
+    }
+}
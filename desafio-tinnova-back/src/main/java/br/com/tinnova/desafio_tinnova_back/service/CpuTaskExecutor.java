@@ -0,0 +1,63 @@
+package br.com.tinnova.desafio_tinnova_back.service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Pool limitado de threads de plataforma para o trabalho de CPU dos exercícios (ordenação, fatorial,
+ * lotes de eleições). As requisições entregam o cálculo ao pool e liberam a thread do Tomcat (ou a
+ * virtual thread) enquanto esperam; com a fila cheia a tarefa é recusada em vez de acumular.
+ * Não é exposto como Executor para não substituir o executor padrão do Spring.
+ */
+@Component
+public class CpuTaskExecutor {
+    private final ThreadPoolExecutor pool;
+    private final ExecutorService executor;
+
+    public CpuTaskExecutor(@Value("${app.cpu-executor.pool-size:0}") int poolSize,
+                           @Value("${app.cpu-executor.queue-capacity:100}") int queueCapacity,
+                           MeterRegistry meterRegistry) {
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        AtomicInteger sequence = new AtomicInteger();
+        this.pool = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            runnable -> {
+                Thread thread = new Thread(runnable, "cpu-task-" + sequence.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        this.executor = ExecutorServiceMetrics.monitor(meterRegistry, pool, "cpu-task");
+    }
+
+    /**
+     * Agenda o cálculo no pool
+     * @param task O cálculo
+     * @return O resultado assíncrono; falhas do cálculo completam o future com a exceção original
+     * @throws RejectedExecutionException se o pool e a fila estiverem cheios
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        return CompletableFuture.supplyAsync(task, executor);
+    }
+
+    int queueSize() {
+        return pool.getQueue().size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+}
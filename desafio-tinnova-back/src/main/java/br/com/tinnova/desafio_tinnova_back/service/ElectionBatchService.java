@@ -0,0 +1,143 @@
+package br.com.tinnova.desafio_tinnova_back.service;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import org.springframework.stereotype.Service;
+
+import br.com.tinnova.desafio_tinnova_back.dto.ElectionBatchRequestDTO;
+import br.com.tinnova.desafio_tinnova_back.dto.ElectionBatchResultDTO;
+
+/**
+ * Percentuais de votos para lotes de eleições (por exemplo, uma por seção eleitoral).
+ * Entrada e saída são colunares (um array por campo), então o cálculo é um laço sobre primitivos
+ * sem um objeto por eleição; lotes grandes são divididos em blocos no ForkJoinPool, e cada bloco
+ * devolve seus totais parciais, somados na junção.
+ */
+@Service
+public class ElectionBatchService {
+    public static final int MAX_BATCH_SIZE = 1_000_000;
+
+    static final int PARALLEL_THRESHOLD = 1 << 15;
+    static final int PARALLEL_LEAF_SIZE = 1 << 13;
+
+    /**
+     * Calcula os percentuais de cada eleição do lote e os do lote agregado
+     * @param batch As eleições em formato colunar (arrays do mesmo tamanho)
+     * @return Os percentuais na mesma ordem da entrada e os totais
+     */
+    public ElectionBatchResultDTO calculateElectionPercentages(ElectionBatchRequestDTO batch) {
+        if (batch == null || batch.getVoters() == null || batch.getValid() == null
+                || batch.getBlank() == null || batch.getNullVotes() == null) {
+            throw new IllegalArgumentException("Dados da eleição inválidos");
+        }
+        int count = batch.getVoters().length;
+        if (count == 0) {
+            throw new IllegalArgumentException("Lote de eleições não pode ser vazio");
+        }
+        if (count > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("Máximo de " + MAX_BATCH_SIZE + " eleições por requisição");
+        }
+        if (batch.getValid().length != count || batch.getBlank().length != count || batch.getNullVotes().length != count) {
+            throw new IllegalArgumentException("Os arrays do lote devem ter o mesmo tamanho");
+        }
+
+        ElectionBatchResultDTO result = new ElectionBatchResultDTO();
+        result.setCount(count);
+        result.setValidVotePercentages(new double[count]);
+        result.setBlankVotePercentages(new double[count]);
+        result.setNullVotePercentages(new double[count]);
+
+        Totals totals = count < PARALLEL_THRESHOLD
+            ? compute(batch, result, 0, count)
+            : ForkJoinPool.commonPool().invoke(new PercentageTask(batch, result, 0, count));
+
+        result.setTotalVoters(totals.voters);
+        result.setTotalValidVotes(totals.valid);
+        result.setTotalBlankVotes(totals.blank);
+        result.setTotalNullVotes(totals.nullVotes);
+        result.setValidVotePercentage((double) totals.valid / totals.voters * 100);
+        result.setBlankVotePercentage((double) totals.blank / totals.voters * 100);
+        result.setNullVotePercentage((double) totals.nullVotes / totals.voters * 100);
+        return result;
+    }
+
+    // Mesmas regras e fórmulas de ExerciseService.calculateElectionPercentages, sobre o intervalo [from, to)
+    private static Totals compute(ElectionBatchRequestDTO batch, ElectionBatchResultDTO result, int from, int to) {
+        int[] voters = batch.getVoters();
+        int[] valid = batch.getValid();
+        int[] blank = batch.getBlank();
+        int[] nullVotes = batch.getNullVotes();
+        double[] validPercentages = result.getValidVotePercentages();
+        double[] blankPercentages = result.getBlankVotePercentages();
+        double[] nullPercentages = result.getNullVotePercentages();
+
+        Totals totals = new Totals();
+        for (int i = from; i < to; i++) {
+            int total = voters[i];
+            // Contagens negativas são rejeitadas como na apuração (ElectionTallyService)
+            requireNonNegative(valid[i], "valid", i);
+            requireNonNegative(blank[i], "blank", i);
+            requireNonNegative(nullVotes[i], "null", i);
+            if (!ExerciseService.isValidElection(total, blank[i], nullVotes[i])) {
+                throw new IllegalArgumentException("Dados da eleição inválidos na posição " + i);
+            }
+            validPercentages[i] = (double) valid[i] / total * 100;
+            blankPercentages[i] = (double) blank[i] / total * 100;
+            nullPercentages[i] = (double) nullVotes[i] / total * 100;
+
+            totals.voters += total;
+            totals.valid += valid[i];
+            totals.blank += blank[i];
+            totals.nullVotes += nullVotes[i];
+        }
+        return totals;
+    }
+
+    private static void requireNonNegative(int count, String field, int position) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Valor negativo para " + field + " na posição " + position + ": " + count);
+        }
+    }
+
+    private static final class PercentageTask extends RecursiveTask<Totals> {
+        private final ElectionBatchRequestDTO batch;
+        private final ElectionBatchResultDTO result;
+        private final int from;
+        private final int to;
+
+        private PercentageTask(ElectionBatchRequestDTO batch, ElectionBatchResultDTO result, int from, int to) {
+            this.batch = batch;
+            this.result = result;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Totals compute() {
+            if (to - from <= PARALLEL_LEAF_SIZE) {
+                return ElectionBatchService.compute(batch, result, from, to);
+            }
+            int mid = (from + to) >>> 1;
+            PercentageTask left = new PercentageTask(batch, result, from, mid);
+            left.fork();
+            Totals totals = new PercentageTask(batch, result, mid, to).compute();
+            totals.add(left.join());
+            return totals;
+        }
+    }
+
+    static final class Totals {
+        long voters;
+        long valid;
+        long blank;
+        long nullVotes;
+
+        void add(Totals other) {
+            voters += other.voters;
+            valid += other.valid;
+            blank += other.blank;
+            nullVotes += other.nullVotes;
+        }
+    }
+}
@@ -0,0 +1,445 @@
+package br.com.tinnova.desafio_tinnova_back.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.tinnova.desafio_tinnova_back.dto.ElectionResultDTO;
+import br.com.tinnova.desafio_tinnova_back.dto.ElectionTallyRegionDTO;
+import br.com.tinnova.desafio_tinnova_back.dto.ElectionTallySnapshotDTO;
+import br.com.tinnova.desafio_tinnova_back.dto.ElectionTallySnapshotDTO.Status;
+import br.com.tinnova.desafio_tinnova_back.util.RecordReader;
+import br.com.tinnova.desafio_tinnova_back.util.RecordReader.RecordTooLongException;
+
+/**
+ * Apuração de eleições a partir de boletins por seção (station, region, voters, valid, blank, null)
+ * enviados em CSV ou NDJSON.
+ * O envio é lido registro a registro (de tamanho limitado) e só os totais por região são mantidos, em long,
+ * então a memória depende da quantidade de regiões (limitada a MAX_REGIONS) e não do tamanho do arquivo. A thread que lê
+ * acumula localmente e publica os totais a cada PUBLISH_INTERVAL linhas; as consultas enxergam o
+ * último estado publicado enquanto o envio ainda está em andamento.
+ */
+@Service
+public class ElectionTallyService {
+    public static final int MAX_TALLIES = 64;
+    public static final int MAX_REGIONS = 10_000;
+    public static final String UNKNOWN_REGION = "(sem região)";
+
+    static final int PUBLISH_INTERVAL = 10_000;
+    static final int MAX_ERRORS = 20;
+    static final List<String> CSV_COLUMNS = List.of("station", "region", "voters", "valid", "blank", "null");
+
+    private final ExerciseService exerciseService;
+    private final ObjectMapper objectMapper;
+    private final Map<String, Tally> tallies = new ConcurrentHashMap<>();
+
+    public ElectionTallyService(ExerciseService exerciseService, ObjectMapper objectMapper) {
+        this.exerciseService = exerciseService;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Abre uma nova apuração; quando o limite é atingido, a apuração ociosa mais antiga é descartada
+     * @return O estado inicial, com o id a ser usado nos envios e consultas
+     */
+    public ElectionTallySnapshotDTO create() {
+        synchronized (tallies) {
+            if (tallies.size() >= MAX_TALLIES) {
+                Tally oldest = tallies.values().stream()
+                    .filter(tally -> !tally.ingesting.get())
+                    .min(Comparator.comparing(tally -> tally.updatedAt))
+                    .orElseThrow(() -> new IllegalArgumentException("Limite de " + MAX_TALLIES + " apurações simultâneas atingido"));
+                tallies.remove(oldest.id);
+            }
+            Tally tally = new Tally(UUID.randomUUID().toString());
+            tallies.put(tally.id, tally);
+            return snapshot(tally);
+        }
+    }
+
+    /**
+     * Consulta o estado de uma apuração
+     * @param id O id da apuração
+     * @return Os agregados publicados até o momento, ou vazio se a apuração não existir
+     */
+    public Optional<ElectionTallySnapshotDTO> getSnapshot(String id) {
+        Tally tally = tallies.get(id);
+        return tally == null ? Optional.empty() : Optional.of(snapshot(tally));
+    }
+
+    /**
+     * Soma à apuração os boletins de um CSV com cabeçalho. As colunas reconhecidas são
+     * station, region, voters, valid, blank e null (em qualquer ordem; station e region são opcionais).
+     * @param id O id da apuração
+     * @param input Corpo da requisição em UTF-8; lido registro a registro, com até
+     *              RecordReader.DEFAULT_MAX_RECORD_LENGTH caracteres por registro (registros maiores são rejeitados)
+     * @return O estado da apuração ao fim do envio
+     */
+    public ElectionTallySnapshotDTO ingestCsv(String id, InputStream input) throws IOException {
+        return ingest(id, input, (reader, ingestion) -> {
+            List<String> header = reader.readCsvRecord();
+            if (header == null) {
+                return;
+            }
+
+            Map<String, Integer> columns = new HashMap<>();
+            for (int i = 0; i < header.size(); i++) {
+                columns.put(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+            }
+            if (!columns.containsKey("voters") || !columns.containsKey("valid")
+                    || !columns.containsKey("blank") || !columns.containsKey("null")) {
+                throw new IllegalArgumentException("Cabeçalho do CSV deve conter as colunas " + String.join(",", CSV_COLUMNS));
+            }
+
+            long rowNumber = 0;
+            while (true) {
+                List<String> record;
+                try {
+                    record = reader.readCsvRecord();
+                } catch (RecordTooLongException e) {
+                    ingestion.reject(++rowNumber, null, e.getMessage());
+                    continue;
+                }
+                if (record == null) {
+                    break;
+                }
+                if (record.size() == 1 && record.get(0).isBlank()) {
+                    continue;
+                }
+                rowNumber++;
+                try {
+                    ingestion.add(csvValue(record, columns, "region"),
+                        parseCount(csvValue(record, columns, "voters"), "voters"),
+                        parseCount(csvValue(record, columns, "valid"), "valid"),
+                        parseCount(csvValue(record, columns, "blank"), "blank"),
+                        parseCount(csvValue(record, columns, "null"), "null"));
+                } catch (IllegalArgumentException e) {
+                    ingestion.reject(rowNumber, csvValue(record, columns, "station"), e.getMessage());
+                }
+            }
+        });
+    }
+
+    /**
+     * Soma à apuração os boletins de um NDJSON (um objeto por linha, com os mesmos campos do CSV)
+     * @param id O id da apuração
+     * @param input Corpo da requisição em UTF-8; lido linha a linha, com até RecordReader.DEFAULT_MAX_RECORD_LENGTH
+     *              caracteres por linha (linhas maiores são rejeitadas)
+     * @return O estado da apuração ao fim do envio
+     */
+    public ElectionTallySnapshotDTO ingestNdjson(String id, InputStream input) throws IOException {
+        return ingest(id, input, (reader, ingestion) -> {
+            long rowNumber = 0;
+            while (true) {
+                String line;
+                try {
+                    line = reader.readLine();
+                } catch (RecordTooLongException e) {
+                    ingestion.reject(++rowNumber, null, e.getMessage());
+                    continue;
+                }
+                if (line == null) {
+                    break;
+                }
+                if (line.isBlank()) {
+                    continue;
+                }
+                rowNumber++;
+                JsonNode node;
+                try {
+                    node = objectMapper.readTree(line);
+                } catch (JsonProcessingException e) {
+                    ingestion.reject(rowNumber, null, "JSON inválido: " + e.getOriginalMessage());
+                    continue;
+                }
+                try {
+                    ingestion.add(node.path("region").asText(null),
+                        jsonCount(node, "voters"), jsonCount(node, "valid"), jsonCount(node, "blank"), jsonCount(node, "null"));
+                } catch (IllegalArgumentException e) {
+                    ingestion.reject(rowNumber, node.path("station").asText(null), e.getMessage());
+                }
+            }
+        });
+    }
+
+    private ElectionTallySnapshotDTO ingest(String id, InputStream input, RecordSource source) throws IOException {
+        Tally tally = tallies.get(id);
+        if (tally == null) {
+            throw new IllegalArgumentException("Apuração não encontrada com id: " + id);
+        }
+        if (!tally.ingesting.compareAndSet(false, true)) {
+            throw new IllegalArgumentException("Já existe um envio em andamento para a apuração " + id);
+        }
+
+        Ingestion ingestion = new Ingestion(tally);
+        tally.setStatus(Status.INGESTING);
+        try (RecordReader reader = new RecordReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            source.read(reader, ingestion);
+            ingestion.publish();
+            tally.setStatus(Status.COMPLETED);
+        } catch (IOException | RuntimeException e) {
+            // O que já foi lido continua valendo; um novo envio pode completar a apuração
+            ingestion.publish();
+            tally.setStatus(Status.FAILED);
+            throw e;
+        } finally {
+            tally.ingesting.set(false);
+        }
+        return snapshot(tally);
+    }
+
+    private ElectionTallySnapshotDTO snapshot(Tally tally) {
+        synchronized (tally) {
+            List<ElectionTallyRegionDTO> regions = new ArrayList<>(tally.regions.size());
+            for (Map.Entry<String, Totals> entry : tally.regions.entrySet()) {
+                regions.add(toRegionDTO(entry.getKey(), entry.getValue()));
+            }
+            regions.sort(Comparator.comparing(ElectionTallyRegionDTO::getRegion));
+
+            return new ElectionTallySnapshotDTO(
+                tally.id,
+                tally.status,
+                tally.rowsProcessed,
+                tally.rowsRejected,
+                toRegionDTO(null, tally.national),
+                regions,
+                List.copyOf(tally.errors),
+                tally.createdAt,
+                tally.updatedAt
+            );
+        }
+    }
+
+    private ElectionTallyRegionDTO toRegionDTO(String region, Totals totals) {
+        ElectionTallyRegionDTO dto = new ElectionTallyRegionDTO();
+        dto.setRegion(region);
+        dto.setStations(totals.stations);
+        dto.setTotalVoters(totals.voters);
+        dto.setTotalValidVotes(totals.valid);
+        dto.setTotalBlankVotes(totals.blank);
+        dto.setTotalNullVotes(totals.nullVotes);
+        if (totals.stations > 0) {
+            ElectionResultDTO percentages = exerciseService.calculateElectionPercentages(
+                totals.voters, totals.valid, totals.blank, totals.nullVotes);
+            dto.setValidVotePercentage(percentages.getValidVotePercentage());
+            dto.setBlankVotePercentage(percentages.getBlankVotePercentage());
+            dto.setNullVotePercentage(percentages.getNullVotePercentage());
+        }
+        return dto;
+    }
+
+    private static String csvValue(List<String> record, Map<String, Integer> columns, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= record.size()) {
+            return null;
+        }
+        String value = record.get(index);
+        return value.isEmpty() ? null : value;
+    }
+
+    /**
+     * Cada boletim tem contagens de uma seção, na faixa de int como em Election; só os totais usam long
+     */
+    private static long parseCount(String value, String column) {
+        if (value == null) {
+            throw new IllegalArgumentException("Campo obrigatório ausente: " + column);
+        }
+        int count;
+        try {
+            count = Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Valor inválido para " + column + ": " + value);
+        }
+        return requireNonNegative(count, column);
+    }
+
+    private static long jsonCount(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        if (value == null || value.isNull()) {
+            throw new IllegalArgumentException("Campo obrigatório ausente: " + field);
+        }
+        if (!value.isIntegralNumber() || !value.canConvertToInt()) {
+            throw new IllegalArgumentException("Valor inválido para " + field + ": " + value);
+        }
+        return requireNonNegative(value.intValue(), field);
+    }
+
+    private static long requireNonNegative(int count, String field) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Valor negativo para " + field + ": " + count);
+        }
+        return count;
+    }
+
+    @FunctionalInterface
+    private interface RecordSource {
+        void read(RecordReader reader, Ingestion ingestion) throws IOException;
+    }
+
+    /**
+     * Estado compartilhado de uma apuração; os campos mutáveis são protegidos pelo monitor da própria instância
+     */
+    private static final class Tally {
+        private final String id;
+        private final LocalDateTime createdAt = LocalDateTime.now();
+        private final AtomicBoolean ingesting = new AtomicBoolean();
+        private final Map<String, Totals> regions = new HashMap<>();
+        private final Totals national = new Totals();
+        private final List<String> errors = new ArrayList<>();
+        private volatile LocalDateTime updatedAt = createdAt;
+        private Status status = Status.CREATED;
+        private long rowsProcessed;
+        private long rowsRejected;
+
+        private Tally(String id) {
+            this.id = id;
+        }
+
+        private synchronized void setStatus(Status status) {
+            this.status = status;
+            this.updatedAt = LocalDateTime.now();
+        }
+    }
+
+    /**
+     * Acumulador de um envio, usado só pela thread que lê o corpo da requisição
+     */
+    private static final class Ingestion {
+        private final Tally tally;
+        private final Map<String, Totals> pending = new HashMap<>();
+        private final Totals pendingNational = new Totals();
+        private final List<String> pendingErrors = new ArrayList<>();
+        private long pendingRows;
+        private long pendingRejected;
+
+        private Ingestion(Tally tally) {
+            this.tally = tally;
+        }
+
+        private void add(String region, long voters, long valid, long blank, long nullVotes) {
+            if (!ExerciseService.isValidElection(voters, blank, nullVotes) || valid < 0) {
+                throw new IllegalArgumentException("Dados da eleição inválidos");
+            }
+
+            String key = region == null || region.isBlank() ? UNKNOWN_REGION : region.trim();
+            Totals totals = pending.get(key);
+            if (totals == null) {
+                // Só esta thread altera o mapa publicado, então a leitura sem o monitor é segura aqui
+                if (!tally.regions.containsKey(key) && tally.regions.size() + pending.size() >= MAX_REGIONS) {
+                    throw new IllegalArgumentException("Limite de " + MAX_REGIONS + " regiões atingido");
+                }
+                totals = new Totals();
+                pending.put(key, totals);
+            }
+            // Os totais de uma região nunca passam dos nacionais: se o nacional (publicado + pendente) comporta
+            // a linha, nenhum total estoura ao publicar. A leitura do nacional publicado sem o monitor é segura
+            // pelo mesmo motivo acima
+            try {
+                tally.national.checkRoom(pendingNational, voters, valid, blank, nullVotes);
+            } catch (ArithmeticException e) {
+                throw new IllegalArgumentException("Totais da apuração excedem o limite suportado");
+            }
+            totals.add(voters, valid, blank, nullVotes);
+            pendingNational.add(voters, valid, blank, nullVotes);
+
+            if (++pendingRows + pendingRejected >= PUBLISH_INTERVAL) {
+                publish();
+            }
+        }
+
+        private void reject(long rowNumber, String station, String message) {
+            if (tally.errors.size() + pendingErrors.size() < MAX_ERRORS) {
+                pendingErrors.add("Linha " + rowNumber + (station == null ? "" : " (seção " + station + ")") + ": " + message);
+            }
+            if (pendingRows + ++pendingRejected >= PUBLISH_INTERVAL) {
+                publish();
+            }
+        }
+
+        private void publish() {
+            synchronized (tally) {
+                for (Map.Entry<String, Totals> entry : pending.entrySet()) {
+                    tally.regions.computeIfAbsent(entry.getKey(), key -> new Totals()).add(entry.getValue());
+                    tally.national.add(entry.getValue());
+                }
+                tally.errors.addAll(pendingErrors);
+                tally.rowsProcessed += pendingRows + pendingRejected;
+                tally.rowsRejected += pendingRejected;
+                tally.updatedAt = LocalDateTime.now();
+            }
+            pending.clear();
+            pendingNational.clear();
+            pendingErrors.clear();
+            pendingRows = 0;
+            pendingRejected = 0;
+        }
+    }
+
+    private static final class Totals {
+        private long stations;
+        private long voters;
+        private long valid;
+        private long blank;
+        private long nullVotes;
+
+        /**
+         * @throws ArithmeticException Se algum total estourar; nesse caso nenhum campo é alterado
+         */
+        private void add(long voters, long valid, long blank, long nullVotes) {
+            long newVoters = Math.addExact(this.voters, voters);
+            long newValid = Math.addExact(this.valid, valid);
+            long newBlank = Math.addExact(this.blank, blank);
+            long newNullVotes = Math.addExact(this.nullVotes, nullVotes);
+            this.stations++;
+            this.voters = newVoters;
+            this.valid = newValid;
+            this.blank = newBlank;
+            this.nullVotes = newNullVotes;
+        }
+
+        private void add(Totals other) {
+            stations += other.stations;
+            voters = Math.addExact(voters, other.voters);
+            valid = Math.addExact(valid, other.valid);
+            blank = Math.addExact(blank, other.blank);
+            nullVotes = Math.addExact(nullVotes, other.nullVotes);
+        }
+
+        /**
+         * Confere, sem alterar nada, se estes totais somados aos pendentes e a uma linha cabem em long
+         * @throws ArithmeticException Se algum total estourar
+         */
+        private void checkRoom(Totals pending, long voters, long valid, long blank, long nullVotes) {
+            Math.addExact(Math.addExact(this.voters, pending.voters), voters);
+            Math.addExact(Math.addExact(this.valid, pending.valid), valid);
+            Math.addExact(Math.addExact(this.blank, pending.blank), blank);
+            Math.addExact(Math.addExact(this.nullVotes, pending.nullVotes), nullVotes);
+        }
+
+        private void clear() {
+            stations = 0;
+            voters = 0;
+            valid = 0;
+            blank = 0;
+            nullVotes = 0;
+        }
+    }
+}
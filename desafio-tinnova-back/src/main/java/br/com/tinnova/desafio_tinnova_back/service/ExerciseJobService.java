@@ -0,0 +1,358 @@
+package br.com.tinnova.desafio_tinnova_back.service;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.math.BigInteger;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import br.com.tinnova.desafio_tinnova_back.dto.ExerciseJobDTO;
+import br.com.tinnova.desafio_tinnova_back.dto.ExerciseJobDTO.Status;
+import br.com.tinnova.desafio_tinnova_back.dto.ExerciseJobDTO.Type;
+import br.com.tinnova.desafio_tinnova_back.service.SortingService.Algorithm;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Jobs para os cálculos longos dos exercícios (ordenação de arrays grandes, fatorial grande).
+ * O pedido devolve o id do job na hora e o cálculo roda num pool próprio com fila limitada; o cliente
+ * acompanha o progresso e busca o resultado depois. O cancelamento é cooperativo: o cálculo verifica o
+ * pedido entre passadas/etapas. Resultados ficam somente num cache LRU limitado por quantidade e por bytes,
+ * com chave derivada da entrada (SHA-256 do array na ordenação); o job terminado guarda só estado e
+ * metadados, então um resultado removido do cache deixa de estar disponível. Pedidos idênticos a um job
+ * ainda em andamento recebem esse mesmo job.
+ */
+@Service
+public class ExerciseJobService {
+    // Jobs terminados além deste limite são esquecidos, do mais antigo para o mais novo
+    static final int MAX_JOBS = 1_000;
+    static final String RESULT_NOT_CACHED = "Resultado maior que o limite do cache de resultados; não foi guardado";
+
+    private final ExerciseService exerciseService;
+    private final FactorialService factorialService;
+    private final ThreadPoolExecutor pool;
+    private final ExecutorService executor;
+    private final ResultCache cache;
+
+    // Guardados pelo monitor da instância
+    private final Map<String, Job> jobs = new LinkedHashMap<>();
+    private final Map<String, Job> inFlight = new HashMap<>();
+
+    public ExerciseJobService(ExerciseService exerciseService,
+                              FactorialService factorialService,
+                              @Value("${app.jobs.pool-size:0}") int poolSize,
+                              @Value("${app.jobs.queue-capacity:50}") int queueCapacity,
+                              @Value("${app.jobs.cache.max-entries:100}") int cacheMaxEntries,
+                              @Value("${app.jobs.cache.max-bytes:67108864}") long cacheMaxBytes,
+                              MeterRegistry meterRegistry) {
+        this.exerciseService = exerciseService;
+        this.factorialService = factorialService;
+        // Metade dos processadores por padrão, para não disputar todos os núcleos com o CpuTaskExecutor
+        int threads = poolSize > 0 ? poolSize : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger sequence = new AtomicInteger();
+        this.pool = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            runnable -> {
+                Thread thread = new Thread(runnable, "exercise-job-" + sequence.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        this.executor = ExecutorServiceMetrics.monitor(meterRegistry, pool, "exercise-job");
+        this.cache = new ResultCache(cacheMaxEntries, cacheMaxBytes);
+    }
+
+    /**
+     * Agenda a ordenação do array
+     * @param array O array a ser ordenado
+     * @param algorithm Nome do algoritmo (mesma regra de ExerciseService.sort quando ausente)
+     * @return O job criado, ou o job já em andamento com a mesma entrada
+     * @throws IllegalArgumentException se o algoritmo não existir ou não aceitar o tamanho do array
+     * @throws RejectedExecutionException se o pool e a fila estiverem cheios
+     */
+    public ExerciseJobDTO submitSort(int[] array, String algorithm) {
+        if (array == null || array.length == 0) {
+            throw new IllegalArgumentException("Array não pode ser nulo ou vazio");
+        }
+        Algorithm resolved = ExerciseService.resolveAlgorithm(array, algorithm);
+        // Mesma regra que o SortingService aplicaria dentro do job: o pedido é recusado antes de entrar na fila
+        SortingService.requireSupportedSize(resolved, array.length);
+        String key = ExerciseResults.sortKey(array, resolved);
+        return submit(Type.SORT, key, job -> exerciseService.sort(array, resolved.name(), job));
+    }
+
+    /**
+     * Agenda o cálculo de n!; o resultado é o número em decimal
+     * @param number O número (0 a FactorialService.MAX_NUMBER)
+     * @return O job criado, ou o job já em andamento com a mesma entrada
+     * @throws RejectedExecutionException se o pool e a fila estiverem cheios
+     */
+    public ExerciseJobDTO submitFactorial(int number) {
+        if (number < 0) {
+            throw new IllegalArgumentException("Número não pode ser negativo");
+        }
+        if (number > FactorialService.MAX_NUMBER) {
+            throw new IllegalArgumentException("Número máximo permitido é " + FactorialService.MAX_NUMBER);
+        }
+        return submit(Type.FACTORIAL, Type.FACTORIAL + ":" + number, job -> {
+            // Etapas: cálculo do produto e conversão para decimal
+            job.checkpoint(0, 2);
+            BigInteger result = factorialService.factorial(number);
+            job.checkpoint(1, 2);
+            StringWriter writer = new StringWriter();
+            try {
+                factorialService.writeDecimal(result, writer);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return writer.toString();
+        });
+    }
+
+    public synchronized Optional<ExerciseJobDTO> getJob(String id) {
+        return Optional.ofNullable(jobs.get(id)).map(Job::toDTO);
+    }
+
+    /**
+     * @return O resultado do job (BubbleSortResponseDTO na ordenação, String no fatorial), lido do cache de
+     *         resultados; vazio se o job não existir, ainda não tiver terminado com sucesso ou se o resultado
+     *         já tiver saído do cache (o job continua COMPLETED)
+     */
+    public synchronized Optional<Object> getResult(String id) {
+        Job job = jobs.get(id);
+        return job == null || job.status != Status.COMPLETED ? Optional.empty() : Optional.ofNullable(cache.get(job.key));
+    }
+
+    /**
+     * Pede o cancelamento do job. Jobs na fila são cancelados na hora; jobs em execução param no próximo
+     * ponto de verificação. Jobs compartilhados por pedidos idênticos são cancelados para todos.
+     * @return O estado do job após o pedido, vazio se o job não existir
+     */
+    public synchronized Optional<ExerciseJobDTO> cancel(String id) {
+        Job job = jobs.get(id);
+        if (job == null) {
+            return Optional.empty();
+        }
+        if (!job.isFinished()) {
+            job.cancelRequested = true;
+            if (job.status == Status.QUEUED) {
+                job.future.cancel(false);
+                if (job.future instanceof Runnable queued) {
+                    pool.remove(queued);
+                }
+                finish(job, Status.CANCELLED, "Job cancelado");
+            }
+        }
+        return Optional.of(job.toDTO());
+    }
+
+    synchronized int cachedResults() {
+        return cache.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    private synchronized ExerciseJobDTO submit(Type type, String key, Function<Job, Object> computation) {
+        Object cached = cache.get(key);
+        if (cached != null) {
+            Job job = new Job(type, key);
+            job.cached = true;
+            job.completed = 1;
+            job.total = 1;
+            finish(job, Status.COMPLETED, null);
+            register(job);
+            return job.toDTO();
+        }
+        Job running = inFlight.get(key);
+        if (running != null) {
+            return running.toDTO();
+        }
+
+        Job job = new Job(type, key);
+        // Pode lançar RejectedExecutionException; nesse caso o job não chega a ser registrado
+        job.future = executor.submit(() -> run(job, computation));
+        inFlight.put(key, job);
+        register(job);
+        return job.toDTO();
+    }
+
+    private void run(Job job, Function<Job, Object> computation) {
+        synchronized (this) {
+            if (job.isFinished()) {
+                return;
+            }
+            job.status = Status.RUNNING;
+            job.startedAt = LocalDateTime.now();
+        }
+        try {
+            job.checkpoint(0, 1);
+            Object result = computation.apply(job);
+            synchronized (this) {
+                // O resultado fica só no cache, que respeita o limite de bytes; o job não guarda referência a ele
+                boolean stored = cache.put(job.key, result, ExerciseResults.estimateBytes(result));
+                finish(job, Status.COMPLETED, stored ? null : RESULT_NOT_CACHED);
+            }
+        } catch (CancellationException e) {
+            synchronized (this) {
+                finish(job, Status.CANCELLED, "Job cancelado");
+            }
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                finish(job, Status.FAILED, e.getMessage());
+            }
+        } catch (Error e) {
+            // StackOverflowError, OutOfMemoryError: o job não pode ficar RUNNING nem preso em inFlight
+            synchronized (this) {
+                finish(job, Status.FAILED, "Erro no cálculo: " + e.getClass().getSimpleName());
+            }
+            throw e;
+        }
+    }
+
+    private void finish(Job job, Status status, String message) {
+        job.status = status;
+        job.message = message;
+        job.finishedAt = LocalDateTime.now();
+        if (status == Status.COMPLETED) {
+            job.completed = job.total;
+        }
+        inFlight.remove(job.key, job);
+    }
+
+    private void register(Job job) {
+        jobs.put(job.id, job);
+        if (jobs.size() <= MAX_JOBS) {
+            return;
+        }
+        // A fila é limitada, então sempre há jobs terminados para remover
+        Iterator<Job> iterator = jobs.values().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().isFinished()) {
+                iterator.remove();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Job em andamento; também é o monitor do cálculo, para receber o progresso e expor o cancelamento
+     */
+    static final class Job implements SortingService.Monitor {
+        final String id = UUID.randomUUID().toString();
+        final Type type;
+        final String key;
+        final LocalDateTime createdAt = LocalDateTime.now();
+        volatile Status status = Status.QUEUED;
+        volatile long completed;
+        volatile long total = 1;
+        volatile boolean cancelRequested;
+        volatile boolean cached;
+        volatile String message;
+        volatile LocalDateTime startedAt;
+        volatile LocalDateTime finishedAt;
+        Future<?> future;
+
+        Job(Type type, String key) {
+            this.type = type;
+            this.key = key;
+        }
+
+        @Override
+        public void progress(long completed, long total) {
+            this.total = Math.max(total, 1);
+            this.completed = Math.min(completed, this.total);
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return cancelRequested || Thread.currentThread().isInterrupted();
+        }
+
+        void checkpoint(long completed, long total) {
+            if (isCancelled()) {
+                throw new CancellationException("Job cancelado");
+            }
+            progress(completed, total);
+        }
+
+        boolean isFinished() {
+            return status == Status.COMPLETED || status == Status.FAILED || status == Status.CANCELLED;
+        }
+
+        ExerciseJobDTO toDTO() {
+            long done = completed;
+            long expected = total;
+            return new ExerciseJobDTO(id, type, status, done, expected, (double) done / expected,
+                cached, message, createdAt, startedAt, finishedAt);
+        }
+    }
+
+    /**
+     * Cache LRU de resultados, limitado pela quantidade de entradas e pelo tamanho estimado em bytes
+     */
+    static final class ResultCache {
+        private final int maxEntries;
+        private final long maxBytes;
+        private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+        private long bytes;
+
+        ResultCache(int maxEntries, long maxBytes) {
+            this.maxEntries = maxEntries;
+            this.maxBytes = maxBytes;
+        }
+
+        Object get(String key) {
+            Entry entry = entries.get(key);
+            return entry == null ? null : entry.value();
+        }
+
+        /**
+         * @return false se o resultado for maior que o cache inteiro e não tiver sido guardado
+         */
+        boolean put(String key, Object value, long size) {
+            if (size > maxBytes || maxEntries <= 0) {
+                return false;
+            }
+            Entry previous = entries.put(key, new Entry(value, size));
+            if (previous != null) {
+                bytes -= previous.size();
+            }
+            bytes += size;
+            Iterator<Entry> iterator = entries.values().iterator();
+            while ((entries.size() > maxEntries || bytes > maxBytes) && iterator.hasNext()) {
+                bytes -= iterator.next().size();
+                iterator.remove();
+            }
+            return true;
+        }
+
+        int size() {
+            return entries.size();
+        }
+
+        private record Entry(Object value, long size) {
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package br.com.tinnova.desafio_tinnova_back.service;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+import br.com.tinnova.desafio_tinnova_back.dto.BubbleSortResponseDTO;
+import br.com.tinnova.desafio_tinnova_back.service.SortingService.Algorithm;
+
+/**
+ * Chaves e tamanhos dos resultados dos exercícios, compartilhados pelos caches de resultados
+ */
+final class ExerciseResults {
+
+    private ExerciseResults() {
+    }
+
+    /**
+     * Chave da ordenação: tamanho do array e SHA-256 do algoritmo e do conteúdo
+     */
+    static String sortKey(int[] array, Algorithm algorithm) {
+        MessageDigest digest = sha256();
+        digest.update(algorithm.name().getBytes(StandardCharsets.US_ASCII));
+        ByteBuffer buffer = ByteBuffer.allocate(8 * 1024);
+        for (int value : array) {
+            if (!buffer.hasRemaining()) {
+                buffer.flip();
+                digest.update(buffer);
+                buffer.clear();
+            }
+            buffer.putInt(value);
+        }
+        buffer.flip();
+        digest.update(buffer);
+        return "SORT:" + array.length + ":" + HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * Tamanho aproximado do resultado em memória, em bytes
+     */
+    static long estimateBytes(Object result) {
+        if (result instanceof BubbleSortResponseDTO sort) {
+            return 64L + 4L * (sort.getOriginalArray().length + sort.getSortedArray().length);
+        }
+        if (result instanceof String text) {
+            return 48L + text.length();
+        }
+        return 64L;
+    }
+
+    static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
+    }
+}
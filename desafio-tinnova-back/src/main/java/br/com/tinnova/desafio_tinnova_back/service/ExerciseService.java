@@ -1,71 +1,155 @@
 package br.com.tinnova.desafio_tinnova_back.service;
 
+import java.util.concurrent.TimeUnit;
+
 import org.springframework.stereotype.Service;
 
 import br.com.tinnova.desafio_tinnova_back.dto.BubbleSortResponseDTO;
 import br.com.tinnova.desafio_tinnova_back.dto.ElectionResultDTO;
 import br.com.tinnova.desafio_tinnova_back.entity.Election;
+import br.com.tinnova.desafio_tinnova_back.service.SortingService.Algorithm;
+import br.com.tinnova.desafio_tinnova_back.service.SortingService.SortStats;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 
 @Service
 public class ExerciseService {
+    public static final int MAX_LONG_FACTORIAL = 20;
+
+    private final SortingService sortingService;
+    private final MeterRegistry meterRegistry;
+
+    public ExerciseService(SortingService sortingService, MeterRegistry meterRegistry) {
+        this.sortingService = sortingService;
+        this.meterRegistry = meterRegistry;
+    }
+
     public ElectionResultDTO calculateElectionPercentages(Election election) {
-        if (election == null || election.getTotalVoters() <= 0 || 
-            election.getTotalBlankVotes() < 0 || election.getTotalNullVotes() < 0) {
+        if (election == null) {
             throw new IllegalArgumentException("Dados da eleição inválidos");
         }
+        return calculateElectionPercentages(election.getTotalVoters(), election.getTotalValidVotes(),
+            election.getTotalBlankVotes(), election.getTotalNullVotes());
+    }
 
-        double validVotePercentage = (double) election.getTotalValidVotes() / election.getTotalVoters() * 100;
-        double blankVotePercentage = (double) election.getTotalBlankVotes() / election.getTotalVoters() * 100;
-        double nullVotePercentage = (double) election.getTotalNullVotes() / election.getTotalVoters() * 100;
+    /**
+     * Calcula os percentuais a partir dos totais, que podem passar do limite de int quando agregados
+     * @return Os percentuais de votos válidos, brancos e nulos sobre o total de eleitores
+     */
+    public ElectionResultDTO calculateElectionPercentages(long totalVoters, long totalValidVotes,
+                                                          long totalBlankVotes, long totalNullVotes) {
+        if (!isValidElection(totalVoters, totalBlankVotes, totalNullVotes)) {
+            throw new IllegalArgumentException("Dados da eleição inválidos");
+        }
+
+        double validVotePercentage = (double) totalValidVotes / totalVoters * 100;
+        double blankVotePercentage = (double) totalBlankVotes / totalVoters * 100;
+        double nullVotePercentage = (double) totalNullVotes / totalVoters * 100;
 
         return new ElectionResultDTO(validVotePercentage, blankVotePercentage, nullVotePercentage);
     }
 
+    static void recordFactorialInput(MeterRegistry meterRegistry, String type, int number) {
+        DistributionSummary.builder("exercise.factorial.input")
+            .description("Valores de n pedidos ao fatorial")
+            .tag("type", type)
+            .publishPercentileHistogram()
+            .register(meterRegistry)
+            .record(number);
+    }
+
+    static void validateFactorialInput(int number) {
+        if (number < 0) {
+            throw new IllegalArgumentException("Número não pode ser negativo");
+        }
+        // 21! já não cabe em long; valores maiores são atendidos pelo FactorialService
+        if (number > MAX_LONG_FACTORIAL) {
+            throw new IllegalArgumentException("Número máximo para resultado long é " + MAX_LONG_FACTORIAL);
+        }
+    }
+
+    static void validateSumMultiplesInput(int number) {
+        if (number < 0) {
+            throw new IllegalArgumentException("Número não pode ser negativo");
+        }
+    }
+
+    static boolean isValidElection(long totalVoters, long totalBlankVotes, long totalNullVotes) {
+        return totalVoters > 0 && totalBlankVotes >= 0 && totalNullVotes >= 0;
+    }
+
     public BubbleSortResponseDTO bubbleSort(int[] array) {
+        return sort(array, Algorithm.BUBBLE, SortingService.Monitor.NONE);
+    }
+
+    /**
+     * Ordena o array com o algoritmo pedido
+     * @param array O array a ser ordenado
+     * @param algorithm Nome do algoritmo; quando ausente usa bubble sort até SortingService.MAX_QUADRATIC_SIZE
+     *                  elementos e, acima disso, a escolha automática pelo tamanho
+     * @return Os arrays original e ordenado, o algoritmo usado e as métricas
+     */
+    public BubbleSortResponseDTO sort(int[] array, String algorithm) {
+        return sort(array, algorithm, SortingService.Monitor.NONE);
+    }
+
+    /**
+     * Ordena o array com o algoritmo pedido, informando o progresso ao monitor
+     * @param array O array a ser ordenado
+     * @param algorithm Nome do algoritmo (mesma regra de sort(int[], String) quando ausente)
+     * @param monitor Recebe o progresso e pode cancelar a ordenação
+     * @return Os arrays original e ordenado, o algoritmo usado e as métricas
+     * @throws java.util.concurrent.CancellationException se o monitor pedir o cancelamento
+     */
+    public BubbleSortResponseDTO sort(int[] array, String algorithm, SortingService.Monitor monitor) {
+        return sort(array, resolveAlgorithm(array, algorithm), monitor);
+    }
+
+    static Algorithm resolveAlgorithm(int[] array, String algorithm) {
+        return algorithm == null || algorithm.isBlank()
+            ? (array != null && array.length > SortingService.MAX_QUADRATIC_SIZE ? Algorithm.AUTO : Algorithm.BUBBLE)
+            : Algorithm.fromString(algorithm);
+    }
+
+    private BubbleSortResponseDTO sort(int[] array, Algorithm algorithm, SortingService.Monitor monitor) {
         if (array == null || array.length == 0) {
             throw new IllegalArgumentException("Array não pode ser nulo ou vazio");
         }
 
         // Salvar o array original
         int[] originalArray = array.clone();
-        
-        // Inicializar contadores
-        int comparisons = 0;
-        int swaps = 0;
-        
+
         // Medir tempo de execução
         long startTime = System.nanoTime();
-
-        int n = array.length;
-        boolean swapped;
-        do {
-            swapped = false;
-            for (int i = 0; i < n - 1; i++) {
-                comparisons++; // Contar cada comparação
-                if (array[i] > array[i + 1]) {
-                    // Swap array[i] and array[i + 1]
-                    int temp = array[i];
-                    array[i] = array[i + 1];
-                    array[i + 1] = temp;
-                    swaps++; // Contar cada troca
-                    swapped = true;
-                }
-            }
-            n--; // Reduce the range of the next pass
-        } while (swapped);
-
+        SortStats stats = sortingService.sort(array, algorithm, monitor);
         long endTime = System.nanoTime();
         double executionTime = (endTime - startTime) / 1_000_000.0; // com decimais
 
-        System.out.println("Tempo em milissegundos: " + executionTime);
-
-        return new BubbleSortResponseDTO(originalArray, array, comparisons, swaps, executionTime);
+        String algorithmName = stats.algorithm().name();
+        Timer.builder("exercise.sort")
+            .description("Tempo de ordenação")
+            .tag("algorithm", algorithmName)
+            .publishPercentileHistogram()
+            .register(meterRegistry)
+            .record(endTime - startTime, TimeUnit.NANOSECONDS);
+        DistributionSummary.builder("exercise.sort.input.size")
+            .description("Tamanho dos arrays ordenados")
+            .baseUnit("elements")
+            .tag("algorithm", algorithmName)
+            .publishPercentileHistogram()
+            .register(meterRegistry)
+            .record(array.length);
+
+        return new BubbleSortResponseDTO(originalArray, array, stats.algorithm().name(),
+            stats.comparisons(), stats.swaps(), executionTime);
     }
 
     public long calculateFactorial(int number) {
-        if (number < 0) {
-            throw new IllegalArgumentException("Número não pode ser negativo");
-        }
+        validateFactorialInput(number);
+
+        recordFactorialInput(meterRegistry, "long", number);
 
         if (number == 0 || number == 1) {
             return 1L;
@@ -80,6 +164,22 @@ public class ExerciseService {
     }
 
     public long sumMultiplesOf3Or5(int number) {
+        validateSumMultiplesInput(number);
+
+        // Inclusão–exclusão: múltiplos de 3 + múltiplos de 5 - múltiplos de 15 (contados duas vezes)
+        return sumOfMultiplesBelow(3, number) + sumOfMultiplesBelow(5, number) - sumOfMultiplesBelow(15, number);
+    }
+
+    // Soma de divisor·(1 + 2 + ... + m), com m = quantidade de múltiplos menores que number; cabe em long para int
+    private static long sumOfMultiplesBelow(long divisor, int number) {
+        long count = number > 0 ? (number - 1L) / divisor : 0;
+        return divisor * count * (count + 1) / 2;
+    }
+
+    /**
+     * Implementação original por laço, mantida como referência para conferir a forma fechada nos testes
+     */
+    static long sumMultiplesOf3Or5Reference(int number) {
         if (number < 0) {
             throw new IllegalArgumentException("Número não pode ser negativo");
         }
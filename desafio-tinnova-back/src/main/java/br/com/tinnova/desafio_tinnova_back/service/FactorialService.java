@@ -0,0 +1,182 @@
+package br.com.tinnova.desafio_tinnova_back.service;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Fatorial em precisão arbitrária.
+ * O produto de um intervalo é calculado em árvore (divisão binária), em paralelo no ForkJoinPool
+ * para intervalos grandes. Fatoriais de múltiplos de CHECKPOINT_INTERVAL ficam em cache, e os pedidos
+ * seguintes continuam a partir do checkpoint mais próximo.
+ */
+@Service
+public class FactorialService {
+    public static final int MAX_NUMBER = 200_000;
+
+    static final int CHECKPOINT_INTERVAL = 1_000;
+    // Limite de memória dos checkpoints; ao atingi-lo, novos checkpoints deixam de ser guardados
+    static final long CHECKPOINT_MAX_BYTES = 16L * 1024 * 1024;
+
+    // Abaixo destes tamanhos vale mais multiplicar em sequência / escrever com toString direto
+    private static final int SEQUENTIAL_PRODUCT_TERMS = 32;
+    private static final int PARALLEL_PRODUCT_TERMS = 4_096;
+    private static final int DIRECT_DECIMAL_BITS = 65_536;
+
+    private final ConcurrentSkipListMap<Integer, BigInteger> checkpoints = new ConcurrentSkipListMap<>();
+    private final AtomicLong checkpointBytes = new AtomicLong();
+    private final MeterRegistry meterRegistry;
+
+    public FactorialService(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Calcula n!
+     * @param number O número (0 a MAX_NUMBER)
+     * @return O fatorial em precisão arbitrária
+     */
+    public BigInteger factorial(int number) {
+        if (number < 0) {
+            throw new IllegalArgumentException("Número não pode ser negativo");
+        }
+        if (number > MAX_NUMBER) {
+            throw new IllegalArgumentException("Número máximo permitido é " + MAX_NUMBER);
+        }
+        ExerciseService.recordFactorialInput(meterRegistry, "big", number);
+
+        Map.Entry<Integer, BigInteger> nearest = checkpoints.floorEntry(number);
+        int start = nearest == null ? 1 : nearest.getKey();
+        BigInteger result = nearest == null ? BigInteger.ONE : nearest.getValue();
+
+        // Guarda o checkpoint no caminho, para que pedidos maiores reaproveitem este trabalho
+        int checkpoint = number / CHECKPOINT_INTERVAL * CHECKPOINT_INTERVAL;
+        if (checkpoint > start && checkpointBytes.get() < CHECKPOINT_MAX_BYTES) {
+            result = result.multiply(product(start + 1, checkpoint));
+            start = checkpoint;
+            if (checkpoints.putIfAbsent(checkpoint, result) == null) {
+                checkpointBytes.addAndGet(result.bitLength() / 8 + 1);
+            }
+        }
+
+        return result.multiply(product(start + 1, number));
+    }
+
+    /**
+     * Escreve o número em decimal por divisão e conquista, em blocos, sem montar a String inteira
+     * @param value O número (não negativo)
+     * @param writer O destino
+     */
+    public void writeDecimal(BigInteger value, Writer writer) throws IOException {
+        if (value.signum() < 0) {
+            throw new IllegalArgumentException("Número não pode ser negativo");
+        }
+        // powers.get(k) = 10^(2^k)
+        List<BigInteger> powers = new ArrayList<>();
+        powers.add(BigInteger.TEN);
+        writeDecimal(value, -1, writer, powers);
+    }
+
+    int checkpointCount() {
+        return checkpoints.size();
+    }
+
+    void clearCheckpoints() {
+        checkpoints.clear();
+        checkpointBytes.set(0);
+    }
+
+    /**
+     * Produto dos inteiros de from a to (inclusive), ou 1 se o intervalo for vazio
+     */
+    static BigInteger product(int from, int to) {
+        if (from > to) {
+            return BigInteger.ONE;
+        }
+        if (to - from < PARALLEL_PRODUCT_TERMS) {
+            return sequentialProduct(from, to);
+        }
+        return ForkJoinPool.commonPool().invoke(new ProductTask(from, to));
+    }
+
+    private static BigInteger sequentialProduct(int from, int to) {
+        if (to - from < SEQUENTIAL_PRODUCT_TERMS) {
+            // Acumula em long enquanto couber, para reduzir as multiplicações de BigInteger
+            BigInteger result = BigInteger.ONE;
+            long partial = 1;
+            for (long i = from; i <= to; i++) {
+                if (partial > Long.MAX_VALUE / i) {
+                    result = result.multiply(BigInteger.valueOf(partial));
+                    partial = 1;
+                }
+                partial *= i;
+            }
+            return result.multiply(BigInteger.valueOf(partial));
+        }
+        int mid = (from + to) >>> 1;
+        return sequentialProduct(from, mid).multiply(sequentialProduct(mid + 1, to));
+    }
+
+    // digits < 0: sem preenchimento (parte mais significativa); caso contrário, completa com zeros à esquerda
+    private static void writeDecimal(BigInteger value, int digits, Writer writer, List<BigInteger> powers) throws IOException {
+        if (value.bitLength() <= DIRECT_DECIMAL_BITS) {
+            String text = value.toString();
+            for (int i = text.length(); i < digits; i++) {
+                writer.write('0');
+            }
+            writer.write(text);
+            return;
+        }
+
+        // Maior k com 10^(2^k) até a raiz do valor: divide o número em duas metades de dígitos
+        int k = 0;
+        while (power(powers, k + 1).bitLength() * 2 <= value.bitLength() + 1) {
+            k++;
+        }
+        BigInteger[] parts = value.divideAndRemainder(power(powers, k));
+        int lowDigits = 1 << k;
+        writeDecimal(parts[0], digits < 0 ? -1 : digits - lowDigits, writer, powers);
+        writeDecimal(parts[1], lowDigits, writer, powers);
+    }
+
+    private static BigInteger power(List<BigInteger> powers, int k) {
+        while (powers.size() <= k) {
+            BigInteger last = powers.get(powers.size() - 1);
+            powers.add(last.multiply(last));
+        }
+        return powers.get(k);
+    }
+
+    private static final class ProductTask extends RecursiveTask<BigInteger> {
+        private final int from;
+        private final int to;
+
+        private ProductTask(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected BigInteger compute() {
+            if (to - from < PARALLEL_PRODUCT_TERMS) {
+                return sequentialProduct(from, to);
+            }
+            int mid = (from + to) >>> 1;
+            ProductTask left = new ProductTask(from, mid);
+            left.fork();
+            BigInteger right = new ProductTask(mid + 1, to).compute();
+            return left.join().multiply(right);
+        }
+    }
+}
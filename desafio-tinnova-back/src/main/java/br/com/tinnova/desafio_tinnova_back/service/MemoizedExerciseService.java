@@ -0,0 +1,163 @@
+package br.com.tinnova.desafio_tinnova_back.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HexFormat;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import br.com.tinnova.desafio_tinnova_back.dto.BubbleSortResponseDTO;
+import br.com.tinnova.desafio_tinnova_back.dto.ElectionResultDTO;
+import br.com.tinnova.desafio_tinnova_back.dto.ExerciseCacheStatsDTO;
+import br.com.tinnova.desafio_tinnova_back.entity.Election;
+import br.com.tinnova.desafio_tinnova_back.service.SortingService.Algorithm;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Memoização dos exercícios determinísticos (fatorial, soma de múltiplos, percentuais da eleição e
+ * ordenação), na frente do ExerciseService. O cache é o Caffeine (W-TinyLFU), limitado pelo peso
+ * estimado dos resultados em bytes; entradas de erro não são guardadas.
+ * O cache guarda futures: o cálculo roda fora do mapa, na thread de quem pediu primeiro, e só os pedidos
+ * da mesma chave esperam por ele (um loader síncrono seguraria o bin do mapa durante ordenações de segundos).
+ * Cada entrada tem uma ETag derivada só da entrada, então o controller responde 304 a um GET
+ * condicional (de entrada válida) sem consultar o cache nem recalcular.
+ */
+@Service
+public class MemoizedExerciseService {
+    // Faz parte da ETag: trocar quando o resultado de alguma entrada mudar
+    private static final String ETAG_VERSION = "1";
+
+    private final ExerciseService exerciseService;
+    private final AsyncCache<String, Object> cache;
+    private final int maxSortSize;
+
+    public MemoizedExerciseService(ExerciseService exerciseService,
+                                   @Value("${app.memo.max-weight-bytes:33554432}") long maxWeightBytes,
+                                   @Value("${app.memo.max-sort-size:100000}") int maxSortSize,
+                                   MeterRegistry meterRegistry) {
+        this.exerciseService = exerciseService;
+        this.maxSortSize = maxSortSize;
+        this.cache = Caffeine.newBuilder()
+            .maximumWeight(maxWeightBytes)
+            .weigher((String key, Object value) ->
+                (int) Math.min(Integer.MAX_VALUE, key.length() + ExerciseResults.estimateBytes(value)))
+            .recordStats()
+            .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "exercise-results");
+    }
+
+    /**
+     * Resultado memoizado e a ETag da entrada que o produziu
+     */
+    public record Memoized<T>(T value, String eTag) {
+    }
+
+    public static String factorialKey(int number) {
+        return "FACTORIAL:" + number;
+    }
+
+    public static String sumMultiplesKey(int number) {
+        return "SUM_MULTIPLES_3_5:" + number;
+    }
+
+    /**
+     * ETag forte da entrada: o resultado é função só da entrada, então a mesma entrada tem sempre a mesma ETag
+     */
+    public static String eTag(String key) {
+        byte[] digest = ExerciseResults.sha256().digest((ETAG_VERSION + ":" + key).getBytes(StandardCharsets.UTF_8));
+        return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+    }
+
+    /**
+     * ETag do fatorial de number, para o GET condicional
+     * @throws IllegalArgumentException se a entrada for inválida (não há 304 para ela)
+     */
+    public String factorialETag(int number) {
+        ExerciseService.validateFactorialInput(number);
+        return eTag(factorialKey(number));
+    }
+
+    /**
+     * ETag da soma dos múltiplos de 3 ou 5 abaixo de number, para o GET condicional
+     * @throws IllegalArgumentException se a entrada for inválida (não há 304 para ela)
+     */
+    public String sumMultiplesETag(int number) {
+        ExerciseService.validateSumMultiplesInput(number);
+        return eTag(sumMultiplesKey(number));
+    }
+
+    public Memoized<Long> calculateFactorial(int number) {
+        String key = factorialKey(number);
+        return memoize(key, () -> exerciseService.calculateFactorial(number));
+    }
+
+    public Memoized<Long> sumMultiplesOf3Or5(int number) {
+        String key = sumMultiplesKey(number);
+        return memoize(key, () -> exerciseService.sumMultiplesOf3Or5(number));
+    }
+
+    public Memoized<ElectionResultDTO> calculateElectionPercentages(Election election) {
+        if (election == null) {
+            return new Memoized<>(exerciseService.calculateElectionPercentages(election), null);
+        }
+        String key = "ELECTION:" + election.getTotalVoters() + ":" + election.getTotalValidVotes()
+            + ":" + election.getTotalBlankVotes() + ":" + election.getTotalNullVotes();
+        return memoize(key, () -> exerciseService.calculateElectionPercentages(election));
+    }
+
+    /**
+     * Ordenação memoizada pelo hash do conteúdo do array. Arrays acima de app.memo.max-sort-size
+     * elementos não passam pelo cache: ocupariam boa parte dele e raramente se repetem.
+     * O resultado guardado mantém o tempo de execução medido no cálculo original.
+     */
+    public Memoized<BubbleSortResponseDTO> sort(int[] array, String algorithm) {
+        if (array == null || array.length == 0 || array.length > maxSortSize) {
+            return new Memoized<>(exerciseService.sort(array, algorithm), null);
+        }
+        Algorithm resolved = ExerciseService.resolveAlgorithm(array, algorithm);
+        String key = ExerciseResults.sortKey(array, resolved);
+        return memoize(key, () -> exerciseService.sort(array, resolved.name()));
+    }
+
+    public ExerciseCacheStatsDTO getStats() {
+        CacheStats stats = cache.synchronous().stats();
+        return new ExerciseCacheStatsDTO(stats.hitCount(), stats.missCount(), stats.hitRate(),
+            stats.evictionCount(), cache.synchronous().estimatedSize(),
+            cache.synchronous().policy().eviction().map(eviction -> eviction.weightedSize().orElse(0)).orElse(0L));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> Memoized<T> memoize(String key, Supplier<T> computation) {
+        // Dentro do mapa só se registra o future; o cálculo acontece depois, fora dele
+        CompletableFuture<Object> created = new CompletableFuture<>();
+        CompletableFuture<Object> future = cache.get(key, (ignored, executor) -> created);
+        if (future == created) {
+            try {
+                created.complete(computation.get());
+            } catch (RuntimeException | Error e) {
+                // Futures com erro são removidos pelo Caffeine: o erro não fica guardado
+                created.completeExceptionally(e);
+                throw e;
+            }
+        }
+
+        try {
+            return new Memoized<>((T) future.join(), eTag(key));
+        } catch (CompletionException e) {
+            // Quem esperou o cálculo de outra thread recebe a mesma exceção
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
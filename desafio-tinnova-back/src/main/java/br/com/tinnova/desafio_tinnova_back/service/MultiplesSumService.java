@@ -0,0 +1,147 @@
+package br.com.tinnova.desafio_tinnova_back.service;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+
+import org.springframework.stereotype.Service;
+
+import br.com.tinnova.desafio_tinnova_back.dto.MultiplesSumQueryDTO;
+import br.com.tinnova.desafio_tinnova_back.dto.MultiplesSumResultDTO;
+
+/**
+ * Soma dos múltiplos de um conjunto de divisores abaixo de um limite, em forma fechada.
+ * Por inclusão–exclusão: para cada subconjunto de divisores com mmc L, os múltiplos de L abaixo
+ * do limite somam L·m(m+1)/2, com m = (limite - 1) / L. Subconjuntos cujo mmc passa do limite
+ * não contribuem e são podados, então o custo não depende do tamanho do limite; no pior caso (divisores
+ * primos entre si e limite enorme) são 2^k termos para k divisores, e um lote é limitado a
+ * MAX_BATCH_SUBSETS termos no total.
+ */
+@Service
+public class MultiplesSumService {
+    public static final List<Long> DEFAULT_DIVISORS = List.of(3L, 5L);
+    public static final int MAX_DIVISORS = 16;
+    // Divisores informados antes de remover repetidos e múltiplos (a redução é quadrática)
+    public static final int MAX_INPUT_DIVISORS = 64;
+    public static final int MAX_BATCH_SIZE = 10_000;
+    public static final long MAX_BATCH_SUBSETS = 1L << 20;
+
+    /**
+     * Soma os inteiros positivos menores que limit divisíveis por pelo menos um dos divisores
+     * @param limit O limite (exclusivo, não negativo)
+     * @param divisors Os divisores (positivos); vazio ou null usa 3 e 5
+     * @return A soma
+     */
+    public BigInteger sumOfMultiples(BigInteger limit, List<Long> divisors) {
+        if (limit == null || limit.signum() < 0) {
+            throw new IllegalArgumentException("Número não pode ser negativo");
+        }
+
+        return sum(limit, reduceDivisors(divisors == null || divisors.isEmpty() ? DEFAULT_DIVISORS : divisors));
+    }
+
+    /**
+     * Resolve várias consultas em uma chamada
+     * @param queries As consultas (no máximo MAX_BATCH_SIZE, com até MAX_BATCH_SUBSETS subconjuntos de divisores no total)
+     * @return Os resultados, na mesma ordem
+     */
+    public List<MultiplesSumResultDTO> sumOfMultiplesBatch(List<MultiplesSumQueryDTO> queries) {
+        if (queries == null || queries.isEmpty()) {
+            throw new IllegalArgumentException("Lista de consultas não pode ser vazia");
+        }
+        if (queries.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("Máximo de " + MAX_BATCH_SIZE + " consultas por requisição");
+        }
+
+        // Valida as consultas e reduz os divisores antes de calcular: um lote acima do orçamento não consome CPU
+        List<List<BigInteger>> reducedDivisors = new ArrayList<>(queries.size());
+        long subsets = 0;
+        for (MultiplesSumQueryDTO query : queries) {
+            if (query.getLimit() == null || query.getLimit().signum() < 0) {
+                throw new IllegalArgumentException("Número não pode ser negativo");
+            }
+            List<BigInteger> reduced = reduceDivisors(divisorsOf(query));
+            subsets += 1L << reduced.size();
+            if (subsets > MAX_BATCH_SUBSETS) {
+                throw new IllegalArgumentException("Lote excede o limite de " + MAX_BATCH_SUBSETS
+                    + " subconjuntos de divisores (2^k por consulta com k divisores)");
+            }
+            reducedDivisors.add(reduced);
+        }
+
+        List<MultiplesSumResultDTO> results = new ArrayList<>(queries.size());
+        for (int i = 0; i < queries.size(); i++) {
+            MultiplesSumQueryDTO query = queries.get(i);
+            results.add(new MultiplesSumResultDTO(query.getLimit(), divisorsOf(query), sum(query.getLimit(), reducedDivisors.get(i))));
+        }
+        return results;
+    }
+
+    private static List<Long> divisorsOf(MultiplesSumQueryDTO query) {
+        return query.getDivisors() == null || query.getDivisors().isEmpty() ? DEFAULT_DIVISORS : query.getDivisors();
+    }
+
+    private static BigInteger sum(BigInteger limit, List<BigInteger> reduced) {
+        BigInteger[] sum = {BigInteger.ZERO};
+        BigInteger last = limit.subtract(BigInteger.ONE);
+        if (last.signum() > 0) {
+            includeExclude(reduced, 0, BigInteger.ONE, 0, last, sum);
+        }
+        return sum[0];
+    }
+
+    // Percorre os subconjuntos em profundidade; o sinal alterna com a quantidade de divisores escolhidos
+    private static void includeExclude(List<BigInteger> divisors, int from, BigInteger lcm, int chosen,
+                                       BigInteger last, BigInteger[] sum) {
+        for (int i = from; i < divisors.size(); i++) {
+            BigInteger divisor = divisors.get(i);
+            BigInteger next = lcm.divide(lcm.gcd(divisor)).multiply(divisor);
+            if (next.compareTo(last) > 0) {
+                continue;
+            }
+
+            BigInteger count = last.divide(next);
+            BigInteger term = next.multiply(count).multiply(count.add(BigInteger.ONE)).shiftRight(1);
+            sum[0] = chosen % 2 == 0 ? sum[0].add(term) : sum[0].subtract(term);
+
+            includeExclude(divisors, i + 1, next, chosen + 1, last, sum);
+        }
+    }
+
+    // Remove repetidos e divisores que são múltiplos de outro (seus múltiplos já estão contados)
+    private static List<BigInteger> reduceDivisors(List<Long> divisors) {
+        if (divisors.size() > MAX_INPUT_DIVISORS) {
+            throw new IllegalArgumentException("Máximo de " + MAX_INPUT_DIVISORS + " divisores informados por consulta");
+        }
+
+        TreeSet<Long> sorted = new TreeSet<>();
+        for (Long divisor : divisors) {
+            if (divisor == null || divisor <= 0) {
+                throw new IllegalArgumentException("Divisores devem ser positivos");
+            }
+            sorted.add(divisor);
+        }
+
+        List<BigInteger> reduced = new ArrayList<>();
+        List<Long> kept = new ArrayList<>();
+        for (long divisor : sorted) {
+            boolean redundant = false;
+            for (long smaller : kept) {
+                if (divisor % smaller == 0) {
+                    redundant = true;
+                    break;
+                }
+            }
+            if (!redundant) {
+                kept.add(divisor);
+                reduced.add(BigInteger.valueOf(divisor));
+            }
+        }
+
+        if (reduced.size() > MAX_DIVISORS) {
+            throw new IllegalArgumentException("Máximo de " + MAX_DIVISORS + " divisores por consulta");
+        }
+        return reduced;
+    }
+}
@@ -0,0 +1,429 @@
+package br.com.tinnova.desafio_tinnova_back.service;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import org.springframework.stereotype.Service;
+
+/**
+ * Motor de ordenação de inteiros com algoritmos selecionáveis.
+ * Todos contam comparações e trocas em long; nos algoritmos que movem elementos em vez de trocá-los
+ * (inserção, merge e radix), cada escrita de elemento conta como uma troca.
+ */
+@Service
+public class SortingService {
+    // Acima deste tamanho os algoritmos O(n²) são recusados
+    public static final int MAX_QUADRATIC_SIZE = 50_000;
+
+    static final int INSERTION_THRESHOLD = 32;
+    static final int PARALLEL_THRESHOLD = 1 << 17;
+    static final int PARALLEL_LEAF_SIZE = 1 << 13;
+    // Partições a partir deste tamanho verificam cancelamento e informam progresso
+    static final int MONITOR_GRANULARITY = 1 << 12;
+
+    public enum Algorithm {
+        BUBBLE,
+        INSERTION,
+        MERGE,
+        QUICK,
+        RADIX,
+        PARALLEL_MERGE,
+        AUTO;
+
+        public static Algorithm fromString(String value) {
+            if (value == null || value.isBlank()) {
+                return AUTO;
+            }
+            try {
+                return valueOf(value.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Algoritmo de ordenação não suportado: " + value);
+            }
+        }
+    }
+
+    /**
+     * Resultado de uma ordenação: o algoritmo efetivamente usado e os contadores
+     */
+    public record SortStats(Algorithm algorithm, long comparisons, long swaps) {
+    }
+
+    /**
+     * Acompanhamento de uma ordenação longa: recebe o progresso e pode pedir o cancelamento, que é
+     * cooperativo (verificado entre passadas e em partições grandes) e interrompe com CancellationException
+     */
+    public interface Monitor {
+        Monitor NONE = new Monitor() {
+        };
+
+        /**
+         * @param completed Trabalho concluído (passadas no bubble sort, elementos nos demais)
+         * @param total Trabalho total previsto
+         */
+        default void progress(long completed, long total) {
+        }
+
+        default boolean isCancelled() {
+            return false;
+        }
+    }
+
+    /**
+     * Escolhe o algoritmo pelo tamanho da entrada quando AUTO
+     * @param algorithm O algoritmo pedido
+     * @param length O tamanho do array
+     * @return O algoritmo que será executado
+     */
+    public Algorithm resolve(Algorithm algorithm, int length) {
+        if (algorithm != Algorithm.AUTO) {
+            return algorithm;
+        }
+        if (length <= INSERTION_THRESHOLD) {
+            return Algorithm.INSERTION;
+        }
+        if (length < PARALLEL_THRESHOLD) {
+            return Algorithm.QUICK;
+        }
+        return ForkJoinPool.getCommonPoolParallelism() > 1 ? Algorithm.PARALLEL_MERGE : Algorithm.RADIX;
+    }
+
+    /**
+     * Rejeita arrays grandes demais para os algoritmos quadráticos. AUTO nunca escolhe um deles acima de
+     * INSERTION_THRESHOLD, então pode ser conferido antes da resolução
+     * @param algorithm O algoritmo pedido ou resolvido
+     * @param length O tamanho do array
+     */
+    public static void requireSupportedSize(Algorithm algorithm, int length) {
+        if ((algorithm == Algorithm.BUBBLE || algorithm == Algorithm.INSERTION) && length > MAX_QUADRATIC_SIZE) {
+            throw new IllegalArgumentException("Algoritmo " + algorithm + " aceita no máximo " + MAX_QUADRATIC_SIZE + " elementos");
+        }
+    }
+
+    /**
+     * Ordena o array in-place
+     * @param array O array a ser ordenado
+     * @param algorithm O algoritmo (AUTO escolhe pelo tamanho)
+     * @return O algoritmo usado e os contadores de comparações e trocas
+     */
+    public SortStats sort(int[] array, Algorithm algorithm) {
+        return sort(array, algorithm, Monitor.NONE);
+    }
+
+    /**
+     * Ordena o array in-place, informando o progresso ao monitor
+     * @param array O array a ser ordenado
+     * @param algorithm O algoritmo (AUTO escolhe pelo tamanho)
+     * @param monitor Recebe o progresso e pode cancelar a ordenação
+     * @return O algoritmo usado e os contadores de comparações e trocas
+     * @throws CancellationException se o monitor pedir o cancelamento; o array fica parcialmente ordenado
+     */
+    public SortStats sort(int[] array, Algorithm algorithm, Monitor monitor) {
+        Algorithm effective = resolve(algorithm, array.length);
+        requireSupportedSize(effective, array.length);
+
+        Counter counter = new Counter(monitor);
+        switch (effective) {
+            case BUBBLE -> bubbleSort(array, counter);
+            case INSERTION -> insertionSort(array, 0, array.length - 1, counter);
+            case MERGE -> mergeSort(array, new int[array.length], 0, array.length - 1, counter);
+            case QUICK -> dualPivotQuickSort(array, 0, array.length - 1, counter);
+            case RADIX -> radixSort(array, counter);
+            case PARALLEL_MERGE -> counter.add(ForkJoinPool.commonPool()
+                .invoke(new ParallelMergeTask(array, new int[array.length], 0, array.length - 1, monitor)));
+            default -> throw new IllegalStateException("Algoritmo não resolvido: " + effective);
+        }
+        monitor.progress(array.length, array.length);
+        return new SortStats(effective, counter.comparisons, counter.swaps);
+    }
+
+    static void bubbleSort(int[] array, Counter counter) {
+        long comparisons = 0;
+        long swaps = 0;
+        int n = array.length;
+        int pass = 0;
+        boolean swapped;
+        do {
+            swapped = false;
+            for (int i = 0; i < n - 1; i++) {
+                comparisons++;
+                if (array[i] > array[i + 1]) {
+                    int temp = array[i];
+                    array[i] = array[i + 1];
+                    array[i + 1] = temp;
+                    swaps++;
+                    swapped = true;
+                }
+            }
+            n--;
+            counter.checkpoint(++pass, array.length - 1);
+        } while (swapped);
+        counter.comparisons += comparisons;
+        counter.swaps += swaps;
+    }
+
+    static void insertionSort(int[] array, int left, int right, Counter counter) {
+        long comparisons = 0;
+        long moves = 0;
+        boolean large = right - left >= MONITOR_GRANULARITY;
+        for (int i = left + 1; i <= right; i++) {
+            if (large && (i - left) % MONITOR_GRANULARITY == 0) {
+                counter.checkpoint(i - left, right - left + 1);
+            }
+            int value = array[i];
+            int j = i - 1;
+            while (j >= left) {
+                comparisons++;
+                if (array[j] <= value) {
+                    break;
+                }
+                array[j + 1] = array[j];
+                moves++;
+                j--;
+            }
+            if (j + 1 != i) {
+                array[j + 1] = value;
+                moves++;
+            }
+        }
+        counter.comparisons += comparisons;
+        counter.swaps += moves;
+    }
+
+    static void mergeSort(int[] array, int[] buffer, int left, int right, Counter counter) {
+        if (right - left < INSERTION_THRESHOLD) {
+            insertionSort(array, left, right, counter);
+            return;
+        }
+        if (right - left >= MONITOR_GRANULARITY) {
+            counter.checkCancelled();
+        }
+        int mid = (left + right) >>> 1;
+        mergeSort(array, buffer, left, mid, counter);
+        mergeSort(array, buffer, mid + 1, right, counter);
+        merge(array, buffer, left, mid, right, counter);
+    }
+
+    static void merge(int[] array, int[] buffer, int left, int mid, int right, Counter counter) {
+        // Metades já em ordem: uma comparação evita a cópia
+        counter.comparisons++;
+        if (array[mid] <= array[mid + 1]) {
+            return;
+        }
+
+        System.arraycopy(array, left, buffer, left, right - left + 1);
+        long comparisons = 0;
+        int i = left;
+        int j = mid + 1;
+        int k = left;
+        while (i <= mid && j <= right) {
+            comparisons++;
+            array[k++] = buffer[i] <= buffer[j] ? buffer[i++] : buffer[j++];
+        }
+        while (i <= mid) {
+            array[k++] = buffer[i++];
+        }
+        // O restante da metade direita já está no lugar
+        counter.comparisons += comparisons;
+        counter.swaps += k - left;
+    }
+
+    // Quicksort de dois pivôs (Yaroslavskiy), o mesmo esquema de Arrays.sort para primitivos
+    static void dualPivotQuickSort(int[] array, int left, int right, Counter counter) {
+        while (right - left >= INSERTION_THRESHOLD) {
+            if (right - left >= MONITOR_GRANULARITY) {
+                counter.checkCancelled();
+            }
+            // Pivôs nos tercis: entradas já ordenadas (ou invertidas) não degeneram para O(n²)
+            int third = (right - left) / 3;
+            swap(array, left, left + third, counter);
+            swap(array, right, right - third, counter);
+            counter.comparisons++;
+            if (array[left] > array[right]) {
+                swap(array, left, right, counter);
+            }
+            int pivot1 = array[left];
+            int pivot2 = array[right];
+
+            int less = left + 1;
+            int great = right - 1;
+            int k = less;
+            long comparisons = 0;
+            while (k <= great) {
+                comparisons++;
+                if (array[k] < pivot1) {
+                    swap(array, k, less++, counter);
+                } else {
+                    comparisons++;
+                    if (array[k] > pivot2) {
+                        while (k < great && array[great] > pivot2) {
+                            comparisons++;
+                            great--;
+                        }
+                        swap(array, k, great--, counter);
+                        comparisons++;
+                        if (array[k] < pivot1) {
+                            swap(array, k, less++, counter);
+                        }
+                    }
+                }
+                k++;
+            }
+            counter.comparisons += comparisons;
+
+            swap(array, left, --less, counter);
+            swap(array, right, ++great, counter);
+
+            // Recursão nas duas partes menores e laço na maior: cada chamada recursiva recebe no máximo metade
+            // do intervalo, então a profundidade da pilha fica em O(log n) mesmo com pivôs ruins.
+            // Com pivot1 == pivot2 a parte do meio só tem valores iguais aos pivôs e já está ordenada
+            int leftSize = less - left;
+            int middleSize = pivot1 < pivot2 ? great - less - 1 : 0;
+            int rightSize = right - great;
+            if (leftSize >= middleSize && leftSize >= rightSize) {
+                if (middleSize > 0) {
+                    dualPivotQuickSort(array, less + 1, great - 1, counter);
+                }
+                dualPivotQuickSort(array, great + 1, right, counter);
+                right = less - 1;
+            } else if (middleSize >= rightSize) {
+                dualPivotQuickSort(array, left, less - 1, counter);
+                dualPivotQuickSort(array, great + 1, right, counter);
+                left = less + 1;
+                right = great - 1;
+            } else {
+                dualPivotQuickSort(array, left, less - 1, counter);
+                if (middleSize > 0) {
+                    dualPivotQuickSort(array, less + 1, great - 1, counter);
+                }
+                left = great + 1;
+            }
+        }
+        insertionSort(array, left, right, counter);
+    }
+
+    // LSD com dígitos de 8 bits; o bit de sinal é invertido para ordenar negativos antes dos positivos
+    static void radixSort(int[] array, Counter counter) {
+        int n = array.length;
+        int[] buffer = new int[n];
+        int[] source = array;
+        int[] target = buffer;
+        int[] count = new int[257];
+
+        for (int shift = 0; shift < 32; shift += 8) {
+            counter.checkpoint((long) n * shift / 32, n);
+            Arrays.fill(count, 0);
+            for (int value : source) {
+                count[digit(value, shift) + 1]++;
+            }
+            // Todos os elementos com o mesmo dígito: a passada não mudaria nada
+            boolean trivial = false;
+            for (int d = 1; d <= 256; d++) {
+                if (count[d] == n) {
+                    trivial = true;
+                    break;
+                }
+            }
+            if (trivial) {
+                continue;
+            }
+
+            for (int d = 0; d < 256; d++) {
+                count[d + 1] += count[d];
+            }
+            for (int value : source) {
+                target[count[digit(value, shift)]++] = value;
+            }
+            counter.swaps += n;
+
+            int[] temp = source;
+            source = target;
+            target = temp;
+        }
+
+        if (source != array) {
+            System.arraycopy(source, 0, array, 0, n);
+            counter.swaps += n;
+        }
+    }
+
+    private static int digit(int value, int shift) {
+        return ((value ^ Integer.MIN_VALUE) >>> shift) & 0xFF;
+    }
+
+    private static void swap(int[] array, int i, int j, Counter counter) {
+        int temp = array[i];
+        array[i] = array[j];
+        array[j] = temp;
+        counter.swaps++;
+    }
+
+    /**
+     * Merge sort fork-join: as metades são ordenadas em paralelo até PARALLEL_LEAF_SIZE;
+     * cada tarefa tem seus próprios contadores, somados na junção
+     */
+    private static final class ParallelMergeTask extends RecursiveTask<Counter> {
+        private final int[] array;
+        private final int[] buffer;
+        private final int left;
+        private final int right;
+        private final Monitor monitor;
+
+        private ParallelMergeTask(int[] array, int[] buffer, int left, int right, Monitor monitor) {
+            this.array = array;
+            this.buffer = buffer;
+            this.left = left;
+            this.right = right;
+            this.monitor = monitor;
+        }
+
+        @Override
+        protected Counter compute() {
+            Counter counter = new Counter(monitor);
+            if (right - left < PARALLEL_LEAF_SIZE) {
+                mergeSort(array, buffer, left, right, counter);
+                return counter;
+            }
+
+            int mid = (left + right) >>> 1;
+            ParallelMergeTask leftTask = new ParallelMergeTask(array, buffer, left, mid, monitor);
+            leftTask.fork();
+            counter.add(new ParallelMergeTask(array, buffer, mid + 1, right, monitor).compute());
+            counter.add(leftTask.join());
+            merge(array, buffer, left, mid, right, counter);
+            return counter;
+        }
+    }
+
+    static final class Counter {
+        final Monitor monitor;
+        long comparisons;
+        long swaps;
+
+        Counter() {
+            this(Monitor.NONE);
+        }
+
+        Counter(Monitor monitor) {
+            this.monitor = monitor;
+        }
+
+        void checkCancelled() {
+            if (monitor.isCancelled()) {
+                throw new CancellationException("Ordenação cancelada");
+            }
+        }
+
+        void checkpoint(long completed, long total) {
+            checkCancelled();
+            monitor.progress(completed, total);
+        }
+
+        void add(Counter other) {
+            comparisons += other.comparisons;
+            swaps += other.swaps;
+        }
+    }
+}
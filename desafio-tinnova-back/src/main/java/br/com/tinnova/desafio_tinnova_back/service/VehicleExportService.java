@@ -0,0 +1,173 @@
+package br.com.tinnova.desafio_tinnova_back.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import br.com.tinnova.desafio_tinnova_back.dto.VehicleFilterDTO;
+import br.com.tinnova.desafio_tinnova_back.dto.VehicleResponseDTO;
+import br.com.tinnova.desafio_tinnova_back.repository.VehicleRepository;
+
+/**
+ * Exporta o inventário de veículos linha a linha, direto do cursor do banco para a resposta.
+ * Nenhuma lista é montada em memória: o consumo é constante, independente da quantidade de veículos.
+ */
+@Service
+public class VehicleExportService {
+    // Quantidade de linhas escritas entre cada flush para o cliente
+    static final int FLUSH_INTERVAL = 1000;
+
+    private static final String CSV_HEADER =
+        "id,plate,brandId,brandName,modelId,modelName,year,description,isSold,createdAt,updatedAt";
+
+    private final VehicleRepository vehicleRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ObjectWriter rowWriter;
+    private final ObjectMapper objectMapper;
+
+    public VehicleExportService(VehicleRepository vehicleRepository,
+                                PlatformTransactionManager transactionManager,
+                                ObjectMapper objectMapper) {
+        this.vehicleRepository = vehicleRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.objectMapper = objectMapper;
+        // O flush é controlado pelo exportador, não a cada linha serializada
+        this.rowWriter = objectMapper.writerFor(VehicleResponseDTO.class)
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    public enum ExportFormat {
+        NDJSON,
+        CSV;
+
+        public static ExportFormat fromString(String format) {
+            if (format == null || format.isBlank()) {
+                return NDJSON;
+            }
+            try {
+                return valueOf(format.trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Formato de exportação inválido: " + format + ". Use ndjson ou csv");
+            }
+        }
+    }
+
+    /**
+     * Escreve os veículos que atendem ao filtro no formato solicitado
+     * @param format Formato de saída (NDJSON ou CSV)
+     * @param filter Filtros opcionais
+     * @param out Stream de saída (não é fechado pelo método)
+     * @return A quantidade de veículos exportados
+     */
+    public long export(ExportFormat format, VehicleFilterDTO filter, OutputStream out) {
+        VehicleFilterDTO criteria = filter != null ? filter : new VehicleFilterDTO();
+
+        Long exported = readOnlyTransaction.execute(status -> {
+            try (Stream<VehicleResponseDTO> rows = vehicleRepository.streamForExport(
+                    criteria.getBrandId(),
+                    criteria.getModelId(),
+                    criteria.getYearFrom(),
+                    criteria.getYearTo(),
+                    criteria.getIsSold())) {
+                return format == ExportFormat.CSV ? writeCsv(rows, out) : writeNdjson(rows, out);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Falha ao exportar veículos", e);
+            }
+        });
+
+        return exported != null ? exported : 0L;
+    }
+
+    private long writeNdjson(Stream<VehicleResponseDTO> rows, OutputStream out) throws IOException {
+        long count = 0;
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+        for (VehicleResponseDTO row : (Iterable<VehicleResponseDTO>) rows::iterator) {
+            rowWriter.writeValue(generator, row);
+            generator.writeRaw('\n');
+            if (++count % FLUSH_INTERVAL == 0) {
+                generator.flush();
+            }
+        }
+
+        generator.close();
+        return count;
+    }
+
+    private long writeCsv(Stream<VehicleResponseDTO> rows, OutputStream out) throws IOException {
+        long count = 0;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+
+        StringBuilder line = new StringBuilder(256);
+        for (VehicleResponseDTO row : (Iterable<VehicleResponseDTO>) rows::iterator) {
+            line.setLength(0);
+            line.append(row.getId()).append(',');
+            appendCsvField(line, row.getPlate()).append(',');
+            line.append(row.getBrandId()).append(',');
+            appendCsvField(line, row.getBrandName()).append(',');
+            line.append(row.getModelId()).append(',');
+            appendCsvField(line, row.getModelName()).append(',');
+            line.append(row.getYear()).append(',');
+            appendCsvField(line, row.getDescription()).append(',');
+            line.append(row.getIsSold()).append(',');
+            appendCsvField(line, row.getCreatedAt() != null ? row.getCreatedAt().toString() : null).append(',');
+            appendCsvField(line, row.getUpdatedAt() != null ? row.getUpdatedAt().toString() : null).append('\n');
+            writer.append(line);
+
+            if (++count % FLUSH_INTERVAL == 0) {
+                writer.flush();
+            }
+        }
+
+        writer.flush();
+        return count;
+    }
+
+    // Aplica as regras de escape do RFC 4180 apenas quando necessário
+    static StringBuilder appendCsvField(StringBuilder line, String value) {
+        if (value == null) {
+            return line;
+        }
+
+        boolean needsQuotes = false;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                needsQuotes = true;
+                break;
+            }
+        }
+
+        if (!needsQuotes) {
+            return line.append(value);
+        }
+
+        line.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                line.append('"');
+            }
+            line.append(c);
+        }
+        return line.append('"');
+    }
+}
@@ -0,0 +1,386 @@
+package br.com.tinnova.desafio_tinnova_back.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import br.com.tinnova.desafio_tinnova_back.cache.CatalogCache;
+import br.com.tinnova.desafio_tinnova_back.dto.BrandDTO;
+import br.com.tinnova.desafio_tinnova_back.dto.ModelDTO;
+import br.com.tinnova.desafio_tinnova_back.dto.VehicleCreateDTO;
+import br.com.tinnova.desafio_tinnova_back.dto.VehicleImportResultDTO;
+import br.com.tinnova.desafio_tinnova_back.dto.VehicleImportRowResultDTO;
+import br.com.tinnova.desafio_tinnova_back.dto.VehicleImportRowResultDTO.Status;
+import br.com.tinnova.desafio_tinnova_back.entity.Vehicle;
+import br.com.tinnova.desafio_tinnova_back.repository.BrandRepository;
+import br.com.tinnova.desafio_tinnova_back.repository.ModelRepository;
+import br.com.tinnova.desafio_tinnova_back.repository.VehicleRepository;
+import br.com.tinnova.desafio_tinnova_back.service.VehicleStatisticsService.VehicleSnapshot;
+import br.com.tinnova.desafio_tinnova_back.util.PlateCodeSet;
+import br.com.tinnova.desafio_tinnova_back.util.PlateCodec;
+import br.com.tinnova.desafio_tinnova_back.util.PlateValidator;
+import br.com.tinnova.desafio_tinnova_back.util.RecordReader;
+import br.com.tinnova.desafio_tinnova_back.util.RecordReader.RecordTooLongException;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Importação em massa de veículos a partir de um array JSON ou de um CSV.
+ * A entrada é lida de forma incremental e processada em blocos: cada bloco é validado contra o
+ * catálogo em memória, verifica placas já cadastradas com uma única consulta e é gravado em uma
+ * transação com INSERTs em batch. Se o bloco falhar, as linhas são regravadas uma a uma para
+ * identificar exatamente quais falharam. O relatório lista no máximo MAX_REPORTED_FAILURES linhas com
+ * falha; as contagens de importadas e falhas consideram todas as linhas.
+ */
+@Service
+public class VehicleImportService {
+    static final int CHUNK_SIZE = 500;
+    static final int MAX_REPORTED_FAILURES = 1_000;
+    static final List<String> CSV_COLUMNS = List.of("plate", "brandId", "modelId", "year", "description", "isSold");
+
+    private final VehicleRepository vehicleRepository;
+    private final BrandRepository brandRepository;
+    private final ModelRepository modelRepository;
+    private final VehicleStatisticsService vehicleStatisticsService;
+    private final CatalogCache catalogCache;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transaction;
+    private final ObjectMapper objectMapper;
+    private final ObjectReader rowReader;
+
+    public VehicleImportService(VehicleRepository vehicleRepository,
+                                BrandRepository brandRepository,
+                                ModelRepository modelRepository,
+                                VehicleStatisticsService vehicleStatisticsService,
+                                CatalogCache catalogCache,
+                                EntityManager entityManager,
+                                PlatformTransactionManager transactionManager,
+                                ObjectMapper objectMapper) {
+        this.vehicleRepository = vehicleRepository;
+        this.brandRepository = brandRepository;
+        this.modelRepository = modelRepository;
+        this.vehicleStatisticsService = vehicleStatisticsService;
+        this.catalogCache = catalogCache;
+        this.entityManager = entityManager;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.rowReader = objectMapper.readerFor(VehicleCreateDTO.class);
+    }
+
+    /**
+     * Importa veículos de um array JSON no formato de VehicleCreateDTO
+     * @param input Corpo da requisição; lido elemento a elemento, sem carregar o array inteiro
+     * @return O relatório com o resultado de cada linha
+     */
+    public VehicleImportResultDTO importJson(InputStream input) throws IOException {
+        ImportContext context = new ImportContext();
+
+        try (JsonParser parser = objectMapper.createParser(input)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalArgumentException("O corpo da importação deve ser um array JSON");
+            }
+
+            long rowNumber = 0;
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token == null) {
+                    throw new IllegalArgumentException("Array JSON incompleto");
+                }
+                rowNumber++;
+                // Cada elemento vira uma árvore antes do mapeamento: um campo com tipo errado invalida só a linha
+                JsonNode node = objectMapper.readTree(parser);
+                try {
+                    context.add(rowNumber, rowReader.readValue(node));
+                } catch (JsonMappingException e) {
+                    context.fail(rowNumber, node.path("plate").asText(null), "Linha com formato inválido: " + e.getOriginalMessage());
+                }
+            }
+        } catch (JsonParseException e) {
+            throw new IllegalArgumentException("JSON inválido: " + e.getOriginalMessage());
+        }
+
+        return context.finish();
+    }
+
+    /**
+     * Importa veículos de um CSV com cabeçalho. As colunas reconhecidas são
+     * plate, brandId, modelId, year, description e isSold (em qualquer ordem).
+     * @param input Corpo da requisição em UTF-8; lido registro a registro, com até
+     *              RecordReader.DEFAULT_MAX_RECORD_LENGTH caracteres por registro (registros maiores são rejeitados)
+     * @return O relatório com o resultado de cada linha
+     */
+    public VehicleImportResultDTO importCsv(InputStream input) throws IOException {
+        ImportContext context = new ImportContext();
+
+        try (RecordReader reader = new RecordReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            List<String> header = reader.readCsvRecord();
+            if (header == null) {
+                return context.finish();
+            }
+
+            Map<String, Integer> columns = new HashMap<>();
+            for (int i = 0; i < header.size(); i++) {
+                columns.put(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+            }
+            if (!columns.containsKey("plate")) {
+                throw new IllegalArgumentException("Cabeçalho do CSV deve conter as colunas " + String.join(",", CSV_COLUMNS));
+            }
+
+            long rowNumber = 0;
+            while (true) {
+                List<String> record;
+                try {
+                    record = reader.readCsvRecord();
+                } catch (RecordTooLongException e) {
+                    context.fail(++rowNumber, null, e.getMessage());
+                    continue;
+                }
+                if (record == null) {
+                    break;
+                }
+                if (record.size() == 1 && record.get(0).isBlank()) {
+                    continue;
+                }
+                rowNumber++;
+                try {
+                    context.add(rowNumber, toCreateDTO(record, columns));
+                } catch (IllegalArgumentException e) {
+                    context.fail(rowNumber, csvValue(record, columns, "plate"), e.getMessage());
+                }
+            }
+        }
+
+        return context.finish();
+    }
+
+    private VehicleCreateDTO toCreateDTO(List<String> record, Map<String, Integer> columns) {
+        VehicleCreateDTO dto = new VehicleCreateDTO();
+        dto.setPlate(csvValue(record, columns, "plate"));
+        dto.setBrandId(parseLong(csvValue(record, columns, "brandid"), "brandId"));
+        dto.setModelId(parseLong(csvValue(record, columns, "modelid"), "modelId"));
+        dto.setYear(parseInteger(csvValue(record, columns, "year"), "year"));
+        dto.setDescription(csvValue(record, columns, "description"));
+        String isSold = csvValue(record, columns, "issold");
+        dto.setIsSold(isSold == null ? null : Boolean.parseBoolean(isSold.trim()));
+        return dto;
+    }
+
+    private static String csvValue(List<String> record, Map<String, Integer> columns, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= record.size()) {
+            return null;
+        }
+        String value = record.get(index);
+        return value.isEmpty() ? null : value;
+    }
+
+    private static Long parseLong(String value, String column) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Long.valueOf(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Valor inválido para " + column + ": " + value);
+        }
+    }
+
+    private static Integer parseInteger(String value, String column) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Valor inválido para " + column + ": " + value);
+        }
+    }
+
+    private record ImportRow(long rowNumber, VehicleCreateDTO data) {
+    }
+
+    private record ValidRow(long rowNumber, String plate, VehicleCreateDTO data, Long brandId, Long modelId) {
+    }
+
+    /**
+     * Estado de uma importação: acumula as linhas do bloco corrente e o relatório
+     */
+    private final class ImportContext {
+        private final long startNanos = System.nanoTime();
+        private final List<ImportRow> chunk = new ArrayList<>(CHUNK_SIZE);
+        private final List<VehicleImportRowResultDTO> report = new ArrayList<>();
+        // Placas já vistas no arquivo (codificadas em int), para rejeitar duplicatas sem consultar o banco
+        private final PlateCodeSet seenPlates = new PlateCodeSet(CHUNK_SIZE);
+        private long imported;
+        private long failed;
+
+        void add(long rowNumber, VehicleCreateDTO data) {
+            chunk.add(new ImportRow(rowNumber, data));
+            if (chunk.size() >= CHUNK_SIZE) {
+                flushChunk();
+            }
+        }
+
+        void fail(long rowNumber, String plate, String message) {
+            // Só as primeiras falhas entram no relatório: um arquivo inteiro inválido não cresce a resposta sem limite
+            if (failed < MAX_REPORTED_FAILURES) {
+                report.add(new VehicleImportRowResultDTO(rowNumber, plate, Status.FAILED, null, message));
+            }
+            failed++;
+        }
+
+        void succeed(ValidRow row, Long vehicleId) {
+            report.add(new VehicleImportRowResultDTO(row.rowNumber(), row.plate(), Status.IMPORTED, vehicleId, null));
+            imported++;
+        }
+
+        VehicleImportResultDTO finish() {
+            flushChunk();
+
+            report.sort((a, b) -> Long.compare(a.getRowNumber(), b.getRowNumber()));
+            long totalRows = imported + failed;
+            double elapsedMs = (System.nanoTime() - startNanos) / 1_000_000.0;
+            double rowsPerSecond = elapsedMs > 0 ? totalRows * 1000.0 / elapsedMs : 0;
+            return new VehicleImportResultDTO(totalRows, imported, failed, elapsedMs, rowsPerSecond, report);
+        }
+
+        private void flushChunk() {
+            if (chunk.isEmpty()) {
+                return;
+            }
+
+            List<ValidRow> valid = validate(chunk);
+            chunk.clear();
+            if (valid.isEmpty()) {
+                return;
+            }
+
+            // Uma única consulta por bloco para as placas que já existem no banco
+            Set<String> existing = new HashSet<>(vehicleRepository.findExistingPlates(
+                valid.stream().map(ValidRow::plate).toList()));
+            List<ValidRow> toInsert = new ArrayList<>(valid.size());
+            for (ValidRow row : valid) {
+                if (existing.contains(row.plate())) {
+                    fail(row.rowNumber(), row.plate(), "Placa já cadastrada: " + row.plate());
+                } else {
+                    toInsert.add(row);
+                }
+            }
+            if (toInsert.isEmpty()) {
+                return;
+            }
+
+            try {
+                List<Long> ids = transaction.execute(status -> insert(toInsert));
+                for (int i = 0; i < toInsert.size(); i++) {
+                    succeed(toInsert.get(i), ids.get(i));
+                }
+            } catch (RuntimeException e) {
+                // Alguma linha violou uma restrição (por exemplo, placa inserida em paralelo):
+                // regrava uma a uma para reportar somente as linhas com problema
+                for (ValidRow row : toInsert) {
+                    try {
+                        List<Long> ids = transaction.execute(status -> insert(List.of(row)));
+                        succeed(row, ids.get(0));
+                    } catch (RuntimeException rowError) {
+                        fail(row.rowNumber(), row.plate(), "Falha ao criar veículo: " + rootMessage(rowError));
+                    }
+                }
+            }
+        }
+
+        private List<ValidRow> validate(List<ImportRow> rows) {
+            List<ValidRow> valid = new ArrayList<>(rows.size());
+            for (ImportRow row : rows) {
+                VehicleCreateDTO data = row.data();
+                String plate = data == null ? null : data.getPlate();
+
+                String normalizedPlate = PlateValidator.validateAndNormalize(plate);
+                if (normalizedPlate == null) {
+                    fail(row.rowNumber(), plate, "Placa inválida. Use o formato brasileiro (AAA-9999) ou Mercosul (AAA-9A99)");
+                    continue;
+                }
+
+                BrandDTO brand = catalogCache.findBrand(data.getBrandId()).orElse(null);
+                if (brand == null) {
+                    fail(row.rowNumber(), normalizedPlate, "Marca não encontrada com ID: " + data.getBrandId());
+                    continue;
+                }
+                ModelDTO model = catalogCache.findModel(data.getModelId()).orElse(null);
+                if (model == null) {
+                    fail(row.rowNumber(), normalizedPlate, "Modelo não encontrado com ID: " + data.getModelId());
+                    continue;
+                }
+                if (!brand.getId().equals(model.getBrandId())) {
+                    fail(row.rowNumber(), normalizedPlate, "Modelo " + model.getId() + " não pertence à marca " + brand.getId());
+                    continue;
+                }
+                if (data.getYear() == null) {
+                    fail(row.rowNumber(), normalizedPlate, "Ano é obrigatório");
+                    continue;
+                }
+                if (!seenPlates.add(PlateCodec.encode(normalizedPlate))) {
+                    fail(row.rowNumber(), normalizedPlate, "Placa duplicada no arquivo: " + normalizedPlate);
+                    continue;
+                }
+
+                valid.add(new ValidRow(row.rowNumber(), normalizedPlate, data, brand.getId(), model.getId()));
+            }
+            return valid;
+        }
+
+        private List<Long> insert(List<ValidRow> rows) {
+            List<Vehicle> vehicles = new ArrayList<>(rows.size());
+            for (ValidRow row : rows) {
+                Vehicle vehicle = new Vehicle();
+                vehicle.setPlate(row.plate());
+                vehicle.setBrand(brandRepository.getReferenceById(row.brandId()));
+                vehicle.setModel(modelRepository.getReferenceById(row.modelId()));
+                vehicle.setYear(row.data().getYear());
+                vehicle.setDescription(row.data().getDescription());
+                vehicle.setIsSold(Boolean.TRUE.equals(row.data().getIsSold()));
+                vehicles.add(vehicle);
+            }
+
+            vehicleRepository.saveAll(vehicles);
+            // Envia os INSERTs em batch e libera o contexto de persistência para o próximo bloco
+            entityManager.flush();
+            entityManager.clear();
+
+            List<Long> ids = new ArrayList<>(vehicles.size());
+            for (Vehicle vehicle : vehicles) {
+                ids.add(vehicle.getId());
+                vehicleStatisticsService.recordCreated(VehicleSnapshot.of(vehicle));
+            }
+            return ids;
+        }
+    }
+
+    private static String rootMessage(Throwable error) {
+        Throwable root = error;
+        while (root.getCause() != null && root.getCause() != root) {
+            root = root.getCause();
+        }
+        return root.getMessage();
+    }
+}
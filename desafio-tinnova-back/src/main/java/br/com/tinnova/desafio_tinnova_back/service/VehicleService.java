@@ -1,17 +1,27 @@
 package br.com.tinnova.desafio_tinnova_back.service;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import br.com.tinnova.desafio_tinnova_back.cache.CatalogCache;
+import br.com.tinnova.desafio_tinnova_back.dto.BrandDTO;
+import br.com.tinnova.desafio_tinnova_back.dto.ModelDTO;
 import br.com.tinnova.desafio_tinnova_back.dto.VehicleBrandDTO;
 import br.com.tinnova.desafio_tinnova_back.dto.VehicleCreateDTO;
+import br.com.tinnova.desafio_tinnova_back.dto.VehicleFilterDTO;
 import br.com.tinnova.desafio_tinnova_back.dto.VehicleModelDTO;
+import br.com.tinnova.desafio_tinnova_back.dto.VehiclePageDTO;
 import br.com.tinnova.desafio_tinnova_back.dto.VehicleResponseDTO;
+import br.com.tinnova.desafio_tinnova_back.dto.VehicleStatisticsDTO;
+import br.com.tinnova.desafio_tinnova_back.dto.VehicleStatisticsStateDTO;
 import br.com.tinnova.desafio_tinnova_back.dto.VehicleUpdateDTO;
 import br.com.tinnova.desafio_tinnova_back.entity.Brand;
 import br.com.tinnova.desafio_tinnova_back.entity.Model;
@@ -19,18 +29,32 @@ import br.com.tinnova.desafio_tinnova_back.entity.Vehicle;
 import br.com.tinnova.desafio_tinnova_back.repository.BrandRepository;
 import br.com.tinnova.desafio_tinnova_back.repository.ModelRepository;
 import br.com.tinnova.desafio_tinnova_back.repository.VehicleRepository;
+import br.com.tinnova.desafio_tinnova_back.service.VehicleStatisticsService.VehicleSnapshot;
 import br.com.tinnova.desafio_tinnova_back.util.PlateValidator;
 
 @Service
 public class VehicleService {
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+    public static final int DEFAULT_SEARCH_LIMIT = 10;
+    public static final int MAX_SEARCH_LIMIT = 50;
+
+    // Tentativas do PATCH sem versão do cliente quando outra escrita muda a versão lida para as estatísticas
+    static final int MAX_PARTIAL_UPDATE_ATTEMPTS = 3;
+
     private final VehicleRepository vehicleRepository;
     private final BrandRepository brandRepository;
     private final ModelRepository modelRepository;
+    private final VehicleStatisticsService vehicleStatisticsService;
+    private final CatalogCache catalogCache;
 
-    public VehicleService(VehicleRepository vehicleRepository, BrandRepository brandRepository, ModelRepository modelRepository) {
+    public VehicleService(VehicleRepository vehicleRepository, BrandRepository brandRepository, ModelRepository modelRepository,
+                          VehicleStatisticsService vehicleStatisticsService, CatalogCache catalogCache) {
         this.vehicleRepository = vehicleRepository;
         this.brandRepository = brandRepository;
         this.modelRepository = modelRepository;
+        this.vehicleStatisticsService = vehicleStatisticsService;
+        this.catalogCache = catalogCache;
     }
 
     public List<Vehicle> listAllVehicles() {
@@ -44,7 +68,77 @@ public class VehicleService {
             .collect(Collectors.toList());
     }
 
-    private VehicleResponseDTO convertToResponseDTO(Vehicle vehicle) {
+    /**
+     * Lista veículos paginados por cursor (keyset sobre o id), aplicando os filtros no banco.
+     * O custo de cada página não depende da quantidade de páginas anteriores. A ordem é a do id, que não
+     * acompanha a data de criação: cada sessão reserva ids em blocos (pooled-lo), intercalados entre instâncias.
+     * @param cursor Id do último veículo da página anterior (null para a primeira página)
+     * @param size Quantidade de itens por página (limitada a MAX_PAGE_SIZE)
+     * @param filter Filtros opcionais por marca, modelo, faixa de ano e status de venda
+     * @return A página com os veículos e o cursor da próxima página
+     */
+    @Transactional(readOnly = true)
+    public VehiclePageDTO listVehiclesPage(Long cursor, Integer size, VehicleFilterDTO filter) {
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        VehicleFilterDTO criteria = filter != null ? filter : new VehicleFilterDTO();
+
+        if (criteria.getYearFrom() != null && criteria.getYearTo() != null
+                && criteria.getYearFrom() > criteria.getYearTo()) {
+            throw new IllegalArgumentException("Ano inicial não pode ser maior que o ano final");
+        }
+
+        // Busca um item a mais para saber se existe próxima página sem precisar de COUNT
+        List<VehicleResponseDTO> rows = vehicleRepository.findPageAfterCursor(cursor, criteria, pageSize + 1);
+
+        boolean hasNext = rows.size() > pageSize;
+        List<VehicleResponseDTO> content = hasNext ? rows.subList(0, pageSize) : rows;
+        Long nextCursor = hasNext ? content.get(content.size() - 1).getId() : null;
+
+        return new VehiclePageDTO(content, content.size(), hasNext, nextCursor);
+    }
+
+    /**
+     * Busca veículos por prefixo de placa, texto da descrição e filtros (pensada para typeahead).
+     * Cada critério informado vira um predicado coberto por índice; os ausentes não entram no SQL.
+     * @param plate Prefixo da placa (ex.: "ABC-1"); caracteres fora de A-Z, 0-9 e '-' são ignorados
+     * @param text Termos a buscar na descrição, sem diferenciar maiúsculas
+     * @param filter Filtros opcionais por marca, modelo, faixa de ano e status de venda
+     * @param limit Quantidade máxima de resultados (limitada a MAX_SEARCH_LIMIT)
+     * @return Os veículos encontrados
+     */
+    @Transactional(readOnly = true)
+    public List<VehicleResponseDTO> searchVehicles(String plate, String text, VehicleFilterDTO filter, Integer limit) {
+        int maxResults = limit == null ? DEFAULT_SEARCH_LIMIT : Math.min(Math.max(limit, 1), MAX_SEARCH_LIMIT);
+        VehicleFilterDTO criteria = filter != null ? filter : new VehicleFilterDTO();
+
+        if (criteria.getYearFrom() != null && criteria.getYearTo() != null
+                && criteria.getYearFrom() > criteria.getYearTo()) {
+            throw new IllegalArgumentException("Ano inicial não pode ser maior que o ano final");
+        }
+
+        String platePrefix = normalizePlatePrefix(plate);
+        String searchText = text == null || text.isBlank() ? null : text.trim();
+
+        return vehicleRepository.search(platePrefix, searchText, criteria, maxResults);
+    }
+
+    // Placas são gravadas normalizadas; remover '%' e '_' também evita curingas no LIKE
+    static String normalizePlatePrefix(String plate) {
+        if (plate == null) {
+            return null;
+        }
+        StringBuilder prefix = new StringBuilder(plate.length());
+        for (int i = 0; i < plate.length(); i++) {
+            char c = Character.toUpperCase(plate.charAt(i));
+            if ((c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '-') {
+                prefix.append(c);
+            }
+        }
+        return prefix.length() == 0 ? null : prefix.toString();
+    }
+
+    // Package-private para os benchmarks de mapeamento (src/jmh)
+    VehicleResponseDTO convertToResponseDTO(Vehicle vehicle) {
         return new VehicleResponseDTO(
             vehicle.getId(),
             vehicle.getPlate(),
@@ -60,22 +154,22 @@ public class VehicleService {
         );
     }
 
+    @Transactional
     public Vehicle createVehicle(VehicleCreateDTO vehicleDTO) {
-        // Validar a placa
-        if (!PlateValidator.isValidPlate(vehicleDTO.getPlate())) {
+        // Validar e normalizar a placa em uma única passada
+        String normalizedPlate = PlateValidator.validateAndNormalize(vehicleDTO.getPlate());
+        if (normalizedPlate == null) {
             throw new RuntimeException("Placa inválida. Use o formato brasileiro (AAA-9999) ou Mercosul (AAA-9A99)");
         }
         
-        // Normalizar a placa
-        String normalizedPlate = PlateValidator.normalizePlate(vehicleDTO.getPlate());
-        
-        // Buscar a marca
-        Brand brand = brandRepository.findById(vehicleDTO.getBrandId())
+        // Validar marca e modelo no catálogo em memória e usar referências (sem SELECT)
+        BrandDTO brandInfo = catalogCache.findBrand(vehicleDTO.getBrandId())
             .orElseThrow(() -> new RuntimeException("Marca não encontrada com ID: " + vehicleDTO.getBrandId()));
+        Brand brand = brandRepository.getReferenceById(brandInfo.getId());
         
-        // Buscar o modelo
-        Model model = modelRepository.findById(vehicleDTO.getModelId())
+        ModelDTO modelInfo = catalogCache.findModel(vehicleDTO.getModelId())
             .orElseThrow(() -> new RuntimeException("Modelo não encontrado com ID: " + vehicleDTO.getModelId()));
+        Model model = modelRepository.getReferenceById(modelInfo.getId());
         
         // Criar o veículo
         Vehicle vehicle = new Vehicle();
@@ -89,26 +183,35 @@ public class VehicleService {
         vehicle.setIsSold(Boolean.TRUE.equals(isSold));
         
         try {
-            return vehicleRepository.save(vehicle);
+            // Com ids de sequência o INSERT é adiado até o flush; força-o aqui para detectar placa duplicada
+            Vehicle savedVehicle = vehicleRepository.saveAndFlush(vehicle);
+            vehicleStatisticsService.recordCreated(VehicleSnapshot.of(savedVehicle));
+            return savedVehicle;
         } catch (DataIntegrityViolationException e) {
             throw new RuntimeException("Falha ao criar veículo: " + e.getMessage(), e);
         }
     }
 
+    @Transactional
     public Vehicle createVehicle(Vehicle vehicle) {
         vehicle.setId(null);
+        // Sem versão o Spring Data trata a entidade como nova (persist em vez de merge)
+        vehicle.setVersion(null);
 
         if (vehicle.getIsSold() == null) {
             vehicle.setIsSold(false);
         }
         
         try {
-            return vehicleRepository.save(vehicle);
+            Vehicle savedVehicle = vehicleRepository.saveAndFlush(vehicle);
+            vehicleStatisticsService.recordCreated(VehicleSnapshot.of(savedVehicle));
+            return savedVehicle;
         } catch (DataIntegrityViolationException e) {
             throw new RuntimeException("Falha ao criar veículo: " + e.getMessage(), e);
         }
     }
 
+    @Transactional
     public Vehicle updateVehicle(Long id, VehicleUpdateDTO vehicleDTO) {
         Optional<Vehicle> existingVehicleOpt = vehicleRepository.findById(id);
         if (!existingVehicleOpt.isPresent()) {
@@ -116,28 +219,32 @@ public class VehicleService {
         }
 
         Vehicle existingVehicle = existingVehicleOpt.get();
+        if (vehicleDTO.getVersion() != null && !vehicleDTO.getVersion().equals(existingVehicle.getVersion())) {
+            throw versionConflict(id);
+        }
+        VehicleSnapshot before = VehicleSnapshot.of(existingVehicle);
         
         // Validar e atualizar a placa se fornecida
         if (vehicleDTO.getPlate() != null && !vehicleDTO.getPlate().trim().isEmpty()) {
-            if (!PlateValidator.isValidPlate(vehicleDTO.getPlate())) {
+            String normalizedPlate = PlateValidator.validateAndNormalize(vehicleDTO.getPlate());
+            if (normalizedPlate == null) {
                 throw new RuntimeException("Placa inválida. Use o formato brasileiro (AAA-9999) ou Mercosul (AAA-9A99)");
             }
-            String normalizedPlate = PlateValidator.normalizePlate(vehicleDTO.getPlate());
             existingVehicle.setPlate(normalizedPlate);
         }
         
         // Validar e definir o modelo
         if (vehicleDTO.getModelId() != null) {
-            Model model = modelRepository.findById(vehicleDTO.getModelId())
+            ModelDTO modelInfo = catalogCache.findModel(vehicleDTO.getModelId())
                 .orElseThrow(() -> new RuntimeException("Modelo não encontrado com id: " + vehicleDTO.getModelId()));
-            existingVehicle.setModel(model);
+            existingVehicle.setModel(modelRepository.getReferenceById(modelInfo.getId()));
         }
         
         // Validar e definir a marca
         if (vehicleDTO.getBrandId() != null) {
-            Brand brand = brandRepository.findById(vehicleDTO.getBrandId())
+            BrandDTO brandInfo = catalogCache.findBrand(vehicleDTO.getBrandId())
                 .orElseThrow(() -> new RuntimeException("Marca não encontrada com id: " + vehicleDTO.getBrandId()));
-            existingVehicle.setBrand(brand);
+            existingVehicle.setBrand(brandRepository.getReferenceById(brandInfo.getId()));
         }
         
         if (vehicleDTO.getYear() != null) {
@@ -153,73 +260,147 @@ public class VehicleService {
         }
 
         try {
-            return vehicleRepository.save(existingVehicle);
+            // Flush aqui para a placa duplicada chegar a este catch, e não ao commit
+            Vehicle savedVehicle = vehicleRepository.saveAndFlush(existingVehicle);
+            vehicleStatisticsService.recordUpdated(before, VehicleSnapshot.of(savedVehicle));
+            return savedVehicle;
         } catch (DataIntegrityViolationException e) {
             throw new RuntimeException("Falha ao atualizar veículo: " + e.getMessage(), e);
         }
     }
 
+    /**
+     * Atualização parcial em um único UPDATE com apenas as colunas informadas, sem carregar o veículo.
+     * Marca e modelo são validados no catálogo em memória e gravados como referências. Só quando a alteração
+     * muda as estatísticas (marca, ano ou vendido) o estado anterior é lido antes, e o UPDATE passa a exigir
+     * a versão lida; se o cliente não informou versão e outra escrita passar na frente, a leitura e o UPDATE
+     * são repetidos (a última tentativa trava a linha). Depois do UPDATE o veículo é relido para a resposta;
+     * sem campos a alterar não há UPDATE.
+     * @param id O id do veículo
+     * @param vehicleDTO Os campos a alterar (os nulos são mantidos) e, opcionalmente, a versão esperada
+     * @return O veículo atualizado
+     * @throws OptimisticLockingFailureException se o veículo foi alterado depois da versão informada pelo cliente
+     */
+    @Transactional
     public Vehicle partialUpdateVehicle(Long id, VehicleUpdateDTO vehicleDTO) {
-        Optional<Vehicle> existingVehicleOpt = vehicleRepository.findById(id);
-        if (!existingVehicleOpt.isPresent()) {
-            throw new RuntimeException("Veículo não encontrado com id: " + id);
-        }
+        // Ordem fixa das colunas: o mesmo conjunto de campos gera sempre o mesmo SQL
+        Map<String, Object> changes = new LinkedHashMap<>();
 
-        Vehicle existingVehicle = existingVehicleOpt.get();
-        
-        // Atualizar apenas os campos que não são null no objeto recebido
         if (vehicleDTO.getPlate() != null && !vehicleDTO.getPlate().trim().isEmpty()) {
-            if (!PlateValidator.isValidPlate(vehicleDTO.getPlate())) {
+            String normalizedPlate = PlateValidator.validateAndNormalize(vehicleDTO.getPlate());
+            if (normalizedPlate == null) {
                 throw new RuntimeException("Placa inválida. Use o formato brasileiro (AAA-9999) ou Mercosul (AAA-9A99)");
             }
-            String normalizedPlate = PlateValidator.normalizePlate(vehicleDTO.getPlate());
-            existingVehicle.setPlate(normalizedPlate);
+            changes.put("plate", normalizedPlate);
         }
         
         if (vehicleDTO.getModelId() != null) {
-            Model model = modelRepository.findById(vehicleDTO.getModelId())
+            ModelDTO modelInfo = catalogCache.findModel(vehicleDTO.getModelId())
                 .orElseThrow(() -> new RuntimeException("Modelo não encontrado com id: " + vehicleDTO.getModelId()));
-            existingVehicle.setModel(model);
+            changes.put("model", modelRepository.getReferenceById(modelInfo.getId()));
         }
         
         if (vehicleDTO.getBrandId() != null) {
-            Brand brand = brandRepository.findById(vehicleDTO.getBrandId())
+            BrandDTO brandInfo = catalogCache.findBrand(vehicleDTO.getBrandId())
                 .orElseThrow(() -> new RuntimeException("Marca não encontrada com id: " + vehicleDTO.getBrandId()));
-            existingVehicle.setBrand(brand);
+            changes.put("brand", brandRepository.getReferenceById(brandInfo.getId()));
         }
         
         if (vehicleDTO.getYear() != null && vehicleDTO.getYear() != 0) {
-            existingVehicle.setYear(vehicleDTO.getYear());
+            changes.put("year", vehicleDTO.getYear());
         }
         
         if (vehicleDTO.getDescription() != null) {
-            existingVehicle.setDescription(vehicleDTO.getDescription());
+            changes.put("description", vehicleDTO.getDescription());
         }
 
         if (vehicleDTO.getIsSold() != null) {
-            existingVehicle.setIsSold(vehicleDTO.getIsSold());
+            changes.put("isSold", vehicleDTO.getIsSold());
         }
 
-        try {
-            return vehicleRepository.save(existingVehicle);
-        } catch (DataIntegrityViolationException e) {
-            throw new RuntimeException("Falha ao atualizar parcialmente veículo: " + e.getMessage(), e);
+        if (changes.isEmpty()) {
+            // Nada a alterar: devolve o veículo como está
+            return getVehicle(id);
+        }
+
+        // Estatísticas dependem do estado anterior: lido antes e travado pela versão no UPDATE
+        boolean affectsStatistics = changes.containsKey("brand") || changes.containsKey("year") || changes.containsKey("isSold");
+        Long requestedVersion = vehicleDTO.getVersion();
+        VehicleSnapshot before = null;
+        for (int attempt = 1; ; attempt++) {
+            Long expectedVersion = requestedVersion;
+            if (affectsStatistics) {
+                // Na última tentativa a linha é travada na leitura, então o UPDATE não perde mais a disputa
+                boolean lastAttempt = attempt == MAX_PARTIAL_UPDATE_ATTEMPTS;
+                VehicleStatisticsStateDTO state = (lastAttempt
+                        ? vehicleRepository.findStatisticsStateByIdForUpdate(id)
+                        : vehicleRepository.findStatisticsStateById(id))
+                    .orElseThrow(() -> new RuntimeException("Veículo não encontrado com id: " + id));
+                if (requestedVersion != null && !requestedVersion.equals(state.getVersion())) {
+                    throw versionConflict(id);
+                }
+                expectedVersion = state.getVersion();
+                before = new VehicleSnapshot(state.getBrandId(), state.getYear(), Boolean.TRUE.equals(state.getIsSold()), state.getCreatedAt());
+            }
+
+            int updated;
+            try {
+                updated = vehicleRepository.partialUpdate(id, expectedVersion, changes);
+            } catch (DataIntegrityViolationException e) {
+                throw new RuntimeException("Falha ao atualizar parcialmente veículo: " + e.getMessage(), e);
+            }
+            if (updated > 0) {
+                break;
+            }
+
+            if (expectedVersion == null || !vehicleRepository.existsById(id)) {
+                throw new RuntimeException("Veículo não encontrado com id: " + id);
+            }
+            // 409 só quando o cliente informou a versão. A versão lida apenas para as estatísticas mudou por
+            // outra escrita: relê o estado e tenta de novo (a última tentativa, com a linha travada, não falha assim)
+            if (requestedVersion != null || attempt == MAX_PARTIAL_UPDATE_ATTEMPTS) {
+                throw versionConflict(id);
+            }
         }
+
+        if (before != null) {
+            vehicleStatisticsService.recordUpdated(before, new VehicleSnapshot(
+                changes.containsKey("brand") ? vehicleDTO.getBrandId() : before.brandId(),
+                changes.containsKey("year") ? vehicleDTO.getYear() : before.year(),
+                changes.containsKey("isSold") ? vehicleDTO.getIsSold() : before.sold(),
+                before.createdAt()
+            ));
+        }
+
+        return vehicleRepository.reload(id);
+    }
+
+    public Vehicle getVehicle(Long id) {
+        return vehicleRepository.findById(id)
+            .orElseThrow(() -> new RuntimeException("Veículo não encontrado com id: " + id));
     }
 
+    @Transactional
     public void deleteVehicle(Long id) {
         try {
-            if (!vehicleRepository.existsById(id)) {
-                throw new RuntimeException("Veículo não encontrado com id: " + id);
-            }
-            vehicleRepository.deleteById(id);
+            // Carrega o veículo para saber quais contadores de estatísticas decrementar
+            Vehicle vehicle = vehicleRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Veículo não encontrado com id: " + id));
+            VehicleSnapshot deleted = VehicleSnapshot.of(vehicle);
+            vehicleRepository.delete(vehicle);
+            vehicleRepository.flush();
+            vehicleStatisticsService.recordDeleted(deleted);
         } catch (DataIntegrityViolationException e) {
             throw new RuntimeException("Falha ao deletar veículo: " + e.getMessage(), e);
         }
     }
 
+    public VehicleStatisticsDTO getStatistics() {
+        return vehicleStatisticsService.getStatistics();
+    }
+
     public List<VehicleBrandDTO> getAllBrands() {
-        return brandRepository.findAllByOrderByNameAsc().stream()
+        return catalogCache.getBrands().stream()
             .map(brand -> new VehicleBrandDTO(brand.getId().toString(), brand.getName()))
             .collect(Collectors.toList());
     }
@@ -227,12 +408,8 @@ public class VehicleService {
     public List<VehicleModelDTO> getModelsByBrand(String brandId) {
         try {
             Long id = Long.valueOf(brandId);
-            return modelRepository.findByBrandId(id).stream()
-                .map(model -> new VehicleModelDTO(
-                    model.getId().toString(), 
-                    model.getName(), 
-                    model.getBrand().getId().toString()
-                ))
+            return catalogCache.getModelsByBrand(id).stream()
+                .map(this::convertToModelDTO)
                 .collect(Collectors.toList());
         } catch (NumberFormatException e) {
             throw new RuntimeException("Formato de ID de marca inválido: " + brandId);
@@ -242,13 +419,9 @@ public class VehicleService {
     public VehicleBrandDTO getBrandById(String brandId) {
         try {
             Long id = Long.valueOf(brandId);
-            Optional<Brand> brand = brandRepository.findById(id);
-            if (brand.isPresent()) {
-                Brand b = brand.get();
-                return new VehicleBrandDTO(b.getId().toString(), b.getName());
-            } else {
-                throw new RuntimeException("Marca não encontrada com id: " + brandId);
-            }
+            return catalogCache.findBrand(id)
+                .map(brand -> new VehicleBrandDTO(brand.getId().toString(), brand.getName()))
+                .orElseThrow(() -> new RuntimeException("Marca não encontrada com id: " + brandId));
         } catch (NumberFormatException e) {
             throw new RuntimeException("Formato de ID de marca inválido: " + brandId);
         }
@@ -257,19 +430,24 @@ public class VehicleService {
     public VehicleModelDTO getModelById(String modelId) {
         try {
             Long id = Long.valueOf(modelId);
-            Optional<Model> model = modelRepository.findById(id);
-            if (model.isPresent()) {
-                Model m = model.get();
-                return new VehicleModelDTO(
-                    m.getId().toString(), 
-                    m.getName(), 
-                    m.getBrand().getId().toString()
-                );
-            } else {
-                throw new RuntimeException("Modelo não encontrado com id: " + modelId);
-            }
+            return catalogCache.findModel(id)
+                .map(this::convertToModelDTO)
+                .orElseThrow(() -> new RuntimeException("Modelo não encontrado com id: " + modelId));
         } catch (NumberFormatException e) {
             throw new RuntimeException("Formato de ID de modelo inválido: " + modelId);
         }
     }
+
+    private static OptimisticLockingFailureException versionConflict(Long id) {
+        return new OptimisticLockingFailureException(
+            "Veículo " + id + " foi alterado por outra requisição; recarregue e tente novamente");
+    }
+
+    private VehicleModelDTO convertToModelDTO(ModelDTO model) {
+        return new VehicleModelDTO(
+            model.getId().toString(),
+            model.getName(),
+            model.getBrandId().toString()
+        );
+    }
 }
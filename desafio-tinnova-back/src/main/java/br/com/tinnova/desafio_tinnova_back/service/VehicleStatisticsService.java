@@ -0,0 +1,275 @@
+package br.com.tinnova.desafio_tinnova_back.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import br.com.tinnova.desafio_tinnova_back.cache.CatalogCache;
+import br.com.tinnova.desafio_tinnova_back.dto.BrandDTO;
+import br.com.tinnova.desafio_tinnova_back.dto.VehicleStatisticsDTO;
+import br.com.tinnova.desafio_tinnova_back.dto.VehicleStatisticsDTO.BrandCount;
+import br.com.tinnova.desafio_tinnova_back.dto.VehicleStatisticsDTO.DecadeCount;
+import br.com.tinnova.desafio_tinnova_back.dto.VehicleStatisticsDTO.YearCount;
+import br.com.tinnova.desafio_tinnova_back.entity.Vehicle;
+import br.com.tinnova.desafio_tinnova_back.repository.VehicleRepository;
+
+/**
+ * Mantém as estatísticas do dashboard em contadores atualizados a cada escrita de veículo.
+ * Os contadores são carregados do banco (com GROUP BY) apenas na primeira leitura; depois disso
+ * a leitura custa O(marcas + anos), independente da quantidade de veículos.
+ * <p>
+ * A carga roda em uma única transação REPEATABLE_READ, então as consultas enxergam o mesmo snapshot.
+ * Para que cada escrita seja contada exatamente uma vez (pelo snapshot ou pelo seu delta), o commit de
+ * cada transação que registra um delta segura commitGate em modo leitura do beforeCommit até aplicar o
+ * delta, e a carga o segura em modo escrita enquanto zera os contadores e abre o snapshot: as escritas
+ * confirmadas antes estão no snapshot (e seus deltas foram zerados), as seguintes chegam só como delta.
+ * As escritas devem registrar os deltas dentro da própria transação; fora de uma transação o delta é
+ * aplicado na hora, sem essa garantia.
+ */
+@Service
+public class VehicleStatisticsService {
+    static final Duration RECENT_WINDOW = Duration.ofDays(7);
+
+    private final VehicleRepository vehicleRepository;
+    private final CatalogCache catalogCache;
+    private final TransactionTemplate seedTransaction;
+
+    // Commits com delta (leitura) e abertura do snapshot da carga (escrita) não podem se intercalar
+    private final ReadWriteLock commitGate = new ReentrantReadWriteLock();
+    private final Lock seedLock = new ReentrantLock();
+    private volatile boolean initialized;
+
+    private final LongAdder total = new LongAdder();
+    private final LongAdder sold = new LongAdder();
+    private final Map<Long, LongAdder> byBrand = new ConcurrentHashMap<>();
+    private final Map<Integer, LongAdder> byYear = new ConcurrentHashMap<>();
+    // Cadastros recentes agrupados por hora (epoch hour), apenas dentro da janela
+    private final Map<Long, LongAdder> createdByHour = new ConcurrentHashMap<>();
+
+    public VehicleStatisticsService(VehicleRepository vehicleRepository, CatalogCache catalogCache,
+                                    PlatformTransactionManager transactionManager) {
+        this.vehicleRepository = vehicleRepository;
+        this.catalogCache = catalogCache;
+        this.seedTransaction = new TransactionTemplate(transactionManager);
+        this.seedTransaction.setReadOnly(true);
+        this.seedTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+    }
+
+    /**
+     * Estado de um veículo relevante para as estatísticas
+     */
+    public record VehicleSnapshot(Long brandId, Integer year, boolean sold, LocalDateTime createdAt) {
+        public static VehicleSnapshot of(Vehicle vehicle) {
+            return new VehicleSnapshot(
+                vehicle.getBrand() != null ? vehicle.getBrand().getId() : null,
+                vehicle.getYear(),
+                Boolean.TRUE.equals(vehicle.getIsSold()),
+                vehicle.getCreatedAt()
+            );
+        }
+    }
+
+    public VehicleStatisticsDTO getStatistics() {
+        ensureInitialized();
+
+        long totalCount = total.sum();
+        long soldCount = sold.sum();
+
+        List<YearCount> years = byYear.entrySet().stream()
+            .filter(entry -> entry.getValue().sum() > 0)
+            .sorted(Map.Entry.<Integer, LongAdder>comparingByKey().reversed())
+            .map(entry -> new YearCount(String.valueOf(entry.getKey()), entry.getValue().sum()))
+            .collect(Collectors.toList());
+
+        Map<Integer, Long> decades = new TreeMap<>(Comparator.reverseOrder());
+        byYear.forEach((year, count) -> decades.merge(year / 10 * 10, count.sum(), Long::sum));
+        List<DecadeCount> decadeCounts = decades.entrySet().stream()
+            .filter(entry -> entry.getValue() > 0)
+            .map(entry -> new DecadeCount(entry.getKey(), entry.getValue()))
+            .collect(Collectors.toList());
+
+        List<BrandCount> brands = new ArrayList<>();
+        byBrand.forEach((brandId, count) -> {
+            long value = count.sum();
+            if (value > 0) {
+                String brandName = catalogCache.findBrand(brandId).map(BrandDTO::getName).orElse("Desconhecida");
+                brands.add(new BrandCount(brandId, brandName, value));
+            }
+        });
+        brands.sort(Comparator.comparingLong(BrandCount::getCount).reversed());
+
+        return new VehicleStatisticsDTO(
+            totalCount,
+            totalCount - soldCount,
+            soldCount,
+            years,
+            decadeCounts,
+            brands,
+            countRecentlyRegistered()
+        );
+    }
+
+    public void recordCreated(VehicleSnapshot created) {
+        afterCommit(() -> apply(created, 1));
+    }
+
+    public void recordUpdated(VehicleSnapshot before, VehicleSnapshot after) {
+        afterCommit(() -> {
+            apply(before, -1);
+            apply(after, 1);
+        });
+    }
+
+    public void recordDeleted(VehicleSnapshot deleted) {
+        afterCommit(() -> apply(deleted, -1));
+    }
+
+    /**
+     * Descarta os contadores; a próxima leitura recarrega tudo do banco
+     */
+    public void invalidate() {
+        seedLock.lock();
+        try {
+            initialized = false;
+        } finally {
+            seedLock.unlock();
+        }
+    }
+
+    /**
+     * Aplicado mesmo antes da primeira carga: a carga zera os contadores antes de abrir o snapshot, que já contém a escrita
+     */
+    private void apply(VehicleSnapshot snapshot, int delta) {
+        if (snapshot == null) {
+            return;
+        }
+
+        total.add(delta);
+        if (snapshot.sold()) {
+            sold.add(delta);
+        }
+        if (snapshot.brandId() != null) {
+            counter(byBrand, snapshot.brandId()).add(delta);
+        }
+        if (snapshot.year() != null) {
+            counter(byYear, snapshot.year()).add(delta);
+        }
+        if (snapshot.createdAt() != null && isRecent(snapshot.createdAt())) {
+            counter(createdByHour, toEpochHour(snapshot.createdAt())).add(delta);
+        }
+    }
+
+    private void ensureInitialized() {
+        if (initialized) {
+            return;
+        }
+
+        seedLock.lock();
+        try {
+            if (initialized) {
+                return;
+            }
+            // A conexão é obtida no início da transação, antes de fechar commitGate: o commit de quem espera
+            // no portão nunca disputa o pool com a carga
+            seedTransaction.executeWithoutResult(status -> seed());
+            initialized = true;
+        } finally {
+            seedLock.unlock();
+        }
+    }
+
+    private void seed() {
+        long totalCount;
+        commitGate.writeLock().lock();
+        try {
+            total.reset();
+            sold.reset();
+            byBrand.clear();
+            byYear.clear();
+            createdByHour.clear();
+            // A primeira consulta abre o snapshot da transação; a partir daqui os deltas somam aos valores carregados
+            totalCount = vehicleRepository.count();
+        } finally {
+            commitGate.writeLock().unlock();
+        }
+
+        total.add(totalCount);
+        sold.add(vehicleRepository.countByIsSoldTrue());
+        for (Object[] row : vehicleRepository.countGroupedByBrand()) {
+            counter(byBrand, (Long) row[0]).add((Long) row[1]);
+        }
+        for (Object[] row : vehicleRepository.countGroupedByYear()) {
+            counter(byYear, (Integer) row[0]).add((Long) row[1]);
+        }
+        for (LocalDateTime createdAt : vehicleRepository.findCreatedAtSince(LocalDateTime.now().minus(RECENT_WINDOW))) {
+            counter(createdByHour, toEpochHour(createdAt)).increment();
+        }
+    }
+
+    private long countRecentlyRegistered() {
+        long oldestHour = toEpochHour(LocalDateTime.now().minus(RECENT_WINDOW));
+        // Remove as horas que saíram da janela para manter o mapa limitado
+        createdByHour.keySet().removeIf(hour -> hour < oldestHour);
+        return createdByHour.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    private static boolean isRecent(LocalDateTime createdAt) {
+        return !createdAt.isBefore(LocalDateTime.now().minus(RECENT_WINDOW));
+    }
+
+    private static long toEpochHour(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC) / 3600;
+    }
+
+    private static <K> LongAdder counter(Map<K, LongAdder> counters, K key) {
+        return counters.computeIfAbsent(key, k -> new LongAdder());
+    }
+
+    // Só aplica o delta se a transação corrente (quando houver) for confirmada, com o commit dentro de commitGate
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                private boolean gated;
+
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    commitGate.readLock().lock();
+                    gated = true;
+                }
+
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    if (gated) {
+                        commitGate.readLock().unlock();
+                    }
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
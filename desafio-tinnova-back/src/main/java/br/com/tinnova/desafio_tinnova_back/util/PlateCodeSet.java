@@ -0,0 +1,142 @@
+package br.com.tinnova.desafio_tinnova_back.util;
+
+import java.util.Arrays;
+
+/**
+ * Conjunto de códigos de placa (ver {@link PlateCodec}) em um array primitivo com endereçamento aberto.
+ * Como os códigos cabem em 30 bits, cada posição ocupa 4 bytes: um milhão de placas usa cerca de 8 MB,
+ * contra dezenas de MB de um HashSet de Strings. Não é thread-safe.
+ */
+public class PlateCodeSet {
+    private static final int EMPTY = -1;
+    private static final float LOAD_FACTOR = 0.5f;
+    private static final int MIN_CAPACITY = 16;
+
+    private int[] slots;
+    private int size;
+    private int resizeThreshold;
+
+    public PlateCodeSet() {
+        this(MIN_CAPACITY);
+    }
+
+    /**
+     * @param expectedSize Quantidade de placas esperada; evita redimensionamentos
+     */
+    public PlateCodeSet(int expectedSize) {
+        allocate(capacityFor(expectedSize));
+    }
+
+    /**
+     * Adiciona o código da placa
+     * @param code Código gerado por PlateCodec.encode
+     * @return true se o código não estava no conjunto
+     */
+    public boolean add(long code) {
+        int value = checkCode(code);
+        if (size >= resizeThreshold) {
+            rehash(slots.length * 2);
+        }
+
+        int mask = slots.length - 1;
+        int index = mix(value) & mask;
+        while (slots[index] != EMPTY) {
+            if (slots[index] == value) {
+                return false;
+            }
+            index = (index + 1) & mask;
+        }
+        slots[index] = value;
+        size++;
+        return true;
+    }
+
+    /**
+     * Codifica e adiciona a placa
+     * @param plate A placa a ser adicionada
+     * @return true se a placa não estava no conjunto
+     */
+    public boolean add(CharSequence plate) {
+        long code = PlateCodec.encode(plate);
+        if (code == PlateCodec.INVALID) {
+            throw new IllegalArgumentException("Placa inválida: " + plate);
+        }
+        return add(code);
+    }
+
+    public boolean contains(long code) {
+        if (code < 0 || code >= PlateCodec.CODE_SPACE) {
+            return false;
+        }
+
+        int value = (int) code;
+        int mask = slots.length - 1;
+        int index = mix(value) & mask;
+        while (slots[index] != EMPTY) {
+            if (slots[index] == value) {
+                return true;
+            }
+            index = (index + 1) & mask;
+        }
+        return false;
+    }
+
+    public boolean contains(CharSequence plate) {
+        return contains(PlateCodec.encode(plate));
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        Arrays.fill(slots, EMPTY);
+        size = 0;
+    }
+
+    private void rehash(int capacity) {
+        int[] old = slots;
+        allocate(capacity);
+        int mask = slots.length - 1;
+        for (int value : old) {
+            if (value != EMPTY) {
+                int index = mix(value) & mask;
+                while (slots[index] != EMPTY) {
+                    index = (index + 1) & mask;
+                }
+                slots[index] = value;
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        slots = new int[capacity];
+        Arrays.fill(slots, EMPTY);
+        resizeThreshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private static int capacityFor(int expectedSize) {
+        long needed = (long) Math.ceil(Math.max(expectedSize, 1) / (double) LOAD_FACTOR);
+        if (needed > 1 << 30) {
+            throw new IllegalArgumentException("Tamanho esperado grande demais: " + expectedSize);
+        }
+        return Math.max(MIN_CAPACITY, Integer.highestOneBit((int) needed - 1) << 1);
+    }
+
+    private static int checkCode(long code) {
+        if (code < 0 || code >= PlateCodec.CODE_SPACE) {
+            throw new IllegalArgumentException("Código de placa inválido: " + code);
+        }
+        return (int) code;
+    }
+
+    // Códigos de placas parecidas são próximos: espalha os bits antes de escolher a posição
+    private static int mix(int value) {
+        int h = value * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
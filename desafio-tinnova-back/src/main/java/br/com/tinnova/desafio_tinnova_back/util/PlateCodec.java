@@ -0,0 +1,74 @@
+package br.com.tinnova.desafio_tinnova_back.util;
+
+/**
+ * Codifica placas (AAA-9999 / AAA-9A99) em um número, para índices e deduplicação sem objetos String.
+ * O código é uma base mista: três letras (26), um dígito (10), a quinta posição (dígito ou letra, 36)
+ * e dois dígitos (10). O maior código cabe em 30 bits e códigos de placas distintas nunca colidem.
+ */
+public class PlateCodec {
+
+    // Retornado por encode quando a placa é inválida; nenhum código válido é negativo
+    public static final long INVALID = -1L;
+
+    // Quantidade de códigos possíveis: 26^3 * 10 * 36 * 10^2
+    public static final long CODE_SPACE = 26L * 26 * 26 * 10 * 36 * 10 * 10;
+
+    /**
+     * Codifica a placa, aceitando as mesmas variações de PlateValidator (espaços nas pontas e minúsculas)
+     * @param plate A placa a ser codificada
+     * @return O código da placa, ou INVALID se a placa for inválida
+     */
+    public static long encode(CharSequence plate) {
+        if (PlateValidator.classify(plate) == PlateValidator.PlateType.INVALID) {
+            return INVALID;
+        }
+
+        int start = 0;
+        while (plate.charAt(start) <= ' ') {
+            start++;
+        }
+
+        long code = letter(plate.charAt(start));
+        code = code * 26 + letter(plate.charAt(start + 1));
+        code = code * 26 + letter(plate.charAt(start + 2));
+        code = code * 10 + (plate.charAt(start + 4) - '0');
+        char fifth = plate.charAt(start + 5);
+        code = code * 36 + (fifth <= '9' ? fifth - '0' : 10 + letter(fifth));
+        code = code * 10 + (plate.charAt(start + 6) - '0');
+        code = code * 10 + (plate.charAt(start + 7) - '0');
+        return code;
+    }
+
+    /**
+     * Decodifica um código gerado por encode
+     * @param code O código da placa
+     * @return A placa normalizada (maiúsculas, com hífen)
+     */
+    public static String decode(long code) {
+        if (code < 0 || code >= CODE_SPACE) {
+            throw new IllegalArgumentException("Código de placa inválido: " + code);
+        }
+
+        char[] plate = new char[PlateValidator.PLATE_LENGTH];
+        plate[7] = (char) ('0' + code % 10);
+        code /= 10;
+        plate[6] = (char) ('0' + code % 10);
+        code /= 10;
+        int fifth = (int) (code % 36);
+        plate[5] = fifth < 10 ? (char) ('0' + fifth) : (char) ('A' + fifth - 10);
+        code /= 36;
+        plate[4] = (char) ('0' + code % 10);
+        code /= 10;
+        plate[3] = '-';
+        plate[2] = (char) ('A' + code % 26);
+        code /= 26;
+        plate[1] = (char) ('A' + code % 26);
+        code /= 26;
+        plate[0] = (char) ('A' + code);
+        return new String(plate);
+    }
+
+    private static int letter(char c) {
+        return (c >= 'a' ? c - 'a' : c - 'A');
+    }
+}
@@ -1,63 +1,171 @@
 package br.com.tinnova.desafio_tinnova_back.util;
 
-import java.util.regex.Pattern;
-
+/**
+ * Validação de placas com um scanner de uma passada, sem regex e sem cópias de String.
+ * Aceita os formatos brasileiro (AAA-9999) e Mercosul (AAA-9A99), sem diferenciar maiúsculas
+ * e ignorando espaços nas pontas; apenas caracteres ASCII são aceitos.
+ */
 public class PlateValidator {
-    
-    // Padrão brasileiro tradicional: AAA-9999
-    private static final Pattern BRAZILIAN_PATTERN = Pattern.compile("^[A-Z]{3}-[0-9]{4}$");
-    
-    // Padrão Mercosul: AAA-9A99
-    private static final Pattern MERCOSUL_PATTERN = Pattern.compile("^[A-Z]{3}-[0-9][A-Z][0-9]{2}$");
-    
+
+    // Tamanho de uma placa normalizada: AAA-9999 ou AAA-9A99
+    public static final int PLATE_LENGTH = 8;
+
     /**
      * Valida se a placa está em um formato válido (brasileiro ou Mercosul)
      * @param plate A placa a ser validada
      * @return true se a placa for válida, false caso contrário
      */
     public static boolean isValidPlate(String plate) {
-        if (plate == null || plate.trim().isEmpty()) {
-            return false;
-        }
-        
-        String normalizedPlate = plate.trim().toUpperCase();
-        return BRAZILIAN_PATTERN.matcher(normalizedPlate).matches() || 
-               MERCOSUL_PATTERN.matcher(normalizedPlate).matches();
+        return classify(plate) != PlateType.INVALID;
     }
-    
+
     /**
      * Normaliza a placa removendo espaços e convertendo para maiúsculo
      * @param plate A placa a ser normalizada
-     * @return A placa normalizada
+     * @return A placa normalizada (a mesma instância quando já está normalizada)
      */
     public static String normalizePlate(String plate) {
         if (plate == null) {
             return null;
         }
-        return plate.trim().toUpperCase();
+
+        int start = trimStart(plate);
+        int end = trimEnd(plate, start);
+        for (int i = start; i < end; i++) {
+            char c = plate.charAt(i);
+            if (c >= 0x80) {
+                // Fora do ASCII as regras de maiúsculas dependem do locale: mantém o comportamento padrão
+                return plate.trim().toUpperCase();
+            }
+            if (c >= 'a' && c <= 'z') {
+                return plate.substring(start, end).toUpperCase();
+            }
+        }
+        return start == 0 && end == plate.length() ? plate : plate.substring(start, end);
     }
-    
+
     /**
      * Identifica o tipo da placa
      * @param plate A placa a ser identificada
      * @return O tipo da placa (BRAZILIAN, MERCOSUL ou INVALID)
      */
     public static PlateType getPlateType(String plate) {
-        if (plate == null || plate.trim().isEmpty()) {
+        return classify(plate);
+    }
+
+    /**
+     * Identifica o tipo da placa em uma única passada, sem alocar
+     * @param plate A placa a ser identificada
+     * @return O tipo da placa (BRAZILIAN, MERCOSUL ou INVALID)
+     */
+    public static PlateType classify(CharSequence plate) {
+        if (plate == null) {
             return PlateType.INVALID;
         }
-        
-        String normalizedPlate = plate.trim().toUpperCase();
-        
-        if (BRAZILIAN_PATTERN.matcher(normalizedPlate).matches()) {
-            return PlateType.BRAZILIAN;
-        } else if (MERCOSUL_PATTERN.matcher(normalizedPlate).matches()) {
-            return PlateType.MERCOSUL;
-        } else {
+        int start = trimStart(plate);
+        return scan(plate, start, trimEnd(plate, start));
+    }
+
+    /**
+     * Valida e normaliza a placa em uma única passada
+     * @param plate A placa a ser validada
+     * @return A placa normalizada, ou null se for inválida. Quando a entrada é uma String
+     *         já normalizada, a própria instância é devolvida (sem alocação)
+     */
+    public static String validateAndNormalize(CharSequence plate) {
+        if (plate == null) {
+            return null;
+        }
+
+        int start = trimStart(plate);
+        int end = trimEnd(plate, start);
+        if (scan(plate, start, end) == PlateType.INVALID) {
+            return null;
+        }
+
+        boolean hasLowerCase = false;
+        for (int i = start; i < end && !hasLowerCase; i++) {
+            char c = plate.charAt(i);
+            hasLowerCase = c >= 'a' && c <= 'z';
+        }
+        if (!hasLowerCase && plate instanceof String text && start == 0 && end == text.length()) {
+            return text;
+        }
+
+        char[] normalized = new char[PLATE_LENGTH];
+        for (int i = 0; i < PLATE_LENGTH; i++) {
+            char c = plate.charAt(start + i);
+            normalized[i] = c >= 'a' && c <= 'z' ? (char) (c - ('a' - 'A')) : c;
+        }
+        return new String(normalized);
+    }
+
+    /**
+     * Versão em lote de {@link #validateAndNormalize(CharSequence)}, para importações
+     * @param plates As placas a serem validadas
+     * @param normalized Destino das placas normalizadas, na mesma posição da entrada (null quando inválida);
+     *                   deve ter pelo menos o tamanho de plates
+     * @return A quantidade de placas válidas
+     */
+    public static int validateAndNormalizeAll(CharSequence[] plates, String[] normalized) {
+        if (normalized.length < plates.length) {
+            throw new IllegalArgumentException("Array de destino menor que o de entrada");
+        }
+
+        int valid = 0;
+        for (int i = 0; i < plates.length; i++) {
+            normalized[i] = validateAndNormalize(plates[i]);
+            if (normalized[i] != null) {
+                valid++;
+            }
+        }
+        return valid;
+    }
+
+    private static PlateType scan(CharSequence plate, int start, int end) {
+        if (end - start != PLATE_LENGTH) {
+            return PlateType.INVALID;
+        }
+        if (!isLetter(plate.charAt(start)) || !isLetter(plate.charAt(start + 1)) || !isLetter(plate.charAt(start + 2))
+                || plate.charAt(start + 3) != '-'
+                || !isDigit(plate.charAt(start + 4))
+                || !isDigit(plate.charAt(start + 6)) || !isDigit(plate.charAt(start + 7))) {
             return PlateType.INVALID;
         }
+
+        // A quinta posição diferencia os formatos: dígito no brasileiro, letra no Mercosul
+        char fifth = plate.charAt(start + 5);
+        if (isDigit(fifth)) {
+            return PlateType.BRAZILIAN;
+        }
+        return isLetter(fifth) ? PlateType.MERCOSUL : PlateType.INVALID;
+    }
+
+    // Mesmo critério de String.trim(): remove caracteres <= ' '
+    private static int trimStart(CharSequence plate) {
+        int start = 0;
+        while (start < plate.length() && plate.charAt(start) <= ' ') {
+            start++;
+        }
+        return start;
+    }
+
+    private static int trimEnd(CharSequence plate, int start) {
+        int end = plate.length();
+        while (end > start && plate.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        return end;
+    }
+
+    private static boolean isLetter(char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z');
     }
-    
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
     public enum PlateType {
         BRAZILIAN,
         MERCOSUL,
@@ -0,0 +1,198 @@
+package br.com.tinnova.desafio_tinnova_back.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Lê linhas (NDJSON) ou registros CSV de um Reader com tamanho máximo por registro, para que a memória de uma
+ * importação não dependa da entrada: uma linha sem quebra ou um campo entre aspas que nunca fecha é descartado
+ * até a próxima quebra de linha e reportado com {@link RecordTooLongException}, e a leitura segue no registro
+ * seguinte. Lê do Reader em blocos para um buffer próprio, sem a sincronização de BufferedReader.read()
+ * a cada caractere. Não é thread-safe.
+ */
+public class RecordReader implements Closeable {
+    public static final int DEFAULT_MAX_RECORD_LENGTH = 64 * 1024;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Reader reader;
+    private final int maxRecordLength;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private final StringBuilder value = new StringBuilder();
+    private int position;
+    private int limit;
+
+    public RecordReader(Reader reader) {
+        this(reader, DEFAULT_MAX_RECORD_LENGTH);
+    }
+
+    /**
+     * @param maxRecordLength Quantidade máxima de caracteres de um registro, sem contar a quebra de linha
+     */
+    public RecordReader(Reader reader, int maxRecordLength) {
+        if (maxRecordLength <= 0) {
+            throw new IllegalArgumentException("Tamanho máximo do registro deve ser positivo");
+        }
+        this.reader = reader;
+        this.maxRecordLength = maxRecordLength;
+    }
+
+    /**
+     * Lê uma linha terminada em \n ou \r\n
+     * @return A linha sem a quebra, ou null no fim da entrada
+     * @throws RecordTooLongException Se a linha passar do limite; ela é descartada e a próxima leitura segue após ela
+     */
+    public String readLine() throws IOException {
+        if (position == limit && !fill()) {
+            return null;
+        }
+
+        value.setLength(0);
+        while (true) {
+            int start = position;
+            while (position < limit && buffer[position] != '\n') {
+                position++;
+            }
+            value.append(buffer, start, position - start);
+            boolean newline = position < limit;
+            if (newline) {
+                position++;
+            }
+            if (value.length() > maxRecordLength + 1) {
+                // +1: o \r de um \r\n ainda não foi removido
+                skipLine(newline);
+                throw tooLong();
+            }
+            if (newline || !fill()) {
+                break;
+            }
+        }
+
+        int length = value.length();
+        if (length > 0 && value.charAt(length - 1) == '\r') {
+            value.setLength(--length);
+        }
+        if (length > maxRecordLength) {
+            throw tooLong();
+        }
+        return value.toString();
+    }
+
+    /**
+     * Lê um registro CSV (RFC 4180): campos entre aspas podem conter vírgulas, aspas duplicadas e quebras de linha
+     * @return Os campos do registro, ou null no fim da entrada
+     * @throws RecordTooLongException Se o registro passar do limite; o restante da linha física é descartado
+     */
+    public List<String> readCsvRecord() throws IOException {
+        int c = read();
+        if (c == -1) {
+            return null;
+        }
+
+        List<String> fields = new ArrayList<>();
+        value.setLength(0);
+        boolean quoted = false;
+        int length = 0;
+
+        while (c != -1) {
+            // Fora de aspas, a quebra que encerra o registro não conta para o limite
+            if (++length > maxRecordLength && (quoted || (c != '\n' && c != '\r'))) {
+                skipLine(c == '\n');
+                throw tooLong();
+            }
+            char ch = (char) c;
+            if (quoted) {
+                if (ch == '"') {
+                    if (peek() == '"') {
+                        position++;
+                        length++;
+                        value.append('"');
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    value.append(ch);
+                }
+            } else if (ch == '"' && value.length() == 0) {
+                quoted = true;
+            } else if (ch == ',') {
+                fields.add(value.toString());
+                value.setLength(0);
+            } else if (ch == '\n') {
+                break;
+            } else if (ch != '\r') {
+                value.append(ch);
+            }
+            c = read();
+        }
+
+        fields.add(value.toString());
+        return fields;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private int read() throws IOException {
+        if (position == limit && !fill()) {
+            return -1;
+        }
+        return buffer[position++];
+    }
+
+    private int peek() throws IOException {
+        if (position == limit && !fill()) {
+            return -1;
+        }
+        return buffer[position];
+    }
+
+    private boolean fill() throws IOException {
+        int read;
+        do {
+            read = reader.read(buffer, 0, buffer.length);
+        } while (read == 0);
+        if (read < 0) {
+            return false;
+        }
+        position = 0;
+        limit = read;
+        return true;
+    }
+
+    /**
+     * Descarta até a próxima quebra de linha (inclusive) sem acumular o conteúdo
+     * @param consumed true se a quebra já foi consumida
+     */
+    private void skipLine(boolean consumed) throws IOException {
+        value.setLength(0);
+        if (consumed) {
+            return;
+        }
+        while (position < limit || fill()) {
+            while (position < limit) {
+                if (buffer[position++] == '\n') {
+                    return;
+                }
+            }
+        }
+    }
+
+    private RecordTooLongException tooLong() {
+        return new RecordTooLongException("Registro excede o limite de " + maxRecordLength + " caracteres");
+    }
+
+    /**
+     * Registro maior que o limite; o leitor já está posicionado no registro seguinte
+     */
+    public static class RecordTooLongException extends IllegalArgumentException {
+        public RecordTooLongException(String message) {
+            super(message);
+        }
+    }
+}
@@ -33,10 +33,17 @@ CREATE TABLE vehicles (
     is_sold BOOLEAN NOT NULL DEFAULT false,
     created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    -- Versão para controle de concorrência otimista (incrementada a cada UPDATE)
+    version BIGINT NOT NULL DEFAULT 0,
     FOREIGN KEY (model_id) REFERENCES models(id),
     FOREIGN KEY (brand_id) REFERENCES brands(id)
 );
 
+-- Incremento igual ao allocationSize da entidade Vehicle (ids alocados em blocos para inserts em batch).
+-- O Hibernate usa o otimizador pooled-lo: o valor do nextval é o início do bloco, então INSERTs que usam o
+-- DEFAULT da coluna também recebem o início de um bloco novo e não colidem com os ids do Hibernate
+ALTER SEQUENCE vehicles_id_seq INCREMENT BY 50;
+
 -- Inserir marcas principais
 INSERT INTO brands (name) VALUES
 ('Honda'),
@@ -182,10 +189,15 @@ INSERT INTO models (name, brand_id) VALUES
 ('Eclipse Cross', (SELECT id FROM brands WHERE name = 'Mitsubishi'));
 
 -- Índices para melhor performance
-CREATE INDEX idx_vehicles_brand_id ON vehicles(brand_id);
+-- Compostos: brand_id e is_sold isolados usam o prefixo destes índices
+CREATE INDEX idx_vehicles_brand_model_year ON vehicles(brand_id, model_id, vehicle_year);
+CREATE INDEX idx_vehicles_is_sold_year ON vehicles(is_sold, vehicle_year);
 CREATE INDEX idx_vehicles_model_id ON vehicles(model_id);
 CREATE INDEX idx_vehicles_year ON vehicles(vehicle_year);
-CREATE INDEX idx_vehicles_is_sold ON vehicles(is_sold);
+-- Busca por prefixo de placa (LIKE 'ABC-1%') independente da collation do banco
+CREATE INDEX idx_vehicles_plate_prefix ON vehicles(plate varchar_pattern_ops);
+-- Busca textual na descrição; a expressão deve ser idêntica à usada em VehicleSearchRepositoryImpl
+CREATE INDEX idx_vehicles_description_fts ON vehicles USING GIN (to_tsvector('portuguese', coalesce(description, '')));
 CREATE INDEX idx_vehicles_created_at ON vehicles(created_at);
 CREATE INDEX idx_models_brand_id ON models(brand_id);
 CREATE INDEX idx_brands_name ON brands(name);
@@ -0,0 +1,102 @@
+package br.com.tinnova.desafio_tinnova_back.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import br.com.tinnova.desafio_tinnova_back.dto.BrandDTO;
+import br.com.tinnova.desafio_tinnova_back.dto.ModelDTO;
+import br.com.tinnova.desafio_tinnova_back.entity.Brand;
+import br.com.tinnova.desafio_tinnova_back.repository.BrandRepository;
+import br.com.tinnova.desafio_tinnova_back.repository.ModelRepository;
+
+@ExtendWith(MockitoExtension.class)
+class CatalogCacheTest {
+
+    @Mock
+    private BrandRepository brandRepository;
+
+    @Mock
+    private ModelRepository modelRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private CatalogCache catalogCache;
+
+    @BeforeEach
+    void setUp() {
+        BrandDTO honda = createTestBrand(1L, "Honda");
+        BrandDTO toyota = createTestBrand(2L, "Toyota");
+        when(brandRepository.findAllProjectedByOrderByNameAsc()).thenReturn(Arrays.asList(honda, toyota));
+        when(modelRepository.findAllProjectedWithBrandOrderByNameAsc()).thenReturn(Arrays.asList(
+            createTestModel(10L, "Camry", toyota),
+            createTestModel(11L, "Civic", honda),
+            createTestModel(12L, "Corolla", toyota)
+        ));
+
+        catalogCache = new CatalogCache(brandRepository, modelRepository, transactionManager);
+    }
+
+    @Test
+    void testLookups_ServedFromSingleLoad() {
+        // Act
+        var brands = catalogCache.getBrands();
+        var toyotaModels = catalogCache.getModelsByBrand(2L);
+        var civic = catalogCache.findModel(11L);
+        var brandsWithModels = catalogCache.getBrandsWithModels();
+
+        // Assert
+        assertEquals(2, brands.size());
+        assertEquals("Honda", brands.get(0).getName());
+        assertEquals(List.of("Camry", "Corolla"), toyotaModels.stream().map(ModelDTO::getName).toList());
+        assertEquals("Honda", civic.get().getBrandName());
+        assertEquals(1, brandsWithModels.get(0).getModels().size());
+        assertTrue(catalogCache.findBrand(99L).isEmpty());
+        assertTrue(catalogCache.findModel(null).isEmpty());
+        assertTrue(catalogCache.getModelsByBrand(99L).isEmpty());
+        verify(brandRepository, times(1)).findAllProjectedByOrderByNameAsc();
+        verify(modelRepository, times(1)).findAllProjectedWithBrandOrderByNameAsc();
+    }
+
+    @Test
+    void testSnapshotIsImmutable() {
+        // Act & Assert
+        assertThrows(UnsupportedOperationException.class, () -> catalogCache.getBrands().clear());
+        assertThrows(UnsupportedOperationException.class, () -> catalogCache.getModelsByBrand(2L).clear());
+    }
+
+    @Test
+    void testMarkChanged_ReloadsOnNextRead() {
+        // Arrange
+        catalogCache.getBrands();
+        long version = catalogCache.getVersion();
+
+        // Act
+        new CatalogChangeListener().onCatalogChange(new Brand("Fiat"));
+        catalogCache.getBrands();
+
+        // Assert
+        assertTrue(catalogCache.getVersion() > version);
+        verify(brandRepository, times(2)).findAllProjectedByOrderByNameAsc();
+    }
+
+    // Helper methods
+    private BrandDTO createTestBrand(Long id, String name) {
+        return new BrandDTO(id, name, LocalDateTime.now());
+    }
+
+    private ModelDTO createTestModel(Long id, String name, BrandDTO brand) {
+        return new ModelDTO(id, name, brand.getId(), brand.getName(), LocalDateTime.now());
+    }
+}
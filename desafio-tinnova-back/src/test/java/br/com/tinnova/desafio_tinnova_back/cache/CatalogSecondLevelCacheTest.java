@@ -0,0 +1,84 @@
+package br.com.tinnova.desafio_tinnova_back.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import br.com.tinnova.desafio_tinnova_back.entity.Brand;
+import br.com.tinnova.desafio_tinnova_back.entity.Model;
+import br.com.tinnova.desafio_tinnova_back.metrics.SqlRequestStats;
+import br.com.tinnova.desafio_tinnova_back.repository.BrandRepository;
+import br.com.tinnova.desafio_tinnova_back.repository.ModelRepository;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class CatalogSecondLevelCacheTest {
+
+    @Autowired
+    private BrandRepository brandRepository;
+
+    @Autowired
+    private ModelRepository modelRepository;
+
+    private final List<Brand> createdBrands = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        SqlRequestStats.end();
+        brandRepository.deleteAll(createdBrands);
+    }
+
+    @Test
+    void testCatalogReads_ServedFromCacheAfterFirstLoad() {
+        // Arrange: a primeira leitura vai ao banco e popula o cache
+        Brand brand = brandRepository.findAllByOrderByNameAsc().get(0);
+        List<Model> models = modelRepository.findAllWithBrandOrderByNameAsc();
+        modelRepository.findByBrandId(brand.getId());
+        modelRepository.findByBrandIdOrderByNameAsc(brand.getId());
+        brandRepository.findById(brand.getId());
+
+        // Act: cada chamada abre uma nova sessão, sem o cache de primeiro nível
+        SqlRequestStats.begin();
+        List<Brand> cachedBrands = brandRepository.findAllByOrderByNameAsc();
+        List<Model> cachedModels = modelRepository.findAllWithBrandOrderByNameAsc();
+        modelRepository.findByBrandId(brand.getId());
+        modelRepository.findByBrandIdOrderByNameAsc(brand.getId());
+        brandRepository.findById(brand.getId());
+        modelRepository.findById(models.get(0).getId());
+        long statements = SqlRequestStats.end();
+
+        // Assert
+        assertEquals(0, statements);
+        assertFalse(cachedBrands.isEmpty());
+        assertEquals(models.size(), cachedModels.size());
+    }
+
+    @Test
+    void testWrite_InvalidatesCachedQueriesAndEntities() {
+        // Arrange
+        int before = brandRepository.findAllByOrderByNameAsc().size();
+        Brand created = brandRepository.save(new Brand("CacheTest_" + System.nanoTime()));
+        createdBrands.add(created);
+
+        // Act
+        SqlRequestStats.begin();
+        List<Brand> afterInsert = brandRepository.findAllByOrderByNameAsc();
+        long statements = SqlRequestStats.end();
+
+        created.setName(created.getName() + "_renomeada");
+        brandRepository.save(created);
+        Brand renamed = brandRepository.findById(created.getId()).orElseThrow();
+
+        // Assert
+        assertTrue(statements > 0);
+        assertEquals(before + 1, afterInsert.size());
+        assertEquals(created.getName(), renamed.getName());
+    }
+}
@@ -0,0 +1,36 @@
+package br.com.tinnova.desafio_tinnova_back.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class PersistenceSelfCheckTest {
+
+    @Autowired
+    private PersistenceSelfCheck persistenceSelfCheck;
+
+    @Test
+    void testReport_EffectivePoolAndBatchConfiguration() {
+        // Act
+        Map<String, Object> report = persistenceSelfCheck.report();
+
+        // Assert: o pool é encontrado mesmo por trás do proxy de métricas do DataSource
+        Map<?, ?> pool = (Map<?, ?>) report.get("pool");
+        assertEquals("hikari", pool.get("type"));
+        assertTrue((Integer) pool.get("maximumPoolSize") > 0);
+
+        Map<?, ?> batch = (Map<?, ?>) report.get("batch");
+        assertEquals(50, batch.get("jdbcBatchSize"));
+        assertEquals(true, batch.get("orderInserts"));
+        assertEquals(List.of("Brand", "Model"), batch.get("identityEntities"));
+        assertEquals(List.of(), report.get("warnings"));
+    }
+}
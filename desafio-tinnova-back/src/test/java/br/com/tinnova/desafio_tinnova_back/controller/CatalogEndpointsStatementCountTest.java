@@ -0,0 +1,111 @@
+package br.com.tinnova.desafio_tinnova_back.controller;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import br.com.tinnova.desafio_tinnova_back.cache.CatalogCache;
+import br.com.tinnova.desafio_tinnova_back.metrics.JpaStatementMetricsFilter;
+import br.com.tinnova.desafio_tinnova_back.repository.BrandRepository;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Quantidade de comandos SQL por requisição nos endpoints do catálogo, medida pelo JpaStatementMetricsFilter
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class CatalogEndpointsStatementCountTest {
+    // Marcas e modelos (com o nome da marca), cada um em uma consulta
+    private static final long CATALOG_LOAD_STATEMENTS = 2;
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private JpaStatementMetricsFilter statementMetricsFilter;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private BrandRepository brandRepository;
+
+    private MockMvc mockMvc;
+
+    private Long brandId;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).addFilters(statementMetricsFilter).build();
+        brandId = brandRepository.findAll().get(0).getId();
+    }
+
+    @Test
+    void testCatalogEndpoints_LoadWithConstantStatementsThenServeFromMemory() throws Exception {
+        String[][] endpoints = {
+            {"/api/marcas", "/api/marcas"},
+            {"/api/marcas/com-modelos", "/api/marcas/com-modelos"},
+            {"/api/modelos", "/api/modelos"},
+            {"/api/modelos/com-marca", "/api/modelos/com-marca"},
+            {"/api/modelos/marca/" + brandId, "/api/modelos/marca/{brandId}"},
+            {"/api/veiculos/marcas", "/api/veiculos/marcas"},
+            {"/api/veiculos/marcas/" + brandId + "/modelos", "/api/veiculos/marcas/{brandId}/modelos"}
+        };
+
+        for (String[] endpoint : endpoints) {
+            // Arrange: catálogo e cache de segundo nível vazios, para medir a carga a partir do banco
+            CatalogCache.markChanged();
+            entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+
+            // Act
+            long cold = statementsFor(endpoint[0], endpoint[1]);
+            long warm = statementsFor(endpoint[0], endpoint[1]);
+
+            // Assert
+            assertEquals(CATALOG_LOAD_STATEMENTS, cold, endpoint[0]);
+            assertEquals(0, warm, endpoint[0]);
+        }
+    }
+
+    @Test
+    void testBrandsWithModels_ReturnsNestedModels() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/marcas/com-modelos"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].name").isString())
+            .andExpect(jsonPath("$[0].models").isArray())
+            .andExpect(jsonPath("$[0].models[0].brandName").isString());
+    }
+
+    // Helper methods
+    private long statementsFor(String url, String pattern) throws Exception {
+        double before = totalStatements(pattern);
+        mockMvc.perform(get(url)).andExpect(status().isOk());
+        return Math.round(totalStatements(pattern) - before);
+    }
+
+    private double totalStatements(String pattern) {
+        DistributionSummary summary = meterRegistry.find(JpaStatementMetricsFilter.METRIC_NAME)
+            .tag("method", "GET")
+            .tag("uri", pattern)
+            .summary();
+        return summary == null ? 0 : summary.totalAmount();
+    }
+}
@@ -0,0 +1,106 @@
+package br.com.tinnova.desafio_tinnova_back.controller;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import br.com.tinnova.desafio_tinnova_back.cache.ChangeTracker;
+
+class ConditionalResponsesTest {
+
+    private final ChangeTracker vehicles = new ChangeTracker("vehicles");
+    private final ChangeTracker catalog = new ChangeTracker("catalog");
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void testUnchangedData_Returns304WithoutLoading() {
+        // Arrange
+        ResponseEntity<String> first = get(null, null);
+        String eTag = first.getHeaders().getETag();
+
+        // Act
+        ResponseEntity<String> second = get(eTag, null);
+
+        // Assert
+        assertEquals(HttpStatus.OK, first.getStatusCode());
+        assertEquals("dados", first.getBody());
+        assertEquals("no-cache", first.getHeaders().getCacheControl());
+        assertEquals(-1, first.getHeaders().getLastModified());
+        assertEquals(HttpStatus.NOT_MODIFIED, second.getStatusCode());
+        assertNull(second.getBody());
+        assertEquals(eTag, second.getHeaders().getETag());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void testWriteInAnyTracker_ChangesETag() {
+        // Arrange
+        String eTag = get(null, null).getHeaders().getETag();
+
+        // Act
+        catalog.markChanged();
+        ResponseEntity<String> afterCatalogWrite = get(eTag, null);
+        String catalogETag = afterCatalogWrite.getHeaders().getETag();
+        vehicles.markChanged();
+        ResponseEntity<String> afterVehicleWrite = get(catalogETag, null);
+
+        // Assert
+        assertEquals(HttpStatus.OK, afterCatalogWrite.getStatusCode());
+        assertNotEquals(eTag, catalogETag);
+        assertEquals(HttpStatus.OK, afterVehicleWrite.getStatusCode());
+        assertNotEquals(catalogETag, afterVehicleWrite.getHeaders().getETag());
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    void testIfModifiedSinceAlone_IsIgnored() {
+        // Arrange: escrita no mesmo segundo de uma leitura; só a ETag distingue as versões
+        get(null, null);
+        vehicles.markChanged();
+
+        // Act
+        ResponseEntity<String> response = get(null, System.currentTimeMillis() + 1_000);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("dados", response.getBody());
+    }
+
+    @Test
+    void testMissingResource_Returns404() {
+        // Act
+        ResponseEntity<String> response = ConditionalResponses.ifModifiedOptional(
+            new ServletWebRequest(new MockHttpServletRequest("GET", "/api/marcas/99"), new MockHttpServletResponse()),
+            List.of(catalog), Optional::empty);
+
+        // Assert
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        assertNull(response.getHeaders().getETag());
+    }
+
+    // Helper methods
+    private ResponseEntity<String> get(String ifNoneMatch, Long ifModifiedSince) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/veiculos");
+        if (ifNoneMatch != null) {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        if (ifModifiedSince != null) {
+            request.addHeader(HttpHeaders.IF_MODIFIED_SINCE, ifModifiedSince);
+        }
+        return ConditionalResponses.ifModified(new ServletWebRequest(request, new MockHttpServletResponse()),
+            List.of(vehicles, catalog), () -> {
+                loads.incrementAndGet();
+                return "dados";
+            });
+    }
+}
@@ -0,0 +1,180 @@
+package br.com.tinnova.desafio_tinnova_back.controller;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import br.com.tinnova.desafio_tinnova_back.dto.VehicleUpdateDTO;
+import br.com.tinnova.desafio_tinnova_back.entity.Model;
+import br.com.tinnova.desafio_tinnova_back.entity.Vehicle;
+import br.com.tinnova.desafio_tinnova_back.metrics.SqlRequestStats;
+import br.com.tinnova.desafio_tinnova_back.repository.ModelRepository;
+import br.com.tinnova.desafio_tinnova_back.repository.VehicleRepository;
+import br.com.tinnova.desafio_tinnova_back.service.VehicleService;
+import br.com.tinnova.desafio_tinnova_back.util.PlateCodec;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class VehiclePartialUpdateTest {
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private VehicleService vehicleService;
+
+    @Autowired
+    private VehicleRepository vehicleRepository;
+
+    @Autowired
+    private ModelRepository modelRepository;
+
+    private MockMvc mockMvc;
+
+    private Vehicle vehicle;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+        Model model = modelRepository.findAllWithBrandOrderByNameAsc().get(0);
+
+        Vehicle created = new Vehicle();
+        created.setPlate(PlateCodec.decode(ThreadLocalRandom.current().nextLong(PlateCodec.CODE_SPACE)));
+        created.setBrand(model.getBrand());
+        created.setModel(model);
+        created.setYear(2020);
+        created.setDescription("Original");
+        created.setIsSold(false);
+        vehicle = vehicleRepository.saveAndFlush(created);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SqlRequestStats.end();
+        vehicleRepository.deleteById(vehicle.getId());
+    }
+
+    @Test
+    void testSingleFieldPatch_IsOneUpdatePlusReloadAndKeepsOtherColumns() {
+        // Arrange
+        VehicleUpdateDTO dto = new VehicleUpdateDTO();
+        dto.setDescription("Atualizado");
+
+        // Act
+        SqlRequestStats.begin();
+        Vehicle updated = vehicleService.partialUpdateVehicle(vehicle.getId(), dto);
+        long statements = SqlRequestStats.end();
+
+        // Assert: o UPDATE e o SELECT que relê o veículo para a resposta
+        assertEquals(2, statements);
+        assertEquals("Atualizado", updated.getDescription());
+        assertEquals(vehicle.getPlate(), updated.getPlate());
+        assertEquals(2020, updated.getYear());
+        assertEquals(vehicle.getVersion() + 1, updated.getVersion());
+    }
+
+    @Test
+    void testPatch_ReturnsUpdatedVehicle() throws Exception {
+        // Act & Assert
+        mockMvc.perform(patch("/api/veiculos/" + vehicle.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"isSold\": true}"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.description").value("Original"))
+            .andExpect(jsonPath("$.isSold").value(true))
+            .andExpect(jsonPath("$.version").value(vehicle.getVersion() + 1));
+    }
+
+    @Test
+    void testEmptyPatch_ReturnsVehicleWithoutUpdate() throws Exception {
+        // Act & Assert
+        mockMvc.perform(patch("/api/veiculos/" + vehicle.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{}"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.description").value("Original"))
+            .andExpect(jsonPath("$.version").value(vehicle.getVersion()));
+
+        assertEquals(vehicle.getVersion(), vehicleService.getVehicle(vehicle.getId()).getVersion());
+    }
+
+    @Test
+    void testConcurrentPatchesWithoutVersion_AllSucceed() throws Exception {
+        // Arrange: PATCHes sem versão que mudam estatísticas (ano e vendido), disputando a mesma linha
+        int threads = 4;
+        int patchesPerThread = 10;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> statuses = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int offset = t;
+            for (int i = 0; i < patchesPerThread; i++) {
+                String body = i % 2 == 0 ? "{\"year\": " + (2000 + offset) + "}" : "{\"isSold\": " + (offset % 2 == 0) + "}";
+                statuses.add(executor.submit(() -> {
+                    start.await();
+                    return mockMvc.perform(patch("/api/veiculos/" + vehicle.getId())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(body))
+                        .andReturn().getResponse().getStatus();
+                }));
+            }
+        }
+
+        // Act
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(60, TimeUnit.SECONDS));
+
+        // Assert: nenhum 409 para quem não pediu conferência de versão, e cada PATCH gravou uma vez
+        for (Future<Integer> status : statuses) {
+            assertEquals(200, status.get());
+        }
+        assertEquals(vehicle.getVersion() + threads * patchesPerThread, vehicleService.getVehicle(vehicle.getId()).getVersion());
+    }
+
+    @Test
+    void testPatchWithStaleVersion_Returns409AndDoesNotWrite() throws Exception {
+        // Arrange: outra requisição altera o veículo depois da leitura do cliente
+        long readVersion = vehicle.getVersion();
+        VehicleUpdateDTO concurrent = new VehicleUpdateDTO();
+        concurrent.setDescription("Concorrente");
+        vehicleService.partialUpdateVehicle(vehicle.getId(), concurrent);
+
+        // Act & Assert
+        mockMvc.perform(patch("/api/veiculos/" + vehicle.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"description\": \"Atrasado\", \"version\": " + readVersion + "}"))
+            .andExpect(status().isConflict())
+            .andExpect(jsonPath("$.status").value("409 Conflict"));
+
+        mockMvc.perform(patch("/api/veiculos/" + vehicle.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"year\": 2021, \"version\": " + readVersion + "}"))
+            .andExpect(status().isConflict());
+
+        Vehicle current = vehicleService.getVehicle(vehicle.getId());
+        assertEquals("Concorrente", current.getDescription());
+        assertEquals(2020, current.getYear());
+    }
+}
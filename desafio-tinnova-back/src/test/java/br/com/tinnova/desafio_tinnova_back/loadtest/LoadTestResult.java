@@ -0,0 +1,146 @@
+package br.com.tinnova.desafio_tinnova_back.loadtest;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.HdrHistogram.Histogram;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import br.com.tinnova.desafio_tinnova_back.loadtest.VehicleApiLoadTest.Operation;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Resultado de uma execução do teste de carga, no mesmo formato do baseline versionado
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+class LoadTestResult {
+    // Operações com menos amostras que isso no baseline têm percentis instáveis demais para comparar
+    static final long MIN_REQUESTS_TO_COMPARE = 100;
+
+    private int vehicles;
+    private int concurrency;
+    private int durationSeconds;
+    private long requests;
+    private long errors;
+    private double requestsPerSecond;
+    private Map<String, OperationStats> operations;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    static class OperationStats {
+        private long requests;
+        private long errors;
+        private double requestsPerSecond;
+        private double meanMs;
+        private double p50Ms;
+        private double p90Ms;
+        private double p99Ms;
+        private double p999Ms;
+        private double maxMs;
+    }
+
+    static LoadTestResult of(int vehicles, int concurrency, int durationSeconds, long elapsedNanos,
+                             Map<Operation, Histogram> histograms, Map<Operation, AtomicLong> errors) {
+        double seconds = elapsedNanos / 1e9;
+        Map<String, OperationStats> operations = new LinkedHashMap<>();
+        long totalRequests = 0;
+        long totalErrors = 0;
+        for (Operation operation : Operation.values()) {
+            Histogram histogram = histograms.get(operation);
+            long count = histogram.getTotalCount();
+            long failed = errors.get(operation).get();
+            totalRequests += count;
+            totalErrors += failed;
+            operations.put(operation.name().toLowerCase(Locale.ROOT), new OperationStats(
+                count,
+                failed,
+                round(count / seconds),
+                toMillis(histogram.getMean()),
+                toMillis(histogram.getValueAtPercentile(50)),
+                toMillis(histogram.getValueAtPercentile(90)),
+                toMillis(histogram.getValueAtPercentile(99)),
+                toMillis(histogram.getValueAtPercentile(99.9)),
+                toMillis(histogram.getMaxValue())
+            ));
+        }
+        return new LoadTestResult(vehicles, concurrency, durationSeconds, totalRequests, totalErrors,
+            round(totalRequests / seconds), operations);
+    }
+
+    static LoadTestResult read(ObjectMapper objectMapper, Path path) throws IOException {
+        return objectMapper.readValue(path.toFile(), LoadTestResult.class);
+    }
+
+    void write(ObjectMapper objectMapper, Path path) throws IOException {
+        objectMapper.writer(SerializationFeature.INDENT_OUTPUT).writeValue(path.toFile(), this);
+    }
+
+    double errorRate() {
+        return requests == 0 ? 0 : (double) errors / requests;
+    }
+
+    boolean hasSameConfiguration(LoadTestResult other) {
+        return vehicles == other.vehicles && concurrency == other.concurrency && durationSeconds == other.durationSeconds;
+    }
+
+    /**
+     * Compara com o baseline: p99 acima ou vazão abaixo do baseline além da tolerância contam como regressão
+     * @return As regressões encontradas (vazio quando não há)
+     */
+    List<String> compareTo(LoadTestResult baseline, double tolerance) {
+        List<String> regressions = new ArrayList<>();
+        if (requestsPerSecond < baseline.requestsPerSecond * (1 - tolerance)) {
+            regressions.add(String.format(Locale.ROOT, "total: %.1f req/s (baseline %.1f)",
+                requestsPerSecond, baseline.requestsPerSecond));
+        }
+        baseline.operations.forEach((name, expected) -> {
+            OperationStats actual = operations.get(name);
+            if (actual == null || expected.requests < MIN_REQUESTS_TO_COMPARE) {
+                return;
+            }
+            if (actual.p99Ms > expected.p99Ms * (1 + tolerance)) {
+                regressions.add(String.format(Locale.ROOT, "%s: p99 %.2f ms (baseline %.2f ms)", name, actual.p99Ms, expected.p99Ms));
+            }
+            if (actual.requestsPerSecond < expected.requestsPerSecond * (1 - tolerance)) {
+                regressions.add(String.format(Locale.ROOT, "%s: %.1f req/s (baseline %.1f)",
+                    name, actual.requestsPerSecond, expected.requestsPerSecond));
+            }
+        });
+        return regressions;
+    }
+
+    String toTable() {
+        StringBuilder table = new StringBuilder(String.format(Locale.ROOT,
+            "%nCarga: %d veículos, %d clientes, %d s -> %d requisições (%d erros), %.1f req/s%n",
+            vehicles, concurrency, durationSeconds, requests, errors, requestsPerSecond));
+        table.append(String.format(Locale.ROOT, "%-8s %9s %7s %9s %9s %9s %9s %9s %9s%n",
+            "op", "req", "erros", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms"));
+        operations.forEach((name, stats) -> table.append(String.format(Locale.ROOT,
+            "%-8s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+            name, stats.requests, stats.errors, stats.requestsPerSecond,
+            stats.p50Ms, stats.p90Ms, stats.p99Ms, stats.p999Ms, stats.maxMs)));
+        return table.toString();
+    }
+
+    private static double toMillis(double nanos) {
+        return round(nanos / 1e6);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1000) / 1000.0;
+    }
+}
@@ -0,0 +1,347 @@
+package br.com.tinnova.desafio_tinnova_back.loadtest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.tinnova.desafio_tinnova_back.entity.Model;
+import br.com.tinnova.desafio_tinnova_back.entity.Vehicle;
+import br.com.tinnova.desafio_tinnova_back.repository.ModelRepository;
+import br.com.tinnova.desafio_tinnova_back.repository.VehicleRepository;
+
+/**
+ * Teste de carga da API de veículos: sobe a aplicação em uma porta aleatória com H2 em memória, cadastra
+ * veículos usando o catálogo do schema.sql de teste e dispara uma carga mista (listagem paginada, criação,
+ * PUT, PATCH e exclusão) com vários clientes simultâneos. As latências vão para histogramas HdrHistogram
+ * por operação; o resultado é gravado em target/loadtest/result.json e comparado com o baseline.
+ *
+ * Parâmetros (-D na linha de comando do Maven):
+ * loadtest.vehicles (1000), loadtest.concurrency (8), loadtest.warmupSeconds (5), loadtest.durationSeconds (20),
+ * loadtest.mix (list:40,create:15,put:15,patch:20,delete:10; a operação sort pode ser incluída), loadtest.sortSize (2000),
+ * loadtest.tolerance (0.30),
+ * loadtest.baseline (src/test/resources/loadtest/baseline.json) e loadtest.updateBaseline (false).
+ */
+@Tag("load")
+@ActiveProfiles("test")
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = {
+        "spring.datasource.url=jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.show_sql=false",
+        "spring.jpa.properties.hibernate.format_sql=false",
+        "logging.level.root=WARN",
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+        "logging.level.org.springframework.web=WARN",
+        "logging.level.br.com.tinnova=WARN"
+    }
+)
+class VehicleApiLoadTest {
+
+    private static final int VEHICLES = Integer.getInteger("loadtest.vehicles", 1_000);
+    private static final int CONCURRENCY = Integer.getInteger("loadtest.concurrency", 8);
+    private static final int WARMUP_SECONDS = Integer.getInteger("loadtest.warmupSeconds", 5);
+    private static final int DURATION_SECONDS = Integer.getInteger("loadtest.durationSeconds", 20);
+    private static final String MIX = System.getProperty("loadtest.mix", "list:40,create:15,put:15,patch:20,delete:10");
+    private static final double TOLERANCE = Double.parseDouble(System.getProperty("loadtest.tolerance", "0.30"));
+    private static final Path BASELINE = Path.of(System.getProperty("loadtest.baseline", "src/test/resources/loadtest/baseline.json"));
+    private static final boolean UPDATE_BASELINE = Boolean.getBoolean("loadtest.updateBaseline");
+    private static final int SORT_SIZE = Integer.getInteger("loadtest.sortSize", 2_000);
+    private static final Path RESULT = Path.of("target", "loadtest", "result.json");
+
+    // Latências de 1 µs a 60 s com 3 dígitos significativos
+    private static final long MAX_LATENCY_NANOS = Duration.ofSeconds(60).toNanos();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private VehicleRepository vehicleRepository;
+
+    @Autowired
+    private ModelRepository modelRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private HttpClient httpClient;
+    private List<Model> models;
+    private IdPool ids;
+    private final AtomicInteger plateSequence = new AtomicInteger();
+
+    enum Operation {
+        LIST,
+        CREATE,
+        PUT,
+        PATCH,
+        DELETE,
+        // Fora do mix padrão: ordenação por bubble sort (trabalho de CPU no pool de exercícios)
+        SORT
+    }
+
+    @BeforeEach
+    void setUp() {
+        httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+        models = modelRepository.findAll();
+        assertFalse(models.isEmpty(), "O catálogo do schema.sql de teste deve ter modelos");
+
+        vehicleRepository.deleteAllInBatch();
+        List<Vehicle> seed = new ArrayList<>(VEHICLES);
+        for (int i = 0; i < VEHICLES; i++) {
+            Model model = models.get(i % models.size());
+            Vehicle vehicle = new Vehicle();
+            vehicle.setPlate(nextPlate());
+            vehicle.setModel(model);
+            vehicle.setBrand(model.getBrand());
+            vehicle.setYear(1990 + i % 35);
+            vehicle.setDescription("Carga inicial " + i);
+            vehicle.setIsSold(i % 3 == 0);
+            seed.add(vehicle);
+        }
+        ids = new IdPool();
+        vehicleRepository.saveAll(seed).forEach(vehicle -> ids.add(vehicle.getId()));
+    }
+
+    @Test
+    void mixedWorkload() throws Exception {
+        Map<Operation, Integer> weights = parseMix(MIX);
+
+        // Aquecimento: mesma carga, sem registrar
+        runWorkload(weights, WARMUP_SECONDS, null, null);
+
+        Map<Operation, Histogram> histograms = new EnumMap<>(Operation.class);
+        Map<Operation, AtomicLong> errors = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            histograms.put(operation, new ConcurrentHistogram(1_000, MAX_LATENCY_NANOS, 3));
+            errors.put(operation, new AtomicLong());
+        }
+        long elapsedNanos = runWorkload(weights, DURATION_SECONDS, histograms, errors);
+
+        LoadTestResult result = LoadTestResult.of(VEHICLES, CONCURRENCY, DURATION_SECONDS, elapsedNanos, histograms, errors);
+        Files.createDirectories(RESULT.getParent());
+        result.write(objectMapper, RESULT);
+        System.out.println(result.toTable());
+
+        assertTrue(result.errorRate() <= 0.01, "Taxa de erros acima de 1%: " + result.errorRate());
+
+        if (UPDATE_BASELINE || !Files.exists(BASELINE)) {
+            Files.createDirectories(BASELINE.toAbsolutePath().getParent());
+            result.write(objectMapper, BASELINE);
+            System.out.println("Baseline gravado em " + BASELINE.toAbsolutePath());
+            return;
+        }
+
+        LoadTestResult baseline = LoadTestResult.read(objectMapper, BASELINE);
+        if (!result.hasSameConfiguration(baseline)) {
+            System.out.println("Parâmetros diferentes dos do baseline; comparação ignorada");
+            return;
+        }
+        List<String> regressions = result.compareTo(baseline, TOLERANCE);
+        assertTrue(regressions.isEmpty(), "Regressões em relação ao baseline:\n" + String.join("\n", regressions));
+    }
+
+    private long runWorkload(Map<Operation, Integer> weights, int seconds,
+                             Map<Operation, Histogram> histograms, Map<Operation, AtomicLong> errors) throws Exception {
+        Operation[] wheel = buildWheel(weights);
+        long start = System.nanoTime();
+        long deadline = start + Duration.ofSeconds(seconds).toNanos();
+
+        ExecutorService workers = Executors.newFixedThreadPool(CONCURRENCY);
+        try {
+            List<Future<?>> futures = new ArrayList<>(CONCURRENCY);
+            for (int i = 0; i < CONCURRENCY; i++) {
+                futures.add(workers.submit(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    while (System.nanoTime() < deadline) {
+                        Operation operation = wheel[random.nextInt(wheel.length)];
+                        long begin = System.nanoTime();
+                        boolean success = execute(operation, random);
+                        long latency = System.nanoTime() - begin;
+                        if (histograms != null) {
+                            histograms.get(operation).recordValue(Math.min(Math.max(latency, 1_000), MAX_LATENCY_NANOS));
+                            if (!success) {
+                                errors.get(operation).incrementAndGet();
+                            }
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            workers.shutdownNow();
+        }
+        return System.nanoTime() - start;
+    }
+
+    private boolean execute(Operation operation, ThreadLocalRandom random) throws Exception {
+        switch (operation) {
+            case LIST: {
+                Long cursor = ids.randomOrNull(random);
+                String query = cursor == null ? "?size=20" : "?size=20&cursor=" + cursor;
+                return send(HttpRequest.newBuilder(uri("/api/veiculos/paginado" + query)).GET()).statusCode() == 200;
+            }
+            case CREATE: {
+                Model model = models.get(random.nextInt(models.size()));
+                Map<String, Object> body = vehicleBody(model, random);
+                body.put("plate", nextPlate());
+                HttpResponse<String> response = send(jsonRequest("/api/veiculos", "POST", body));
+                if (response.statusCode() != 200) {
+                    return false;
+                }
+                ids.add(objectMapper.readTree(response.body()).path("id").asLong());
+                return true;
+            }
+            case PUT:
+            case PATCH: {
+                // O id sai do pool durante a atualização, para não ser excluído por outro cliente ao mesmo tempo
+                Long id = ids.take(random);
+                if (id == null) {
+                    return true;
+                }
+                try {
+                    Map<String, Object> body = operation == Operation.PUT
+                        ? vehicleBody(models.get(random.nextInt(models.size())), random)
+                        : Map.of("description", "Atualizado " + random.nextInt(1_000_000));
+                    return send(jsonRequest("/api/veiculos/" + id, operation.name(), body)).statusCode() == 200;
+                } finally {
+                    ids.add(id);
+                }
+            }
+            case DELETE: {
+                Long id = ids.take(random);
+                if (id == null) {
+                    return true;
+                }
+                return send(HttpRequest.newBuilder(uri("/api/veiculos/" + id)).DELETE()).statusCode() == 200;
+            }
+            case SORT: {
+                int[] array = random.ints(SORT_SIZE).toArray();
+                HttpRequest.Builder request = HttpRequest.newBuilder(uri("/api/exercises/bubble-sort?algorithm=bubble"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(array)));
+                return send(request).statusCode() == 200;
+            }
+            default:
+                throw new IllegalStateException("Operação não suportada: " + operation);
+        }
+    }
+
+    private HttpResponse<String> send(HttpRequest.Builder request) throws Exception {
+        return httpClient.send(request.timeout(Duration.ofSeconds(30)).build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpRequest.Builder jsonRequest(String path, String method, Map<String, Object> body) throws Exception {
+        return HttpRequest.newBuilder(uri(path))
+            .header("Content-Type", "application/json")
+            .method(method, HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)));
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    // Helper methods
+    private Map<String, Object> vehicleBody(Model model, ThreadLocalRandom random) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("brandId", model.getBrand().getId());
+        body.put("modelId", model.getId());
+        body.put("year", 1990 + random.nextInt(35));
+        body.put("description", "Carga " + random.nextInt(1_000_000));
+        body.put("isSold", random.nextBoolean());
+        return body;
+    }
+
+    // Placas únicas no formato brasileiro: três letras a partir do sequencial / 10000 e quatro dígitos
+    private String nextPlate() {
+        int sequence = plateSequence.getAndIncrement();
+        int letters = sequence / 10_000;
+        return new String(new char[] {
+            (char) ('A' + letters / 676 % 26),
+            (char) ('A' + letters / 26 % 26),
+            (char) ('A' + letters % 26)
+        }) + String.format("-%04d", sequence % 10_000);
+    }
+
+    private static Map<Operation, Integer> parseMix(String mix) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split(":");
+            weights.put(Operation.valueOf(parts[0].trim().toUpperCase()), Integer.parseInt(parts[1].trim()));
+        }
+        return weights;
+    }
+
+    private static Operation[] buildWheel(Map<Operation, Integer> weights) {
+        List<Operation> wheel = new ArrayList<>();
+        weights.forEach((operation, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                wheel.add(operation);
+            }
+        });
+        assertFalse(wheel.isEmpty(), "loadtest.mix não tem operações com peso positivo");
+        return wheel.toArray(new Operation[0]);
+    }
+
+    /**
+     * Ids de veículos existentes; remoção por troca com o último para sortear em O(1)
+     */
+    private static final class IdPool {
+        private long[] ids = new long[1024];
+        private int size;
+
+        synchronized void add(long id) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = id;
+        }
+
+        synchronized Long randomOrNull(ThreadLocalRandom random) {
+            return size == 0 ? null : ids[random.nextInt(size)];
+        }
+
+        synchronized Long take(ThreadLocalRandom random) {
+            if (size == 0) {
+                return null;
+            }
+            int index = random.nextInt(size);
+            long id = ids[index];
+            ids[index] = ids[--size];
+            return id;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package br.com.tinnova.desafio_tinnova_back.metrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+
+class JpaStatementMetricsFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final JpaStatementMetricsFilter filter = new JpaStatementMetricsFilter(meterRegistry, false);
+
+    private final SqlQueryListener listener = new SqlQueryListener(() -> meterRegistry, Duration.ofHours(1), 10);
+
+    @Test
+    void testRecordsStatementsPerRoute() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/veiculos/42");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        filter.doFilter(request, response, (req, res) -> {
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/veiculos/{id}");
+            execute("select 1");
+            execute("select 2");
+            execute("update x set y = 1");
+        });
+
+        // Assert
+        DistributionSummary summary = meterRegistry.get(JpaStatementMetricsFilter.METRIC_NAME)
+            .tag("method", "GET")
+            .tag("uri", "/api/veiculos/{id}")
+            .summary();
+        assertEquals(1, summary.count());
+        assertEquals(3, summary.totalAmount());
+        assertEquals(0, SqlRequestStats.statements());
+        assertNull(response.getHeader(JpaStatementMetricsFilter.STATEMENT_COUNT_HEADER));
+    }
+
+    @Test
+    void testStatementsOutsideRequestAreNotCounted() {
+        // Act
+        execute("select 1");
+
+        // Assert
+        assertEquals(0, SqlRequestStats.statements());
+    }
+
+    @Test
+    void testDebugHeader_WrittenBeforeBodyIsCommitted() throws Exception {
+        // Arrange
+        JpaStatementMetricsFilter debugFilter = new JpaStatementMetricsFilter(meterRegistry, true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        debugFilter.doFilter(new MockHttpServletRequest("GET", "/api/veiculos"), response, (req, res) -> {
+            execute("select 1");
+            execute("select 2");
+            res.getWriter().write("[]");
+            res.flushBuffer();
+            // Comandos depois do commit não alteram os cabeçalhos já enviados
+            execute("select 3");
+        });
+
+        // Assert
+        assertEquals("2", response.getHeader(JpaStatementMetricsFilter.STATEMENT_COUNT_HEADER));
+        assertTrue(Double.parseDouble(response.getHeader(JpaStatementMetricsFilter.SQL_TIME_HEADER)) >= 0);
+        assertEquals("[]", response.getContentAsString());
+    }
+
+    @Test
+    void testDebugHeader_WrittenForResponsesWithoutBody() throws Exception {
+        // Arrange
+        JpaStatementMetricsFilter debugFilter = new JpaStatementMetricsFilter(meterRegistry, true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        debugFilter.doFilter(new MockHttpServletRequest("GET", "/api/veiculos"), response, (req, res) -> execute("select 1"));
+
+        // Assert
+        assertEquals("1", response.getHeader(JpaStatementMetricsFilter.STATEMENT_COUNT_HEADER));
+    }
+
+    // Helper methods
+    private void execute(String sql) {
+        ExecutionInfo execInfo = new ExecutionInfo();
+        execInfo.setSuccess(true);
+        List<QueryInfo> queries = List.of(new QueryInfo(sql));
+        listener.beforeQuery(execInfo, queries);
+        listener.afterQuery(execInfo, queries);
+    }
+}
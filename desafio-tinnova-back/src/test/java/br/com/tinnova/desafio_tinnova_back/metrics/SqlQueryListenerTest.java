@@ -0,0 +1,113 @@
+package br.com.tinnova.desafio_tinnova_back.metrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+
+class SqlQueryListenerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final Logger slowQueryLogger = (Logger) LoggerFactory.getLogger(SqlQueryListener.SLOW_QUERY_LOGGER);
+    private final ListAppender<ILoggingEvent> slowQueries = new ListAppender<>();
+
+    @BeforeEach
+    void setUp() {
+        slowQueries.start();
+        slowQueryLogger.addAppender(slowQueries);
+    }
+
+    @AfterEach
+    void tearDown() {
+        slowQueryLogger.detachAppender(slowQueries);
+        SqlRequestStats.end();
+    }
+
+    @Test
+    void testNormalize_CollapsesLiteralsWhitespaceAndLists() {
+        // Act & Assert
+        assertEquals("select v.id from vehicle v where v.brand_id in (?) and v.veiculo = ?",
+            SqlQueryListener.normalize("select v.id\n  from vehicle v where v.brand_id in (?, ?, ?) and v.veiculo = 'Gol'"));
+        assertEquals("insert into brand (name) values (?)",
+            SqlQueryListener.normalize("/* insert Brand */ insert into brand (name) values (?), (?), (?)"));
+        assertEquals("select b1_0.id from brand b1_0 where b1_0.id = ? limit ?",
+            SqlQueryListener.normalize("select b1_0.id from brand b1_0 where b1_0.id = 42 limit 10"));
+    }
+
+    @Test
+    void testTimerPerSignature_GroupsQueriesWithDifferentLiterals() {
+        // Arrange
+        SqlQueryListener listener = new SqlQueryListener(() -> meterRegistry, Duration.ofHours(1), 10);
+        SqlRequestStats.begin();
+
+        // Act
+        execute(listener, "select * from vehicle where id = 1");
+        execute(listener, "select * from vehicle where id = 2");
+        execute(listener, "delete from vehicle where id = ?");
+
+        // Assert
+        String selectSignature = SqlQueryListener.signatureId("select * from vehicle where id = ?");
+        Timer select = meterRegistry.get(SqlQueryListener.METRIC_NAME).tag("signature", selectSignature).timer();
+        assertEquals(2, select.count());
+        assertEquals("select", select.getId().getTag("operation"));
+        assertEquals(1, meterRegistry.get(SqlQueryListener.METRIC_NAME).tag("operation", "delete").timer().count());
+        assertEquals(3, SqlRequestStats.statements());
+        assertTrue(slowQueries.list.isEmpty());
+    }
+
+    @Test
+    void testSignatureLimit_ExtraSignaturesGoToOther() {
+        // Arrange
+        SqlQueryListener listener = new SqlQueryListener(() -> meterRegistry, Duration.ofHours(1), 1);
+
+        // Act
+        execute(listener, "select * from brand");
+        execute(listener, "select * from model");
+        execute(listener, "select * from vehicle");
+
+        // Assert
+        assertEquals(2, meterRegistry.get(SqlQueryListener.METRIC_NAME).timers().size());
+        assertEquals(2, meterRegistry.get(SqlQueryListener.METRIC_NAME).tag("signature", SqlQueryListener.OTHER).timer().count());
+    }
+
+    @Test
+    void testSlowQueryLog_StructuredAndWithoutParameters() {
+        // Arrange
+        SqlQueryListener listener = new SqlQueryListener(() -> meterRegistry, Duration.ZERO, 10);
+        SqlRequestStats.begin("GET /api/veiculos");
+
+        // Act
+        execute(listener, "select * from vehicle where veiculo = 'segredo'");
+
+        // Assert
+        assertEquals(1, slowQueries.list.size());
+        String message = slowQueries.list.get(0).getFormattedMessage();
+        assertTrue(message.startsWith("slow_query elapsed_ms="));
+        assertTrue(message.contains("operation=select"));
+        assertTrue(message.contains("request=\"GET /api/veiculos\""));
+        assertTrue(message.contains("sql=\"select * from vehicle where veiculo = ?\""));
+        assertFalse(message.contains("segredo"));
+    }
+
+    // Helper methods
+    private void execute(SqlQueryListener listener, String sql) {
+        ExecutionInfo execInfo = new ExecutionInfo();
+        execInfo.setSuccess(true);
+        List<QueryInfo> queries = List.of(new QueryInfo(sql));
+        listener.beforeQuery(execInfo, queries);
+        listener.afterQuery(execInfo, queries);
+    }
+}
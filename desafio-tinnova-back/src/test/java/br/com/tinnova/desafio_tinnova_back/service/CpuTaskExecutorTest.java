@@ -0,0 +1,76 @@
+package br.com.tinnova.desafio_tinnova_back.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class CpuTaskExecutorTest {
+
+    private final CpuTaskExecutor cpuTaskExecutor = new CpuTaskExecutor(1, 1, new SimpleMeterRegistry());
+
+    @AfterEach
+    void tearDown() {
+        cpuTaskExecutor.shutdown();
+    }
+
+    @Test
+    void testSubmit_ReturnsResultFromPoolThread() throws Exception {
+        // Act
+        String threadName = cpuTaskExecutor.submit(() -> Thread.currentThread().getName()).get(5, TimeUnit.SECONDS);
+
+        // Assert
+        assertTrue(threadName.startsWith("cpu-task-"));
+    }
+
+    @Test
+    void testSubmit_PropagatesOriginalException() {
+        // Act
+        CompletableFuture<Object> future = cpuTaskExecutor.submit(() -> {
+            throw new IllegalArgumentException("Array não pode ser nulo ou vazio");
+        });
+
+        // Assert
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalArgumentException.class, exception.getCause());
+    }
+
+    @Test
+    void testSubmit_RejectsWhenPoolAndQueueAreFull() throws Exception {
+        // Arrange
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Integer> running = cpuTaskExecutor.submit(() -> {
+            started.countDown();
+            await(release);
+            return 1;
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<Integer> queued = cpuTaskExecutor.submit(() -> 2);
+
+        // Act & Assert
+        assertEquals(1, cpuTaskExecutor.queueSize());
+        assertThrows(RejectedExecutionException.class, () -> cpuTaskExecutor.submit(() -> 3));
+
+        release.countDown();
+        assertEquals(1, running.get(5, TimeUnit.SECONDS));
+        assertEquals(2, queued.get(5, TimeUnit.SECONDS));
+    }
+
+    // Helper methods
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
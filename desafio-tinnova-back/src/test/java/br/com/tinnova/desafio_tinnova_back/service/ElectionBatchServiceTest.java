@@ -0,0 +1,133 @@
+package br.com.tinnova.desafio_tinnova_back.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import br.com.tinnova.desafio_tinnova_back.dto.ElectionBatchRequestDTO;
+import br.com.tinnova.desafio_tinnova_back.dto.ElectionBatchResultDTO;
+import br.com.tinnova.desafio_tinnova_back.dto.ElectionResultDTO;
+import br.com.tinnova.desafio_tinnova_back.entity.Election;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ElectionBatchServiceTest {
+
+    private final ElectionBatchService electionBatchService = new ElectionBatchService();
+
+    private final ExerciseService exerciseService = new ExerciseService(new SortingService(), new SimpleMeterRegistry());
+
+    @Test
+    void testCalculateElectionPercentages_SmallBatch() {
+        // Arrange
+        ElectionBatchRequestDTO batch = new ElectionBatchRequestDTO(
+            new int[] {1000, 200},
+            new int[] {800, 150},
+            new int[] {150, 30},
+            new int[] {50, 20}
+        );
+
+        // Act
+        ElectionBatchResultDTO result = electionBatchService.calculateElectionPercentages(batch);
+
+        // Assert
+        assertEquals(2, result.getCount());
+        assertArrayEquals(new double[] {80.0, 75.0}, result.getValidVotePercentages(), 0.0001);
+        assertArrayEquals(new double[] {15.0, 15.0}, result.getBlankVotePercentages(), 0.0001);
+        assertArrayEquals(new double[] {5.0, 10.0}, result.getNullVotePercentages(), 0.0001);
+        assertEquals(1200, result.getTotalVoters());
+        assertEquals(950, result.getTotalValidVotes());
+        assertEquals(950.0 / 1200 * 100, result.getValidVotePercentage(), 0.0001);
+        assertEquals(70.0 / 1200 * 100, result.getNullVotePercentage(), 0.0001);
+    }
+
+    @Test
+    void testCalculateElectionPercentages_LargeBatchMatchesSingleElection() {
+        // Arrange
+        int count = ElectionBatchService.PARALLEL_THRESHOLD * 2 + 7;
+        ElectionBatchRequestDTO batch = randomBatch(count, new Random(12));
+
+        // Act
+        ElectionBatchResultDTO result = electionBatchService.calculateElectionPercentages(batch);
+
+        // Assert
+        long totalVoters = 0;
+        for (int i = 0; i < count; i++) {
+            ElectionResultDTO single = exerciseService.calculateElectionPercentages(new Election(
+                batch.getVoters()[i], batch.getValid()[i], batch.getBlank()[i], batch.getNullVotes()[i]));
+            assertEquals(single.getValidVotePercentage(), result.getValidVotePercentages()[i]);
+            assertEquals(single.getBlankVotePercentage(), result.getBlankVotePercentages()[i]);
+            assertEquals(single.getNullVotePercentage(), result.getNullVotePercentages()[i]);
+            totalVoters += batch.getVoters()[i];
+        }
+        assertEquals(totalVoters, result.getTotalVoters());
+    }
+
+    @Test
+    void testCalculateElectionPercentages_InvalidElementReportsPosition() {
+        // Arrange
+        ElectionBatchRequestDTO batch = new ElectionBatchRequestDTO(
+            new int[] {100, 0}, new int[] {80, 0}, new int[] {10, 0}, new int[] {10, 0});
+
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+            () -> electionBatchService.calculateElectionPercentages(batch));
+        assertEquals("Dados da eleição inválidos na posição 1", exception.getMessage());
+    }
+
+    @Test
+    void testCalculateElectionPercentages_RejectsNegativeCounts() {
+        // Arrange
+        ElectionBatchRequestDTO negativeValid = new ElectionBatchRequestDTO(
+            new int[] {100, 100}, new int[] {80, -80}, new int[] {10, 10}, new int[] {10, 10});
+        ElectionBatchRequestDTO negativeNull = new ElectionBatchRequestDTO(
+            new int[] {100}, new int[] {80}, new int[] {10}, new int[] {-10});
+
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+            () -> electionBatchService.calculateElectionPercentages(negativeValid));
+        assertEquals("Valor negativo para valid na posição 1: -80", exception.getMessage());
+        exception = assertThrows(IllegalArgumentException.class,
+            () -> electionBatchService.calculateElectionPercentages(negativeNull));
+        assertEquals("Valor negativo para null na posição 0: -10", exception.getMessage());
+    }
+
+    @Test
+    void testCalculateElectionPercentages_MismatchedLengths() {
+        // Arrange
+        ElectionBatchRequestDTO batch = new ElectionBatchRequestDTO(
+            new int[] {100, 200}, new int[] {80}, new int[] {10, 20}, new int[] {10, 20});
+
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+            () -> electionBatchService.calculateElectionPercentages(batch));
+        assertEquals("Os arrays do lote devem ter o mesmo tamanho", exception.getMessage());
+    }
+
+    @Test
+    void testCalculateElectionPercentages_EmptyOrMissing() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> electionBatchService.calculateElectionPercentages(null));
+        assertThrows(IllegalArgumentException.class, () -> electionBatchService.calculateElectionPercentages(
+            new ElectionBatchRequestDTO(new int[0], new int[0], new int[0], new int[0])));
+        assertThrows(IllegalArgumentException.class, () -> electionBatchService.calculateElectionPercentages(
+            new ElectionBatchRequestDTO(new int[] {1}, new int[] {1}, new int[] {0}, null)));
+    }
+
+    // Helper methods
+    private ElectionBatchRequestDTO randomBatch(int count, Random random) {
+        int[] voters = new int[count];
+        int[] valid = new int[count];
+        int[] blank = new int[count];
+        int[] nullVotes = new int[count];
+        for (int i = 0; i < count; i++) {
+            voters[i] = 1 + random.nextInt(1_000);
+            blank[i] = random.nextInt(voters[i] / 4 + 1);
+            nullVotes[i] = random.nextInt(voters[i] / 4 + 1);
+            valid[i] = voters[i] - blank[i] - nullVotes[i];
+        }
+        return new ElectionBatchRequestDTO(voters, valid, blank, nullVotes);
+    }
+}
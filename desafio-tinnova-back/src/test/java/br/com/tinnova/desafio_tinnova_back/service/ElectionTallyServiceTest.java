@@ -0,0 +1,203 @@
+package br.com.tinnova.desafio_tinnova_back.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.tinnova.desafio_tinnova_back.dto.ElectionTallyRegionDTO;
+import br.com.tinnova.desafio_tinnova_back.dto.ElectionTallySnapshotDTO;
+import br.com.tinnova.desafio_tinnova_back.dto.ElectionTallySnapshotDTO.Status;
+import br.com.tinnova.desafio_tinnova_back.util.RecordReader;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ElectionTallyServiceTest {
+
+    private ElectionTallyService electionTallyService;
+
+    @BeforeEach
+    void setUp() {
+        electionTallyService = new ElectionTallyService(new ExerciseService(new SortingService(), new SimpleMeterRegistry()), new ObjectMapper());
+    }
+
+    @Test
+    void testIngestCsv_AggregatesPerRegion() throws Exception {
+        // Arrange
+        String id = electionTallyService.create().getId();
+        String csv = "station,region,voters,valid,blank,null\n"
+            + "001,Sul,1000,800,150,50\n"
+            + "002,Sul,1000,700,200,100\n"
+            + "003,Norte,500,400,50,50\n"
+            + "004,,100,90,5,5\n";
+
+        // Act
+        ElectionTallySnapshotDTO snapshot = electionTallyService.ingestCsv(id, toStream(csv));
+
+        // Assert
+        assertEquals(Status.COMPLETED, snapshot.getStatus());
+        assertEquals(4, snapshot.getRowsProcessed());
+        assertEquals(0, snapshot.getRowsRejected());
+        assertEquals(2600, snapshot.getNational().getTotalVoters());
+        assertEquals(1990.0 / 2600 * 100, snapshot.getNational().getValidVotePercentage(), 0.0001);
+
+        List<ElectionTallyRegionDTO> regions = snapshot.getRegions();
+        assertEquals(List.of(ElectionTallyService.UNKNOWN_REGION, "Norte", "Sul"),
+            regions.stream().map(ElectionTallyRegionDTO::getRegion).toList());
+        ElectionTallyRegionDTO south = regions.get(2);
+        assertEquals(2, south.getStations());
+        assertEquals(75.0, south.getValidVotePercentage(), 0.0001);
+        assertEquals(17.5, south.getBlankVotePercentage(), 0.0001);
+        assertEquals(7.5, south.getNullVotePercentage(), 0.0001);
+    }
+
+    @Test
+    void testIngestNdjson_RejectsInvalidRows() throws Exception {
+        // Arrange
+        String id = electionTallyService.create().getId();
+        String ndjson = "{\"station\":\"001\",\"region\":\"Sul\",\"voters\":1000,\"valid\":800,\"blank\":150,\"null\":50}\n"
+            + "\n"
+            + "{\"station\":\"002\",\"region\":\"Sul\",\"voters\":0,\"valid\":0,\"blank\":0,\"null\":0}\n"
+            + "{\"station\":\"003\",\"region\":\"Sul\",\"voters\":\"mil\",\"valid\":0,\"blank\":0,\"null\":0}\n"
+            + "{nao e json\n"
+            + "{\"station\":\"005\",\"region\":\"Sul\",\"voters\":10,\"valid\":10,\"blank\":0}\n";
+
+        // Act
+        ElectionTallySnapshotDTO snapshot = electionTallyService.ingestNdjson(id, toStream(ndjson));
+
+        // Assert
+        assertEquals(5, snapshot.getRowsProcessed());
+        assertEquals(4, snapshot.getRowsRejected());
+        assertEquals(1000, snapshot.getNational().getTotalVoters());
+        assertEquals("Linha 2 (seção 002): Dados da eleição inválidos", snapshot.getErrors().get(0));
+        assertEquals("Linha 3 (seção 003): Valor inválido para voters: \"mil\"", snapshot.getErrors().get(1));
+        assertTrue(snapshot.getErrors().get(2).startsWith("Linha 4: JSON inválido"));
+        assertEquals("Linha 5 (seção 005): Campo obrigatório ausente: null", snapshot.getErrors().get(3));
+    }
+
+    @Test
+    void testIngestCsv_RejectsCountsOutOfIntRangeOrNegative() throws Exception {
+        // Arrange
+        String id = electionTallyService.create().getId();
+        String csv = "station,region,voters,valid,blank,null\n"
+            + "001,Sul,9223372036854775807,0,0,0\n"
+            + "002,Sul,1000,-800,150,50\n"
+            + "003,Sul,1000,800,150,50\n";
+
+        // Act
+        ElectionTallySnapshotDTO snapshot = electionTallyService.ingestCsv(id, toStream(csv));
+
+        // Assert
+        assertEquals(Status.COMPLETED, snapshot.getStatus());
+        assertEquals(2, snapshot.getRowsRejected());
+        assertEquals("Linha 1 (seção 001): Valor inválido para voters: 9223372036854775807", snapshot.getErrors().get(0));
+        assertEquals("Linha 2 (seção 002): Valor negativo para valid: -800", snapshot.getErrors().get(1));
+        assertEquals(1000, snapshot.getNational().getTotalVoters());
+        assertEquals(80.0, snapshot.getNational().getValidVotePercentage(), 0.0001);
+        assertEquals(80.0, electionTallyService.getSnapshot(id).orElseThrow().getNational().getValidVotePercentage(), 0.0001);
+    }
+
+    @Test
+    void testIngestNdjson_RejectsLineOverLengthLimitWithoutBufferingIt() throws Exception {
+        // Arrange: uma linha sem quebra de 16 MB entre duas linhas válidas
+        String id = electionTallyService.create().getId();
+        String row = "{\"region\":\"Sul\",\"voters\":10,\"valid\":8,\"blank\":1,\"null\":1}\n";
+        InputStream endless = new InputStream() {
+            private long remaining = 16L * 1024 * 1024;
+
+            @Override
+            public int read() {
+                return remaining-- > 0 ? 'x' : -1;
+            }
+        };
+        InputStream input = new SequenceInputStream(toStream(row),
+            new SequenceInputStream(endless, toStream("\n" + row)));
+
+        // Act
+        ElectionTallySnapshotDTO snapshot = electionTallyService.ingestNdjson(id, input);
+
+        // Assert
+        assertEquals(3, snapshot.getRowsProcessed());
+        assertEquals(1, snapshot.getRowsRejected());
+        assertEquals("Linha 2: Registro excede o limite de " + RecordReader.DEFAULT_MAX_RECORD_LENGTH + " caracteres",
+            snapshot.getErrors().get(0));
+        assertEquals(20, snapshot.getNational().getTotalVoters());
+    }
+
+    @Test
+    void testIngestCsv_SnapshotIsAvailableDuringIngestion() throws Exception {
+        // Arrange
+        String id = electionTallyService.create().getId();
+        StringBuilder first = new StringBuilder("region,voters,valid,blank,null\n");
+        for (int i = 0; i < ElectionTallyService.PUBLISH_INTERVAL; i++) {
+            first.append("Sul,10,8,1,1\n");
+        }
+        AtomicReference<ElectionTallySnapshotDTO> during = new AtomicReference<>();
+        InputStream probe = new InputStream() {
+            @Override
+            public int read() {
+                during.compareAndSet(null, electionTallyService.getSnapshot(id).orElseThrow());
+                return -1;
+            }
+        };
+        InputStream input = new SequenceInputStream(toStream(first.toString()),
+            new SequenceInputStream(probe, toStream("Norte,10,10,0,0\n")));
+
+        // Act
+        ElectionTallySnapshotDTO result = electionTallyService.ingestCsv(id, input);
+
+        // Assert
+        assertEquals(Status.INGESTING, during.get().getStatus());
+        assertEquals(ElectionTallyService.PUBLISH_INTERVAL, during.get().getRowsProcessed());
+        assertEquals(ElectionTallyService.PUBLISH_INTERVAL * 10L, during.get().getNational().getTotalVoters());
+        assertEquals(ElectionTallyService.PUBLISH_INTERVAL + 1, result.getRowsProcessed());
+        assertEquals(2, result.getRegions().size());
+    }
+
+    @Test
+    void testIngestCsv_MissingColumns() {
+        // Arrange
+        String id = electionTallyService.create().getId();
+
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+            () -> electionTallyService.ingestCsv(id, toStream("region,voters\nSul,10\n")));
+        assertTrue(exception.getMessage().startsWith("Cabeçalho do CSV deve conter as colunas"));
+        assertEquals(Status.FAILED, electionTallyService.getSnapshot(id).orElseThrow().getStatus());
+    }
+
+    @Test
+    void testIngest_UnknownTally() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> electionTallyService.ingestCsv("desconhecida", toStream("")));
+        assertTrue(electionTallyService.getSnapshot("desconhecida").isEmpty());
+    }
+
+    @Test
+    void testCreate_EvictsOldestIdleTally() {
+        // Arrange
+        String first = electionTallyService.create().getId();
+
+        // Act
+        for (int i = 0; i < ElectionTallyService.MAX_TALLIES; i++) {
+            electionTallyService.create();
+        }
+
+        // Assert
+        assertTrue(electionTallyService.getSnapshot(first).isEmpty());
+    }
+
+    // Helper methods
+    private InputStream toStream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,252 @@
+package br.com.tinnova.desafio_tinnova_back.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import br.com.tinnova.desafio_tinnova_back.dto.BubbleSortResponseDTO;
+import br.com.tinnova.desafio_tinnova_back.dto.ExerciseJobDTO;
+import br.com.tinnova.desafio_tinnova_back.dto.ExerciseJobDTO.Status;
+import br.com.tinnova.desafio_tinnova_back.service.SortingService.Algorithm;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ExerciseJobServiceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExerciseJobService exerciseJobService = new ExerciseJobService(
+        new ExerciseService(new SortingService(), meterRegistry), new FactorialService(meterRegistry),
+        1, 4, 10, 1024 * 1024, meterRegistry);
+
+    @AfterEach
+    void tearDown() {
+        exerciseJobService.shutdown();
+    }
+
+    @Test
+    void testSubmitSort_CompletesAndResubmissionHitsCache() throws InterruptedException {
+        // Arrange
+        int[] array = new Random(3).ints(2_000).toArray();
+        int[] expected = array.clone();
+        Arrays.sort(expected);
+
+        // Act
+        ExerciseJobDTO job = exerciseJobService.submitSort(array.clone(), null);
+        ExerciseJobDTO finished = awaitFinished(job.getId());
+        ExerciseJobDTO resubmitted = exerciseJobService.submitSort(array.clone(), "bubble");
+
+        // Assert
+        assertEquals(Status.COMPLETED, finished.getStatus());
+        assertEquals(1.0, finished.getProgress());
+        assertFalse(finished.isCached());
+        BubbleSortResponseDTO result = (BubbleSortResponseDTO) exerciseJobService.getResult(job.getId()).orElseThrow();
+        assertArrayEquals(expected, result.getSortedArray());
+        assertEquals("BUBBLE", result.getAlgorithm());
+
+        assertNotEquals(job.getId(), resubmitted.getId());
+        assertEquals(Status.COMPLETED, resubmitted.getStatus());
+        assertTrue(resubmitted.isCached());
+        assertSame(result, exerciseJobService.getResult(resubmitted.getId()).orElseThrow());
+        assertEquals(1, exerciseJobService.cachedResults());
+    }
+
+    @Test
+    void testCancel_StopsRunningJobAndRemovesQueuedJob() throws InterruptedException {
+        // Arrange: bubble sort de 50 mil elementos em ordem decrescente ocupa a única thread do pool
+        ExerciseJobDTO running = exerciseJobService.submitSort(descending(SortingService.MAX_QUADRATIC_SIZE), "bubble");
+        ExerciseJobDTO queued = exerciseJobService.submitSort(descending(SortingService.MAX_QUADRATIC_SIZE - 1), "bubble");
+        ExerciseJobDTO progress = awaitProgress(running.getId());
+
+        // Act
+        ExerciseJobDTO queuedCancel = exerciseJobService.cancel(queued.getId()).orElseThrow();
+        exerciseJobService.cancel(running.getId());
+        ExerciseJobDTO runningCancel = awaitFinished(running.getId());
+
+        // Assert
+        assertEquals(Status.RUNNING, progress.getStatus());
+        assertEquals(SortingService.MAX_QUADRATIC_SIZE - 1, progress.getTotal());
+        assertEquals(Status.CANCELLED, queuedCancel.getStatus());
+        assertEquals(Status.CANCELLED, runningCancel.getStatus());
+        assertTrue(runningCancel.getCompleted() < runningCancel.getTotal());
+        assertTrue(exerciseJobService.getResult(running.getId()).isEmpty());
+        assertEquals(0, exerciseJobService.cachedResults());
+        assertTrue(exerciseJobService.cancel("inexistente").isEmpty());
+    }
+
+    @Test
+    void testSubmitSort_IdenticalInFlightRequestSharesJob() throws InterruptedException {
+        // Arrange
+        int[] array = descending(20_000);
+
+        // Act
+        ExerciseJobDTO first = exerciseJobService.submitSort(array.clone(), "bubble");
+        ExerciseJobDTO second = exerciseJobService.submitSort(array.clone(), "bubble");
+        ExerciseJobDTO other = exerciseJobService.submitSort(array.clone(), "quick");
+        awaitFinished(first.getId());
+        awaitFinished(other.getId());
+
+        // Assert
+        assertEquals(first.getId(), second.getId());
+        assertNotEquals(first.getId(), other.getId());
+    }
+
+    @Test
+    void testSubmitFactorial_ReturnsDecimalString() throws InterruptedException {
+        // Act
+        ExerciseJobDTO job = exerciseJobService.submitFactorial(30);
+        ExerciseJobDTO finished = awaitFinished(job.getId());
+
+        // Assert
+        assertEquals(Status.COMPLETED, finished.getStatus());
+        assertEquals(new BigInteger("265252859812191058636308480000000").toString(),
+            exerciseJobService.getResult(job.getId()).orElseThrow());
+        assertThrows(IllegalArgumentException.class, () -> exerciseJobService.submitFactorial(-1));
+        assertThrows(IllegalArgumentException.class, () -> exerciseJobService.submitFactorial(FactorialService.MAX_NUMBER + 1));
+    }
+
+    @Test
+    void testSubmitFactorial_ErrorFailsJobAndReleasesInFlightKey() throws InterruptedException {
+        // Arrange
+        FactorialService overflowing = new FactorialService(meterRegistry) {
+            @Override
+            public BigInteger factorial(int number) {
+                throw new StackOverflowError();
+            }
+        };
+        ExerciseJobService service = new ExerciseJobService(new ExerciseService(new SortingService(), meterRegistry),
+            overflowing, 1, 4, 10, 1024 * 1024, meterRegistry);
+
+        try {
+            // Act
+            ExerciseJobDTO first = service.submitFactorial(10);
+            ExerciseJobDTO finished = awaitFinished(service, first.getId());
+            ExerciseJobDTO retry = service.submitFactorial(10);
+
+            // Assert
+            assertEquals(Status.FAILED, finished.getStatus());
+            assertEquals("Erro no cálculo: StackOverflowError", finished.getMessage());
+            assertNotEquals(first.getId(), retry.getId());
+        } finally {
+            service.shutdown();
+        }
+    }
+
+    @Test
+    void testSubmitSort_InvalidInput() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> exerciseJobService.submitSort(new int[0], null));
+        assertThrows(IllegalArgumentException.class, () -> exerciseJobService.submitSort(new int[] {1}, "bogo"));
+
+        // Algoritmo quadrático acima do limite: recusado no pedido, sem criar job
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+            () -> exerciseJobService.submitSort(new int[SortingService.MAX_QUADRATIC_SIZE + 1], "insertion"));
+        assertTrue(exception.getMessage().contains("INSERTION"));
+        assertEquals(0, exerciseJobService.cachedResults());
+    }
+
+    @Test
+    void testGetResult_ReadsFromCacheAndIsEmptyAfterEviction() throws InterruptedException {
+        // Arrange: cache de uma entrada e outro de poucos bytes
+        ExerciseJobService single = new ExerciseJobService(new ExerciseService(new SortingService(), meterRegistry),
+            new FactorialService(meterRegistry), 1, 4, 1, 1024 * 1024, meterRegistry);
+        ExerciseJobService tiny = new ExerciseJobService(new ExerciseService(new SortingService(), meterRegistry),
+            new FactorialService(meterRegistry), 1, 4, 10, 16, meterRegistry);
+
+        try {
+            // Act
+            ExerciseJobDTO first = single.submitFactorial(20);
+            awaitFinished(single, first.getId());
+            ExerciseJobDTO second = single.submitFactorial(21);
+            awaitFinished(single, second.getId());
+            ExerciseJobDTO oversized = tiny.submitFactorial(1_000);
+            ExerciseJobDTO oversizedFinished = awaitFinished(tiny, oversized.getId());
+
+            // Assert: o job continua COMPLETED, mas o resultado só existe enquanto estiver no cache
+            assertEquals(Status.COMPLETED, single.getJob(first.getId()).orElseThrow().getStatus());
+            assertTrue(single.getResult(first.getId()).isEmpty());
+            assertEquals("51090942171709440000", single.getResult(second.getId()).orElseThrow());
+            assertEquals(Status.COMPLETED, oversizedFinished.getStatus());
+            assertEquals(ExerciseJobService.RESULT_NOT_CACHED, oversizedFinished.getMessage());
+            assertTrue(tiny.getResult(oversized.getId()).isEmpty());
+        } finally {
+            single.shutdown();
+            tiny.shutdown();
+        }
+    }
+
+    @Test
+    void testSortKey_DependsOnContentAndAlgorithm() {
+        // Act & Assert
+        assertEquals(ExerciseResults.sortKey(new int[] {3, 1, 2}, Algorithm.QUICK),
+            ExerciseResults.sortKey(new int[] {3, 1, 2}, Algorithm.QUICK));
+        assertNotEquals(ExerciseResults.sortKey(new int[] {3, 1, 2}, Algorithm.QUICK),
+            ExerciseResults.sortKey(new int[] {3, 2, 1}, Algorithm.QUICK));
+        assertNotEquals(ExerciseResults.sortKey(new int[] {3, 1, 2}, Algorithm.QUICK),
+            ExerciseResults.sortKey(new int[] {3, 1, 2}, Algorithm.MERGE));
+    }
+
+    @Test
+    void testResultCache_EvictsLeastRecentlyUsedByCountAndBytes() {
+        // Arrange
+        ExerciseJobService.ResultCache cache = new ExerciseJobService.ResultCache(2, 100);
+
+        // Act
+        cache.put("a", "A", 10);
+        cache.put("b", "B", 10);
+        cache.get("a");
+        cache.put("c", "C", 10);   // excede a quantidade: sai "b", o menos usado
+        cache.put("d", "D", 85);   // excede os bytes: sai "a"
+        boolean oversized = cache.put("e", "E", 101);  // maior que o cache inteiro: não é guardado
+
+        // Assert
+        assertNull(cache.get("a"));
+        assertNull(cache.get("b"));
+        assertEquals("C", cache.get("c"));
+        assertEquals("D", cache.get("d"));
+        assertNull(cache.get("e"));
+        assertFalse(oversized);
+        assertEquals(2, cache.size());
+    }
+
+    // Helper methods
+    private ExerciseJobDTO awaitFinished(String id) throws InterruptedException {
+        return awaitFinished(exerciseJobService, id);
+    }
+
+    private ExerciseJobDTO awaitFinished(ExerciseJobService service, String id) throws InterruptedException {
+        long deadline = System.nanoTime() + 30_000_000_000L;
+        while (System.nanoTime() < deadline) {
+            ExerciseJobDTO job = service.getJob(id).orElseThrow();
+            if (job.getStatus() != Status.QUEUED && job.getStatus() != Status.RUNNING) {
+                return job;
+            }
+            Thread.sleep(10);
+        }
+        return fail("Job " + id + " não terminou");
+    }
+
+    private ExerciseJobDTO awaitProgress(String id) throws InterruptedException {
+        long deadline = System.nanoTime() + 30_000_000_000L;
+        while (System.nanoTime() < deadline) {
+            ExerciseJobDTO job = exerciseJobService.getJob(id).orElseThrow();
+            if (job.getStatus() == Status.RUNNING && job.getCompleted() > 0) {
+                return job;
+            }
+            Thread.sleep(1);
+        }
+        return fail("Job " + id + " não informou progresso");
+    }
+
+    private int[] descending(int size) {
+        int[] array = new int[size];
+        for (int i = 0; i < size; i++) {
+            array[i] = size - i;
+        }
+        return array;
+    }
+}
@@ -2,18 +2,31 @@ package br.com.tinnova.desafio_tinnova_back.service;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.Random;
+
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import br.com.tinnova.desafio_tinnova_back.dto.BubbleSortResponseDTO;
 import br.com.tinnova.desafio_tinnova_back.dto.ElectionResultDTO;
 import br.com.tinnova.desafio_tinnova_back.entity.Election;
 
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 @ExtendWith(MockitoExtension.class)
 class ExerciseServiceTest {
 
+    @Spy
+    private SortingService sortingService = new SortingService();
+
+    @Spy
+    private SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @InjectMocks
     private ExerciseService exerciseService;
 
@@ -134,6 +147,71 @@ class ExerciseServiceTest {
         assertEquals("Array não pode ser nulo ou vazio", exception.getMessage());
     }
 
+    @Test
+    void testSort_SelectedAlgorithm() {
+        // Arrange
+        int[] array = {5, -3, 9, 0, -3};
+
+        // Act
+        BubbleSortResponseDTO result = exerciseService.sort(array, "radix");
+
+        // Assert
+        assertArrayEquals(new int[]{5, -3, 9, 0, -3}, result.getOriginalArray());
+        assertArrayEquals(new int[]{-3, -3, 0, 5, 9}, result.getSortedArray());
+        assertEquals("RADIX", result.getAlgorithm());
+        assertEquals(0, result.getComparisons());
+    }
+
+    @Test
+    void testSort_DefaultsToBubbleForSmallArrays() {
+        // Act
+        BubbleSortResponseDTO result = exerciseService.sort(new int[]{3, 1, 2}, null);
+
+        // Assert
+        assertEquals("BUBBLE", result.getAlgorithm());
+        assertArrayEquals(new int[]{1, 2, 3}, result.getSortedArray());
+    }
+
+    @Test
+    void testSort_LargeArrayWithoutAlgorithmUsesAutomaticChoice() {
+        // Arrange
+        int[] array = new Random(1).ints(SortingService.MAX_QUADRATIC_SIZE + 1).toArray();
+
+        // Act
+        BubbleSortResponseDTO result = exerciseService.sort(array, null);
+
+        // Assert
+        assertNotEquals("BUBBLE", result.getAlgorithm());
+        for (int i = 1; i < array.length; i++) {
+            assertTrue(result.getSortedArray()[i - 1] <= result.getSortedArray()[i]);
+        }
+    }
+
+    @Test
+    void testSort_UnknownAlgorithm() {
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(
+            IllegalArgumentException.class,
+            () -> exerciseService.sort(new int[]{1}, "bogo")
+        );
+        assertEquals("Algoritmo de ordenação não suportado: bogo", exception.getMessage());
+    }
+
+    @Test
+    void testSort_RecordsTimerAndInputSize() {
+        // Act
+        exerciseService.sort(new int[] {3, 1, 2}, "merge");
+        exerciseService.sort(new int[] {5, 4, 3, 2, 1}, "merge");
+
+        // Assert
+        Timer timer = meterRegistry.get("exercise.sort").tag("algorithm", "MERGE").timer();
+        assertEquals(2, timer.count());
+        DistributionSummary sizes = meterRegistry.get("exercise.sort.input.size").tag("algorithm", "MERGE").summary();
+        assertEquals(2, sizes.count());
+        assertEquals(8, sizes.totalAmount());
+        assertEquals(5, sizes.max());
+    }
+
     @Test
     void testCalculateFactorial_Zero() {
         // Act
@@ -170,6 +248,15 @@ class ExerciseServiceTest {
         assertEquals(3628800L, result);
     }
 
+    @Test
+    void testCalculateFactorial_RecordsInput() {
+        // Act
+        exerciseService.calculateFactorial(10);
+
+        // Assert
+        assertEquals(10, meterRegistry.get("exercise.factorial.input").tag("type", "long").summary().totalAmount());
+    }
+
     @Test
     void testCalculateFactorial_NegativeNumber() {
         // Act & Assert
@@ -180,6 +267,25 @@ class ExerciseServiceTest {
         assertEquals("Número não pode ser negativo", exception.getMessage());
     }
 
+    @Test
+    void testCalculateFactorial_LargestLongResult() {
+        // Act
+        long result = exerciseService.calculateFactorial(20);
+
+        // Assert
+        assertEquals(2432902008176640000L, result);
+    }
+
+    @Test
+    void testCalculateFactorial_OverflowIsRejected() {
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(
+            IllegalArgumentException.class,
+            () -> exerciseService.calculateFactorial(21)
+        );
+        assertEquals("Número máximo para resultado long é 20", exception.getMessage());
+    }
+
     @Test
     void testSumMultiplesOf3Or5_Zero() {
         // Act
@@ -216,6 +322,24 @@ class ExerciseServiceTest {
         assertEquals(0L, result); // Apenas o 0
     }
 
+    @Test
+    void testSumMultiplesOf3Or5_MatchesReferenceLoop() {
+        // Act & Assert
+        for (int number = 0; number <= 2_000; number++) {
+            assertEquals(ExerciseService.sumMultiplesOf3Or5Reference(number), exerciseService.sumMultiplesOf3Or5(number));
+        }
+        assertEquals(ExerciseService.sumMultiplesOf3Or5Reference(100_000_000), exerciseService.sumMultiplesOf3Or5(100_000_000));
+    }
+
+    @Test
+    void testSumMultiplesOf3Or5_MaxIntDoesNotOverflow() {
+        // Act
+        long result = exerciseService.sumMultiplesOf3Or5(Integer.MAX_VALUE);
+
+        // Assert
+        assertEquals(1_076_060_070_465_310_994L, result);
+    }
+
     @Test
     void testSumMultiplesOf3Or5_NegativeNumber() {
         // Act & Assert
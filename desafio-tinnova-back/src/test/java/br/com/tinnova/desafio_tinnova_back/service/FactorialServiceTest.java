@@ -0,0 +1,96 @@
+package br.com.tinnova.desafio_tinnova_back.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.StringWriter;
+import java.math.BigInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class FactorialServiceTest {
+
+    private FactorialService factorialService;
+
+    @BeforeEach
+    void setUp() {
+        factorialService = new FactorialService(new SimpleMeterRegistry());
+    }
+
+    @Test
+    void testFactorial_SmallNumbers() {
+        // Act & Assert
+        assertEquals(BigInteger.ONE, factorialService.factorial(0));
+        assertEquals(BigInteger.ONE, factorialService.factorial(1));
+        assertEquals(BigInteger.valueOf(3628800L), factorialService.factorial(10));
+        assertEquals(new BigInteger("51090942171709440000"), factorialService.factorial(21));
+    }
+
+    @Test
+    void testFactorial_MatchesNaiveProduct() {
+        // Act & Assert
+        for (int n : new int[] {999, 1000, 1001, 2500, 9_999}) {
+            assertEquals(naiveFactorial(n), factorialService.factorial(n), n + "!");
+        }
+    }
+
+    @Test
+    void testFactorial_ResumesFromCheckpoints() {
+        // Act
+        BigInteger first = factorialService.factorial(5_500);
+        int checkpointsAfterFirst = factorialService.checkpointCount();
+        BigInteger second = factorialService.factorial(5_700);
+
+        // Assert
+        assertEquals(1, checkpointsAfterFirst);
+        assertEquals(1, factorialService.checkpointCount());
+        assertEquals(first.multiply(FactorialService.product(5_501, 5_700)), second);
+        assertEquals(naiveFactorial(5_700), second);
+    }
+
+    @Test
+    void testFactorial_LargeNumberUsesParallelProduct() {
+        // Act
+        BigInteger result = factorialService.factorial(50_000);
+
+        // Assert
+        assertEquals(naiveFactorial(50_000), result);
+    }
+
+    @Test
+    void testFactorial_InvalidNumbers() {
+        // Act & Assert
+        IllegalArgumentException negative = assertThrows(IllegalArgumentException.class, () -> factorialService.factorial(-1));
+        assertEquals("Número não pode ser negativo", negative.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> factorialService.factorial(FactorialService.MAX_NUMBER + 1));
+    }
+
+    @Test
+    void testWriteDecimal_MatchesToString() throws Exception {
+        // Arrange
+        BigInteger value = factorialService.factorial(20_000);
+        // Números com zeros no meio exercitam o preenchimento dos blocos
+        BigInteger padded = BigInteger.TEN.pow(30_000).add(BigInteger.valueOf(7));
+        StringWriter valueOut = new StringWriter();
+        StringWriter paddedOut = new StringWriter();
+
+        // Act
+        factorialService.writeDecimal(value, valueOut);
+        factorialService.writeDecimal(padded, paddedOut);
+
+        // Assert
+        assertEquals(value.toString(), valueOut.toString());
+        assertEquals(padded.toString(), paddedOut.toString());
+    }
+
+    // Helper methods
+    private BigInteger naiveFactorial(int n) {
+        BigInteger result = BigInteger.ONE;
+        for (int i = 2; i <= n; i++) {
+            result = result.multiply(BigInteger.valueOf(i));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,144 @@
+package br.com.tinnova.desafio_tinnova_back.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import br.com.tinnova.desafio_tinnova_back.dto.BubbleSortResponseDTO;
+import br.com.tinnova.desafio_tinnova_back.dto.ElectionResultDTO;
+import br.com.tinnova.desafio_tinnova_back.dto.ExerciseCacheStatsDTO;
+import br.com.tinnova.desafio_tinnova_back.entity.Election;
+import br.com.tinnova.desafio_tinnova_back.service.MemoizedExerciseService.Memoized;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class MemoizedExerciseServiceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExerciseService exerciseService = spy(new ExerciseService(new SortingService(), meterRegistry));
+    private final MemoizedExerciseService memoizedExerciseService =
+        new MemoizedExerciseService(exerciseService, 1024 * 1024, 1_000, meterRegistry);
+
+    @Test
+    void testCalculateFactorial_RepeatedInputHitsCache() {
+        // Act
+        Memoized<Long> first = memoizedExerciseService.calculateFactorial(10);
+        Memoized<Long> second = memoizedExerciseService.calculateFactorial(10);
+        Memoized<Long> other = memoizedExerciseService.calculateFactorial(11);
+
+        // Assert
+        assertEquals(3_628_800L, first.value());
+        assertEquals(first, second);
+        assertEquals(MemoizedExerciseService.eTag(MemoizedExerciseService.factorialKey(10)), first.eTag());
+        assertNotEquals(first.eTag(), other.eTag());
+        verify(exerciseService, times(1)).calculateFactorial(10);
+
+        ExerciseCacheStatsDTO stats = memoizedExerciseService.getStats();
+        assertEquals(1, stats.getHits());
+        assertEquals(2, stats.getMisses());
+        assertEquals(2, stats.getEntries());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "exercise-results").tag("result", "hit")
+            .functionCounter().count());
+    }
+
+    @Test
+    void testMemoize_SlowComputationBlocksOnlySameKeyCallers() throws Exception {
+        // Arrange: o fatorial de 10 fica preso até o latch ser liberado
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return invocation.callRealMethod();
+        }).when(exerciseService).calculateFactorial(10);
+
+        // Act
+        CompletableFuture<Memoized<Long>> first = CompletableFuture.supplyAsync(() -> memoizedExerciseService.calculateFactorial(10));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<Memoized<Long>> sameKey = CompletableFuture.supplyAsync(() -> memoizedExerciseService.calculateFactorial(10));
+        Memoized<Long> otherKey = CompletableFuture.supplyAsync(() -> memoizedExerciseService.calculateFactorial(11))
+            .get(5, TimeUnit.SECONDS);
+        Thread.sleep(50);
+        boolean sameKeyWaited = !sameKey.isDone();
+        release.countDown();
+
+        // Assert
+        assertEquals(39_916_800L, otherKey.value());
+        assertTrue(sameKeyWaited);
+        assertEquals(3_628_800L, first.get(5, TimeUnit.SECONDS).value());
+        assertEquals(3_628_800L, sameKey.get(5, TimeUnit.SECONDS).value());
+        verify(exerciseService, times(1)).calculateFactorial(10);
+    }
+
+    @Test
+    void testETags_ValidateInputFirst() {
+        // Act & Assert
+        assertEquals(MemoizedExerciseService.eTag(MemoizedExerciseService.factorialKey(10)), memoizedExerciseService.factorialETag(10));
+        assertEquals(MemoizedExerciseService.eTag(MemoizedExerciseService.sumMultiplesKey(10)), memoizedExerciseService.sumMultiplesETag(10));
+        assertThrows(IllegalArgumentException.class, () -> memoizedExerciseService.factorialETag(-1));
+        assertThrows(IllegalArgumentException.class, () -> memoizedExerciseService.factorialETag(ExerciseService.MAX_LONG_FACTORIAL + 1));
+        assertThrows(IllegalArgumentException.class, () -> memoizedExerciseService.sumMultiplesETag(-1));
+    }
+
+    @Test
+    void testSumMultiplesAndElection_AreMemoized() {
+        // Act
+        Memoized<Long> sum = memoizedExerciseService.sumMultiplesOf3Or5(10);
+        memoizedExerciseService.sumMultiplesOf3Or5(10);
+        Memoized<ElectionResultDTO> election = memoizedExerciseService.calculateElectionPercentages(new Election(1000, 800, 150, 50));
+        Memoized<ElectionResultDTO> sameElection = memoizedExerciseService.calculateElectionPercentages(new Election(1000, 800, 150, 50));
+
+        // Assert
+        assertEquals(23L, sum.value());
+        assertSame(election.value(), sameElection.value());
+        assertEquals(election.eTag(), sameElection.eTag());
+        verify(exerciseService, times(1)).sumMultiplesOf3Or5(10);
+        verify(exerciseService, times(1)).calculateElectionPercentages(any(Election.class));
+    }
+
+    @Test
+    void testSort_KeyedOnArrayContent() {
+        // Arrange
+        int[] array = new Random(5).ints(500).toArray();
+
+        // Act
+        Memoized<BubbleSortResponseDTO> first = memoizedExerciseService.sort(array.clone(), null);
+        Memoized<BubbleSortResponseDTO> second = memoizedExerciseService.sort(array.clone(), "bubble");
+        Memoized<BubbleSortResponseDTO> otherAlgorithm = memoizedExerciseService.sort(array.clone(), "quick");
+
+        // Assert
+        assertSame(first.value(), second.value());
+        assertArrayEquals(array, first.value().getOriginalArray());
+        assertNotSame(first.value(), otherAlgorithm.value());
+        assertNotEquals(first.eTag(), otherAlgorithm.eTag());
+        verify(exerciseService, times(2)).sort(any(int[].class), anyString());
+    }
+
+    @Test
+    void testSort_LargeArraysAndErrorsAreNotCached() {
+        // Arrange
+        int[] large = new Random(6).ints(1_001).toArray();
+
+        // Act
+        Memoized<BubbleSortResponseDTO> result = memoizedExerciseService.sort(large.clone(), "quick");
+        memoizedExerciseService.sort(large.clone(), "quick");
+
+        // Assert
+        assertNull(result.eTag());
+        assertThrows(IllegalArgumentException.class, () -> memoizedExerciseService.calculateFactorial(-1));
+        assertThrows(IllegalArgumentException.class, () -> memoizedExerciseService.calculateFactorial(-1));
+        verify(exerciseService, times(2)).calculateFactorial(-1);
+        assertEquals(0, memoizedExerciseService.getStats().getEntries());
+    }
+}
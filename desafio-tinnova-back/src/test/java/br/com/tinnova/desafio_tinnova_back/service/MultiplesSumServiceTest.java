@@ -0,0 +1,141 @@
+package br.com.tinnova.desafio_tinnova_back.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import br.com.tinnova.desafio_tinnova_back.dto.MultiplesSumQueryDTO;
+import br.com.tinnova.desafio_tinnova_back.dto.MultiplesSumResultDTO;
+
+class MultiplesSumServiceTest {
+
+    private final MultiplesSumService multiplesSumService = new MultiplesSumService();
+
+    @Test
+    void testSumOfMultiples_DefaultDivisorsMatchReferenceLoop() {
+        // Act & Assert
+        for (int number : new int[] {0, 1, 10, 15, 16, 1_000, 99_999}) {
+            assertEquals(BigInteger.valueOf(ExerciseService.sumMultiplesOf3Or5Reference(number)),
+                multiplesSumService.sumOfMultiples(BigInteger.valueOf(number), null));
+        }
+    }
+
+    @Test
+    void testSumOfMultiples_ArbitraryDivisorsMatchBruteForce() {
+        // Arrange
+        Random random = new Random(3);
+
+        for (int round = 0; round < 200; round++) {
+            int limit = random.nextInt(5_000);
+            List<Long> divisors = random.longs(1 + random.nextInt(6), 1, 60).boxed().toList();
+
+            // Act
+            BigInteger result = multiplesSumService.sumOfMultiples(BigInteger.valueOf(limit), divisors);
+
+            // Assert
+            assertEquals(BigInteger.valueOf(bruteForce(limit, divisors)), result, "limite " + limit + " divisores " + divisors);
+        }
+    }
+
+    @Test
+    void testSumOfMultiples_HugeLimit() {
+        // Arrange
+        BigInteger limit = BigInteger.TEN.pow(30);
+
+        // Act
+        BigInteger result = multiplesSumService.sumOfMultiples(limit, List.of(3L, 5L));
+
+        // Assert (10^30 não é múltiplo de 3; a fórmula em forma fechada para 3 e 5)
+        BigInteger last = limit.subtract(BigInteger.ONE);
+        BigInteger expected = triangular(last, 3).add(triangular(last, 5)).subtract(triangular(last, 15));
+        assertEquals(expected, result);
+    }
+
+    @Test
+    void testSumOfMultiples_InvalidInput() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+            () -> multiplesSumService.sumOfMultiples(BigInteger.valueOf(-1), List.of(3L)));
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+            () -> multiplesSumService.sumOfMultiples(BigInteger.TEN, List.of(3L, 0L)));
+        assertEquals("Divisores devem ser positivos", exception.getMessage());
+    }
+
+    @Test
+    void testSumOfMultiplesBatch() {
+        // Arrange
+        List<MultiplesSumQueryDTO> queries = List.of(
+            new MultiplesSumQueryDTO(BigInteger.TEN, null),
+            new MultiplesSumQueryDTO(BigInteger.valueOf(20), List.of(7L, 14L))
+        );
+
+        // Act
+        List<MultiplesSumResultDTO> results = multiplesSumService.sumOfMultiplesBatch(queries);
+
+        // Assert
+        assertEquals(BigInteger.valueOf(23), results.get(0).getSum());
+        assertEquals(List.of(3L, 5L), results.get(0).getDivisors());
+        assertEquals(BigInteger.valueOf(21), results.get(1).getSum()); // 7 + 14
+    }
+
+    @Test
+    void testSumOfMultiplesBatch_RejectsBatchOverSubsetBudget() {
+        // Arrange: 16 primos e limite enorme, sem poda; 17 consultas passam de 2^20 subconjuntos
+        List<Long> primes = List.of(2L, 3L, 5L, 7L, 11L, 13L, 17L, 19L, 23L, 29L, 31L, 37L, 41L, 43L, 47L, 53L);
+        MultiplesSumQueryDTO worstCase = new MultiplesSumQueryDTO(BigInteger.TEN.pow(100), primes);
+        List<MultiplesSumQueryDTO> withinBudget = Collections.nCopies(16, worstCase);
+        List<MultiplesSumQueryDTO> overBudget = Collections.nCopies(17, worstCase);
+
+        // Act & Assert
+        assertEquals(16, multiplesSumService.sumOfMultiplesBatch(withinBudget).size());
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+            () -> multiplesSumService.sumOfMultiplesBatch(overBudget));
+        assertTrue(exception.getMessage().startsWith("Lote excede o limite de " + MultiplesSumService.MAX_BATCH_SUBSETS));
+    }
+
+    @Test
+    void testSumOfMultiples_RejectsTooManyInputDivisors() {
+        // Arrange: todos redundantes (múltiplos de 1), mas a lista é rejeitada antes da redução
+        List<Long> divisors = new ArrayList<>();
+        for (long i = 1; i <= MultiplesSumService.MAX_INPUT_DIVISORS + 1; i++) {
+            divisors.add(i);
+        }
+
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+            () -> multiplesSumService.sumOfMultiples(BigInteger.TEN, divisors));
+        assertEquals("Máximo de " + MultiplesSumService.MAX_INPUT_DIVISORS + " divisores informados por consulta", exception.getMessage());
+        assertEquals(BigInteger.valueOf(45), multiplesSumService.sumOfMultiples(BigInteger.TEN, divisors.subList(0, MultiplesSumService.MAX_INPUT_DIVISORS)));
+    }
+
+    @Test
+    void testSumOfMultiplesBatch_Empty() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> multiplesSumService.sumOfMultiplesBatch(List.of()));
+    }
+
+    // Helper methods
+    private long bruteForce(int limit, List<Long> divisors) {
+        long sum = 0;
+        for (int i = 1; i < limit; i++) {
+            for (long divisor : divisors) {
+                if (i % divisor == 0) {
+                    sum += i;
+                    break;
+                }
+            }
+        }
+        return sum;
+    }
+
+    private BigInteger triangular(BigInteger last, long divisor) {
+        BigInteger count = last.divide(BigInteger.valueOf(divisor));
+        return BigInteger.valueOf(divisor).multiply(count).multiply(count.add(BigInteger.ONE)).shiftRight(1);
+    }
+}
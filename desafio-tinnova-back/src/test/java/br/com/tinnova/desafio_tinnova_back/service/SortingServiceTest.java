@@ -0,0 +1,194 @@
+package br.com.tinnova.desafio_tinnova_back.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.CancellationException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import br.com.tinnova.desafio_tinnova_back.service.SortingService.Algorithm;
+import br.com.tinnova.desafio_tinnova_back.service.SortingService.SortStats;
+
+class SortingServiceTest {
+
+    private final SortingService sortingService = new SortingService();
+
+    @ParameterizedTest
+    @EnumSource(Algorithm.class)
+    void testSort_MatchesArraysSort(Algorithm algorithm) {
+        // Arrange
+        Random random = new Random(42);
+        int[][] inputs = {
+            {5},
+            {2, 1},
+            random.ints(1_000).toArray(),                  // inclui negativos e extremos
+            random.ints(5_000, 0, 10).toArray(),          // muitos repetidos
+            ascending(3_000),
+            descending(3_000),
+            {Integer.MAX_VALUE, Integer.MIN_VALUE, 0, -1, 1}
+        };
+
+        for (int[] input : inputs) {
+            int[] expected = input.clone();
+            Arrays.sort(expected);
+            int[] actual = input.clone();
+
+            // Act
+            SortStats stats = sortingService.sort(actual, algorithm);
+
+            // Assert
+            assertArrayEquals(expected, actual, algorithm + " com " + input.length + " elementos");
+            assertNotEquals(Algorithm.AUTO, stats.algorithm());
+        }
+    }
+
+    @Test
+    void testSort_ParallelMergeLargeArray() {
+        // Arrange
+        int[] array = new Random(7).ints(2_000_000).toArray();
+        int[] expected = array.clone();
+        Arrays.sort(expected);
+
+        // Act
+        SortStats stats = sortingService.sort(array, Algorithm.PARALLEL_MERGE);
+
+        // Assert
+        assertArrayEquals(expected, array);
+        assertTrue(stats.comparisons() > Integer.MAX_VALUE / 100);
+    }
+
+    @Test
+    void testSort_BubbleCountersMatchClassicImplementation() {
+        // Arrange
+        int[] array = {64, 34, 25, 12, 22, 11, 90};
+
+        // Act
+        SortStats stats = sortingService.sort(array, Algorithm.BUBBLE);
+
+        // Assert
+        assertEquals(Algorithm.BUBBLE, stats.algorithm());
+        assertEquals(14, stats.swaps());
+        assertEquals(21, stats.comparisons());
+    }
+
+    @Test
+    void testSort_SortedInputIsCheapForMergeAndQuick() {
+        // Arrange
+        int[] sorted = ascending(100_000);
+
+        // Act
+        SortStats merge = sortingService.sort(sorted.clone(), Algorithm.MERGE);
+        SortStats quick = sortingService.sort(sorted.clone(), Algorithm.QUICK);
+
+        // Assert
+        assertTrue(merge.comparisons() < 200_000);
+        assertTrue(quick.comparisons() < 100_000L * 40);
+    }
+
+    @Test
+    void testDualPivotQuickSort_PartitionShapes() {
+        // Arrange: entradas em que a maior parte pode ser a esquerda, a do meio ou a direita
+        int size = 200_000;
+        int[] organPipe = new int[size];
+        int[] sawtooth = new int[size];
+        int[] skewed = new int[size];
+        for (int i = 0; i < size; i++) {
+            organPipe[i] = Math.min(i, size - i);
+            sawtooth[i] = i % 1_000;
+            skewed[i] = i % 10 == 0 ? i : -i;
+        }
+        int[][] inputs = {organPipe, sawtooth, skewed, new Random(11).ints(size, 0, 3).toArray(), new int[size]};
+
+        for (int[] input : inputs) {
+            int[] expected = input.clone();
+            Arrays.sort(expected);
+
+            // Act
+            SortingService.dualPivotQuickSort(input, 0, input.length - 1, new SortingService.Counter());
+
+            // Assert
+            assertArrayEquals(expected, input);
+        }
+    }
+
+    @Test
+    void testSort_QuadraticAlgorithmsRejectLargeInputs() {
+        // Arrange
+        int[] array = new int[SortingService.MAX_QUADRATIC_SIZE + 1];
+
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(
+            IllegalArgumentException.class,
+            () -> sortingService.sort(array, Algorithm.BUBBLE)
+        );
+        assertEquals("Algoritmo BUBBLE aceita no máximo 50000 elementos", exception.getMessage());
+    }
+
+    @Test
+    void testResolve_AutoPicksBySize() {
+        // Act & Assert
+        assertEquals(Algorithm.INSERTION, sortingService.resolve(Algorithm.AUTO, 10));
+        assertEquals(Algorithm.QUICK, sortingService.resolve(Algorithm.AUTO, 10_000));
+        assertNotEquals(Algorithm.AUTO, sortingService.resolve(Algorithm.AUTO, 10_000_000));
+        assertEquals(Algorithm.RADIX, sortingService.resolve(Algorithm.RADIX, 10));
+    }
+
+    @Test
+    void testAlgorithmFromString() {
+        // Act & Assert
+        assertEquals(Algorithm.PARALLEL_MERGE, Algorithm.fromString("parallel-merge"));
+        assertEquals(Algorithm.AUTO, Algorithm.fromString(null));
+        assertThrows(IllegalArgumentException.class, () -> Algorithm.fromString("bogo"));
+    }
+
+    @Test
+    void testSort_MonitorReceivesProgressAndCancels() {
+        // Arrange
+        long[] lastProgress = new long[2];
+        SortingService.Monitor progress = new SortingService.Monitor() {
+            @Override
+            public void progress(long completed, long total) {
+                lastProgress[0] = completed;
+                lastProgress[1] = total;
+            }
+        };
+        SortingService.Monitor cancelled = new SortingService.Monitor() {
+            @Override
+            public boolean isCancelled() {
+                return true;
+            }
+        };
+
+        // Act
+        sortingService.sort(descending(100), Algorithm.BUBBLE, progress);
+
+        // Assert
+        assertArrayEquals(lastProgress, new long[] {100, 100});
+        for (Algorithm algorithm : new Algorithm[] {Algorithm.BUBBLE, Algorithm.INSERTION, Algorithm.MERGE,
+                                                    Algorithm.QUICK, Algorithm.RADIX, Algorithm.PARALLEL_MERGE}) {
+            assertThrows(CancellationException.class,
+                () -> sortingService.sort(descending(50_000), algorithm, cancelled), algorithm.name());
+        }
+    }
+
+    // Helper methods
+    private int[] ascending(int size) {
+        int[] array = new int[size];
+        for (int i = 0; i < size; i++) {
+            array[i] = i;
+        }
+        return array;
+    }
+
+    private int[] descending(int size) {
+        int[] array = new int[size];
+        for (int i = 0; i < size; i++) {
+            array[i] = size - i;
+        }
+        return array;
+    }
+}
@@ -0,0 +1,114 @@
+package br.com.tinnova.desafio_tinnova_back.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import br.com.tinnova.desafio_tinnova_back.dto.VehicleFilterDTO;
+import br.com.tinnova.desafio_tinnova_back.dto.VehicleResponseDTO;
+import br.com.tinnova.desafio_tinnova_back.repository.VehicleRepository;
+import br.com.tinnova.desafio_tinnova_back.service.VehicleExportService.ExportFormat;
+
+@ExtendWith(MockitoExtension.class)
+class VehicleExportServiceTest {
+
+    @Mock
+    private VehicleRepository vehicleRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private VehicleExportService vehicleExportService;
+
+    @BeforeEach
+    void setUp() {
+        vehicleExportService = new VehicleExportService(
+            vehicleRepository,
+            transactionManager,
+            Jackson2ObjectMapperBuilder.json().featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build()
+        );
+    }
+
+    @Test
+    void testExport_Ndjson() {
+        // Arrange
+        when(vehicleRepository.streamForExport(isNull(), isNull(), isNull(), isNull(), isNull()))
+            .thenReturn(Stream.of(createTestResponseDTO(1L, "ABC-1234", "Sedan"), createTestResponseDTO(2L, "XYZ-5678", "SUV")));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        long exported = vehicleExportService.export(ExportFormat.NDJSON, null, out);
+
+        // Assert
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, exported);
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("{\"id\":1,\"plate\":\"ABC-1234\""));
+        assertTrue(lines[1].contains("\"createdAt\":\"2024-01-02T10:15:30\""));
+    }
+
+    @Test
+    void testExport_CsvEscapesFields() {
+        // Arrange
+        VehicleFilterDTO filter = new VehicleFilterDTO();
+        filter.setIsSold(true);
+        when(vehicleRepository.streamForExport(isNull(), isNull(), isNull(), isNull(), eq(true)))
+            .thenReturn(Stream.of(createTestResponseDTO(1L, "ABC-1234", "Completo, \"revisado\"")));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        long exported = vehicleExportService.export(ExportFormat.CSV, filter, out);
+
+        // Assert
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(1, exported);
+        assertEquals("id,plate,brandId,brandName,modelId,modelName,year,description,isSold,createdAt,updatedAt", lines[0]);
+        assertEquals("1,ABC-1234,1,Toyota,1,Corolla,2020,\"Completo, \"\"revisado\"\"\",false,2024-01-02T10:15:30,",
+            lines[1]);
+    }
+
+    @Test
+    void testExport_EmptyInventory() {
+        // Arrange
+        when(vehicleRepository.streamForExport(isNull(), isNull(), isNull(), isNull(), isNull()))
+            .thenReturn(Stream.empty());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        long exported = vehicleExportService.export(ExportFormat.CSV, new VehicleFilterDTO(), out);
+
+        // Assert
+        assertEquals(0, exported);
+        assertEquals(1, out.toString(StandardCharsets.UTF_8).split("\n").length);
+    }
+
+    @Test
+    void testExportFormat_Invalid() {
+        // Act & Assert
+        assertEquals(ExportFormat.NDJSON, ExportFormat.fromString(null));
+        assertEquals(ExportFormat.CSV, ExportFormat.fromString("csv"));
+        assertThrows(IllegalArgumentException.class, () -> ExportFormat.fromString("xml"));
+    }
+
+    // Helper methods
+    private VehicleResponseDTO createTestResponseDTO(Long id, String plate, String description) {
+        return new VehicleResponseDTO(id, plate, 1L, "Toyota", 1L, "Corolla", 2020, description,
+            false, LocalDateTime.of(2024, 1, 2, 10, 15, 30), null);
+    }
+}
@@ -0,0 +1,238 @@
+package br.com.tinnova.desafio_tinnova_back.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.tinnova.desafio_tinnova_back.cache.CatalogCache;
+import br.com.tinnova.desafio_tinnova_back.dto.BrandDTO;
+import br.com.tinnova.desafio_tinnova_back.dto.ModelDTO;
+import br.com.tinnova.desafio_tinnova_back.dto.VehicleImportResultDTO;
+import br.com.tinnova.desafio_tinnova_back.dto.VehicleImportRowResultDTO;
+import br.com.tinnova.desafio_tinnova_back.dto.VehicleImportRowResultDTO.Status;
+import br.com.tinnova.desafio_tinnova_back.entity.Brand;
+import br.com.tinnova.desafio_tinnova_back.entity.Model;
+import br.com.tinnova.desafio_tinnova_back.entity.Vehicle;
+import br.com.tinnova.desafio_tinnova_back.repository.BrandRepository;
+import br.com.tinnova.desafio_tinnova_back.repository.ModelRepository;
+import br.com.tinnova.desafio_tinnova_back.repository.VehicleRepository;
+
+import jakarta.persistence.EntityManager;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class VehicleImportServiceTest {
+
+    @Mock
+    private VehicleRepository vehicleRepository;
+
+    @Mock
+    private BrandRepository brandRepository;
+
+    @Mock
+    private ModelRepository modelRepository;
+
+    @Mock
+    private VehicleStatisticsService vehicleStatisticsService;
+
+    @Mock
+    private CatalogCache catalogCache;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private VehicleImportService vehicleImportService;
+
+    private final AtomicLong nextId = new AtomicLong(1);
+
+    @BeforeEach
+    void setUp() {
+        vehicleImportService = new VehicleImportService(
+            vehicleRepository,
+            brandRepository,
+            modelRepository,
+            vehicleStatisticsService,
+            catalogCache,
+            entityManager,
+            transactionManager,
+            new ObjectMapper()
+        );
+
+        when(catalogCache.findBrand(1L)).thenReturn(Optional.of(new BrandDTO(1L, "Toyota", LocalDateTime.now())));
+        when(catalogCache.findModel(10L)).thenReturn(Optional.of(new ModelDTO(10L, "Corolla", 1L, "Toyota", LocalDateTime.now())));
+        when(catalogCache.findModel(20L)).thenReturn(Optional.of(new ModelDTO(20L, "Civic", 2L, "Honda", LocalDateTime.now())));
+        when(brandRepository.getReferenceById(anyLong())).thenAnswer(invocation -> createTestBrand(invocation.getArgument(0)));
+        when(modelRepository.getReferenceById(anyLong())).thenAnswer(invocation -> createTestModel(invocation.getArgument(0)));
+        when(vehicleRepository.findExistingPlates(anyCollection())).thenReturn(List.of());
+        when(vehicleRepository.saveAll(any())).thenAnswer(invocation -> {
+            List<Vehicle> vehicles = invocation.getArgument(0);
+            vehicles.forEach(vehicle -> vehicle.setId(nextId.getAndIncrement()));
+            return vehicles;
+        });
+    }
+
+    @Test
+    void testImportJson_ReportsEachRow() throws Exception {
+        // Arrange
+        String json = "["
+            + "{\"plate\":\"abc-1234\",\"brandId\":1,\"modelId\":10,\"year\":2020,\"isSold\":true},"
+            + "{\"plate\":\"INVALID\",\"brandId\":1,\"modelId\":10,\"year\":2020},"
+            + "{\"plate\":\"XYZ-1A23\",\"brandId\":1,\"modelId\":20,\"year\":2021},"
+            + "{\"plate\":\"DEF-5678\",\"brandId\":1,\"modelId\":10,\"year\":\"abc\"},"
+            + "{\"plate\":\"ABC-1234\",\"brandId\":1,\"modelId\":10,\"year\":2022}"
+            + "]";
+
+        // Act
+        VehicleImportResultDTO result = vehicleImportService.importJson(toStream(json));
+
+        // Assert
+        assertEquals(5, result.getTotalRows());
+        assertEquals(1, result.getImported());
+        assertEquals(4, result.getFailed());
+
+        List<VehicleImportRowResultDTO> rows = result.getRows();
+        assertEquals(Status.IMPORTED, rows.get(0).getStatus());
+        assertEquals("ABC-1234", rows.get(0).getPlate());
+        assertEquals(1L, rows.get(0).getVehicleId());
+        assertTrue(rows.get(1).getMessage().startsWith("Placa inválida"));
+        assertTrue(rows.get(2).getMessage().contains("não pertence à marca"));
+        assertTrue(rows.get(3).getMessage().startsWith("Linha com formato inválido"));
+        assertTrue(rows.get(4).getMessage().startsWith("Placa duplicada no arquivo"));
+        verify(vehicleStatisticsService).recordCreated(any());
+        verify(entityManager).flush();
+    }
+
+    @Test
+    void testImportJson_NotAnArray() {
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+            () -> vehicleImportService.importJson(toStream("{\"plate\":\"ABC-1234\"}")));
+        assertEquals("O corpo da importação deve ser um array JSON", exception.getMessage());
+    }
+
+    @Test
+    void testImportCsv_SkipsExistingPlates() throws Exception {
+        // Arrange
+        String csv = "plate,brandId,modelId,year,description,isSold\n"
+            + "ABC-1234,1,10,2020,\"Completo, revisado\",false\n"
+            + "XYZ-5678,1,10,2019,,true\n"
+            + "QWE-1111,1,10,ano,,false\n";
+        when(vehicleRepository.findExistingPlates(anyCollection())).thenReturn(List.of("XYZ-5678"));
+
+        // Act
+        VehicleImportResultDTO result = vehicleImportService.importCsv(toStream(csv));
+
+        // Assert
+        assertEquals(3, result.getTotalRows());
+        assertEquals(1, result.getImported());
+        assertEquals("Placa já cadastrada: XYZ-5678", result.getRows().get(1).getMessage());
+        assertEquals("Valor inválido para year: ano", result.getRows().get(2).getMessage());
+        verify(vehicleRepository).saveAll(argThat(vehicles -> {
+            Vehicle vehicle = ((List<Vehicle>) vehicles).get(0);
+            return "Completo, revisado".equals(vehicle.getDescription()) && !vehicle.getIsSold();
+        }));
+    }
+
+    @Test
+    void testImportCsv_FallsBackToSingleRowsWhenChunkFails() throws Exception {
+        // Arrange
+        String csv = "plate,brandId,modelId,year\nABC-1234,1,10,2020\nXYZ-5678,1,10,2021\n";
+        doThrow(new DataIntegrityViolationException("duplicate key"))
+            .doAnswer(invocation -> {
+                List<Vehicle> vehicles = invocation.getArgument(0);
+                vehicles.forEach(vehicle -> vehicle.setId(nextId.getAndIncrement()));
+                return vehicles;
+            })
+            .doThrow(new DataIntegrityViolationException("duplicate key"))
+            .when(vehicleRepository).saveAll(any());
+
+        // Act
+        VehicleImportResultDTO result = vehicleImportService.importCsv(toStream(csv));
+
+        // Assert
+        assertEquals(1, result.getImported());
+        assertEquals(1, result.getFailed());
+        assertEquals(Status.IMPORTED, result.getRows().get(0).getStatus());
+        assertEquals("Falha ao criar veículo: duplicate key", result.getRows().get(1).getMessage());
+        verify(vehicleRepository, times(3)).saveAll(any());
+    }
+
+    @Test
+    void testImportCsv_LargeFileIsInsertedInChunks() throws Exception {
+        // Arrange
+        StringBuilder csv = new StringBuilder("plate,brandId,modelId,year\n");
+        for (int i = 0; i < VehicleImportService.CHUNK_SIZE + 10; i++) {
+            csv.append(String.format("ABC-%04d,1,10,2020%n", i));
+        }
+
+        // Act
+        VehicleImportResultDTO result = vehicleImportService.importCsv(toStream(csv.toString()));
+
+        // Assert
+        assertEquals(VehicleImportService.CHUNK_SIZE + 10, result.getImported());
+        verify(vehicleRepository, times(2)).saveAll(any());
+        verify(vehicleRepository, times(2)).findExistingPlates(anyCollection());
+    }
+
+    @Test
+    void testImportCsv_CapsReportedFailures() throws Exception {
+        // Arrange
+        StringBuilder csv = new StringBuilder("plate,brandId,modelId,year\n");
+        for (int i = 0; i < VehicleImportService.MAX_REPORTED_FAILURES + 10; i++) {
+            csv.append("INVALID,1,10,2020\n");
+        }
+        csv.append("ABC-1234,1,10,2020\n");
+
+        // Act
+        VehicleImportResultDTO result = vehicleImportService.importCsv(toStream(csv.toString()));
+
+        // Assert
+        assertEquals(VehicleImportService.MAX_REPORTED_FAILURES + 11, result.getTotalRows());
+        assertEquals(VehicleImportService.MAX_REPORTED_FAILURES + 10, result.getFailed());
+        assertEquals(1, result.getImported());
+        assertEquals(VehicleImportService.MAX_REPORTED_FAILURES + 1, result.getRows().size());
+        assertEquals(Status.IMPORTED, result.getRows().get(result.getRows().size() - 1).getStatus());
+    }
+
+    // Helper methods
+    private InputStream toStream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Brand createTestBrand(Long id) {
+        Brand brand = new Brand();
+        brand.setId(id);
+        return brand;
+    }
+
+    private Model createTestModel(Long id) {
+        Model model = new Model();
+        model.setId(id);
+        return model;
+    }
+}
@@ -2,6 +2,8 @@ package br.com.tinnova.desafio_tinnova_back.service;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -12,6 +14,9 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
 import br.com.tinnova.desafio_tinnova_back.dto.VehicleCreateDTO;
+import br.com.tinnova.desafio_tinnova_back.dto.VehicleFilterDTO;
+import br.com.tinnova.desafio_tinnova_back.dto.VehicleImportResultDTO;
+import br.com.tinnova.desafio_tinnova_back.dto.VehiclePageDTO;
 import br.com.tinnova.desafio_tinnova_back.dto.VehicleResponseDTO;
 import br.com.tinnova.desafio_tinnova_back.dto.VehicleUpdateDTO;
 import br.com.tinnova.desafio_tinnova_back.entity.Brand;
@@ -21,6 +26,8 @@ import br.com.tinnova.desafio_tinnova_back.repository.BrandRepository;
 import br.com.tinnova.desafio_tinnova_back.repository.ModelRepository;
 import br.com.tinnova.desafio_tinnova_back.repository.VehicleRepository;
 
+import jakarta.persistence.EntityManager;
+
 @SpringBootTest
 @ActiveProfiles("test")
 @Transactional
@@ -29,12 +36,18 @@ class VehicleServiceIntegrationTest {
     @Autowired
     private VehicleService vehicleService;
 
+    @Autowired
+    private VehicleImportService vehicleImportService;
+
     @Autowired
     private VehicleRepository vehicleRepository;
 
     @Autowired
     private BrandRepository brandRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
     @Autowired
     private ModelRepository modelRepository;
 
@@ -101,6 +114,25 @@ class VehicleServiceIntegrationTest {
         assertEquals("ABC-1A23", result.getPlate());
     }
 
+    @Test
+    void testCreateVehicle_AfterInsertUsingColumnDefaultId() {
+        // Arrange - Hibernate reserva um bloco de ids e um INSERT fora dele usa o DEFAULT nextval da coluna
+        Vehicle first = vehicleService.createVehicle(createVehicleDTO("SEQ-0001"));
+        entityManager.createNativeQuery("INSERT INTO vehicles (plate, model_id, brand_id, vehicle_year) VALUES (?, ?, ?, ?)")
+            .setParameter(1, "SEQ-0002")
+            .setParameter(2, testModel.getId())
+            .setParameter(3, testBrand.getId())
+            .setParameter(4, 2020)
+            .executeUpdate();
+
+        // Act - o próximo id do bloco do Hibernate não pode coincidir com o do INSERT externo
+        Vehicle second = vehicleService.createVehicle(createVehicleDTO("SEQ-0003"));
+
+        // Assert
+        assertEquals(first.getId() + 1, second.getId());
+        assertEquals(3, vehicleRepository.count());
+    }
+
     @Test
     void testCreateVehicle_InvalidPlate_ShouldThrowException() {
         // Arrange
@@ -144,6 +176,88 @@ class VehicleServiceIntegrationTest {
         assertTrue(vehicleDto.getIsSold());
     }
 
+    @Test
+    void testListVehiclesPage_Integration() {
+        // Arrange
+        for (String plate : List.of("PAG-1001", "PAG-1002", "PAG-1003")) {
+            VehicleCreateDTO dto = new VehicleCreateDTO();
+            dto.setPlate(plate);
+            dto.setBrandId(testBrand.getId());
+            dto.setModelId(testModel.getId());
+            dto.setYear(2020);
+            dto.setIsSold(false);
+            vehicleService.createVehicle(dto);
+        }
+        VehicleFilterDTO filter = new VehicleFilterDTO();
+        filter.setBrandId(testBrand.getId());
+        filter.setYearFrom(2019);
+        filter.setIsSold(false);
+
+        // Act
+        VehiclePageDTO firstPage = vehicleService.listVehiclesPage(null, 2, filter);
+        VehiclePageDTO secondPage = vehicleService.listVehiclesPage(firstPage.getNextCursor(), 2, filter);
+
+        // Assert
+        assertEquals(2, firstPage.getSize());
+        assertTrue(firstPage.isHasNext());
+        assertEquals("PAG-1001", firstPage.getContent().get(0).getPlate());
+        assertEquals(testBrand.getName(), firstPage.getContent().get(0).getBrandName());
+        assertEquals(1, secondPage.getSize());
+        assertFalse(secondPage.isHasNext());
+        assertEquals("PAG-1003", secondPage.getContent().get(0).getPlate());
+    }
+
+    @Test
+    void testSearchVehicles_Integration() {
+        // Arrange
+        String[][] vehicles = {
+            {"SRC-1001", "Teto solar e bancos de couro"},
+            {"SRC-1002", "Único dono"},
+            {"SRD-1003", "TETO SOLAR panorâmico"}
+        };
+        for (String[] data : vehicles) {
+            VehicleCreateDTO dto = new VehicleCreateDTO();
+            dto.setPlate(data[0]);
+            dto.setBrandId(testBrand.getId());
+            dto.setModelId(testModel.getId());
+            dto.setYear(2020);
+            dto.setDescription(data[1]);
+            vehicleService.createVehicle(dto);
+        }
+
+        // Act
+        List<VehicleResponseDTO> byPlate = vehicleService.searchVehicles("src-", null, null, null);
+        List<VehicleResponseDTO> byText = vehicleService.searchVehicles(null, "teto solar", null, null);
+        List<VehicleResponseDTO> combined = vehicleService.searchVehicles("SRD", "teto", null, 5);
+
+        // Assert
+        assertEquals(List.of("SRC-1001", "SRC-1002"), byPlate.stream().map(VehicleResponseDTO::getPlate).toList());
+        assertEquals(testModel.getName(), byPlate.get(0).getModelName());
+        assertEquals(2, byText.size());
+        assertEquals(1, combined.size());
+        assertEquals("SRD-1003", combined.get(0).getPlate());
+    }
+
+    @Test
+    void testImportCsv_Integration() throws Exception {
+        // Arrange
+        String csv = "plate,brandId,modelId,year,isSold\n"
+            + "IMP-1001," + testBrand.getId() + "," + testModel.getId() + ",2020,false\n"
+            + "IMP-1002," + testBrand.getId() + "," + testModel.getId() + ",2021,true\n"
+            + "IMP-1001," + testBrand.getId() + "," + testModel.getId() + ",2022,false\n";
+
+        // Act
+        VehicleImportResultDTO result = vehicleImportService.importCsv(
+            new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+
+        // Assert
+        assertEquals(2, result.getImported());
+        assertEquals(1, result.getFailed());
+        assertNotNull(result.getRows().get(0).getVehicleId());
+        assertTrue(vehicleRepository.findById(result.getRows().get(1).getVehicleId()).orElseThrow().getIsSold());
+        assertEquals(2, vehicleRepository.findExistingPlates(List.of("IMP-1001", "IMP-1002", "IMP-9999")).size());
+    }
+
     @Test
     void testUpdateVehicle_Integration() {
         // Arrange - Criar veículo primeiro
@@ -302,4 +416,14 @@ class VehicleServiceIntegrationTest {
         );
         assertTrue(exception.getMessage().contains("Falha ao criar veículo"));
     }
+
+    // Helper methods
+    private VehicleCreateDTO createVehicleDTO(String plate) {
+        VehicleCreateDTO dto = new VehicleCreateDTO();
+        dto.setPlate(plate);
+        dto.setBrandId(testBrand.getId());
+        dto.setModelId(testModel.getId());
+        dto.setYear(2020);
+        return dto;
+    }
 }
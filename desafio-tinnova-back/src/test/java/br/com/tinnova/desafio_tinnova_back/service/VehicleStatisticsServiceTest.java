@@ -0,0 +1,159 @@
+package br.com.tinnova.desafio_tinnova_back.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import br.com.tinnova.desafio_tinnova_back.cache.CatalogCache;
+import br.com.tinnova.desafio_tinnova_back.dto.BrandDTO;
+import br.com.tinnova.desafio_tinnova_back.dto.VehicleStatisticsDTO;
+import br.com.tinnova.desafio_tinnova_back.repository.VehicleRepository;
+import br.com.tinnova.desafio_tinnova_back.service.VehicleStatisticsService.VehicleSnapshot;
+
+@ExtendWith(MockitoExtension.class)
+class VehicleStatisticsServiceTest {
+
+    @Mock
+    private VehicleRepository vehicleRepository;
+
+    @Mock
+    private CatalogCache catalogCache;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private VehicleStatisticsService vehicleStatisticsService;
+
+    @BeforeEach
+    void setUp() {
+        // Estado inicial do banco: 3 veículos, 1 vendido
+        when(vehicleRepository.count()).thenReturn(3L);
+        when(vehicleRepository.countByIsSoldTrue()).thenReturn(1L);
+        when(vehicleRepository.countGroupedByBrand()).thenReturn(Arrays.asList(
+            new Object[] { 1L, 2L },
+            new Object[] { 2L, 1L }
+        ));
+        when(vehicleRepository.countGroupedByYear()).thenReturn(Arrays.asList(
+            new Object[] { 2019, 1L },
+            new Object[] { 2021, 2L }
+        ));
+        when(vehicleRepository.findCreatedAtSince(any())).thenReturn(List.of(LocalDateTime.now().minusDays(1)));
+        lenient().when(catalogCache.findBrand(1L)).thenReturn(Optional.of(new BrandDTO(1L, "Toyota", null)));
+        lenient().when(catalogCache.findBrand(2L)).thenReturn(Optional.of(new BrandDTO(2L, "Honda", null)));
+    }
+
+    @Test
+    void testGetStatistics_SeedsFromDatabase() {
+        // Act
+        VehicleStatisticsDTO result = vehicleStatisticsService.getStatistics();
+
+        // Assert
+        assertEquals(3, result.getTotal());
+        assertEquals(1, result.getSold());
+        assertEquals(2, result.getNotSold());
+        assertEquals(1, result.getRecentlyRegistered());
+        assertEquals("2021", result.getByYear().get(0).getYear());
+        assertEquals(2, result.getByYear().get(0).getCount());
+        assertEquals(2, result.getByDecade().size());
+        assertEquals(2020, result.getByDecade().get(0).getDecade());
+        assertEquals(2, result.getByDecade().get(0).getCount());
+        assertEquals("Toyota", result.getByBrand().get(0).getBrand());
+        assertEquals(2, result.getByBrand().get(0).getCount());
+    }
+
+    @Test
+    void testGetStatistics_AppliesDeltasWithoutQueryingVehiclesAgain() {
+        // Arrange
+        vehicleStatisticsService.getStatistics();
+
+        // Act
+        vehicleStatisticsService.recordCreated(new VehicleSnapshot(2L, 1998, true, LocalDateTime.now()));
+        vehicleStatisticsService.recordUpdated(
+            new VehicleSnapshot(1L, 2019, false, LocalDateTime.now().minusYears(1)),
+            new VehicleSnapshot(1L, 2019, true, LocalDateTime.now().minusYears(1))
+        );
+        vehicleStatisticsService.recordDeleted(new VehicleSnapshot(1L, 2021, false, LocalDateTime.now().minusYears(1)));
+        VehicleStatisticsDTO result = vehicleStatisticsService.getStatistics();
+
+        // Assert
+        assertEquals(3, result.getTotal());
+        assertEquals(3, result.getSold());
+        assertEquals(0, result.getNotSold());
+        assertEquals(2, result.getRecentlyRegistered());
+        assertEquals(3, result.getByDecade().size());
+        assertEquals(1990, result.getByDecade().get(2).getDecade());
+        assertEquals(2, result.getByBrand().stream().filter(b -> b.getBrandId() == 2L).findFirst().get().getCount());
+        verify(vehicleRepository, times(1)).count();
+        verify(vehicleRepository, times(1)).countGroupedByBrand();
+    }
+
+    @Test
+    void testInvalidate_ReloadsFromDatabase() {
+        // Arrange
+        vehicleStatisticsService.getStatistics();
+
+        // Act
+        vehicleStatisticsService.invalidate();
+        vehicleStatisticsService.getStatistics();
+
+        // Assert
+        verify(vehicleRepository, times(2)).count();
+    }
+
+    @Test
+    void testSeed_DeltaCommittedBeforeSnapshotIsNotCountedTwice() throws Exception {
+        // Arrange: uma escrita já no commit quando a primeira leitura começa; o snapshot da carga (count = 3)
+        // já contém o veículo criado
+        CountDownLatch committing = new CountDownLatch(1);
+        CountDownLatch finishCommit = new CountDownLatch(1);
+        CompletableFuture<Void> writer = CompletableFuture.runAsync(() -> {
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                vehicleStatisticsService.recordCreated(new VehicleSnapshot(2L, 2021, false, LocalDateTime.now().minusYears(1)));
+                TransactionSynchronizationUtils.triggerBeforeCommit(false);
+                committing.countDown();
+                finishCommit.await();
+                TransactionSynchronizationUtils.triggerAfterCommit();
+                TransactionSynchronizationUtils.triggerAfterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+        });
+        assertTrue(committing.await(5, TimeUnit.SECONDS));
+
+        // Act
+        CompletableFuture<VehicleStatisticsDTO> reader = CompletableFuture.supplyAsync(vehicleStatisticsService::getStatistics);
+        Thread.sleep(100);
+        boolean seedWaitedForCommit = !reader.isDone();
+        finishCommit.countDown();
+        writer.get(5, TimeUnit.SECONDS);
+        VehicleStatisticsDTO result = reader.get(5, TimeUnit.SECONDS);
+
+        // Assert
+        assertTrue(seedWaitedForCommit);
+        assertEquals(3, result.getTotal());
+        assertEquals(2, result.getByYear().get(0).getCount());
+    }
+}
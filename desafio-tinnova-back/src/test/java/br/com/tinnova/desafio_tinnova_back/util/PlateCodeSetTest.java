@@ -0,0 +1,67 @@
+package br.com.tinnova.desafio_tinnova_back.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+class PlateCodeSetTest {
+
+    @Test
+    void testAddAndContains() {
+        // Arrange
+        PlateCodeSet set = new PlateCodeSet();
+
+        // Act & Assert
+        assertTrue(set.add("ABC-1234"));
+        assertFalse(set.add(" abc-1234 "));
+        assertTrue(set.add("ABC-1A34"));
+        assertTrue(set.contains("ABC-1234"));
+        assertFalse(set.contains("XYZ-9999"));
+        assertFalse(set.contains("invalida"));
+        assertEquals(2, set.size());
+    }
+
+    @Test
+    void testGrowsBeyondInitialCapacity() {
+        // Arrange
+        PlateCodeSet set = new PlateCodeSet(4);
+        int count = 100_000;
+
+        // Act
+        for (int i = 0; i < count; i++) {
+            assertTrue(set.add(i * 6_317L % PlateCodec.CODE_SPACE));
+        }
+
+        // Assert
+        assertEquals(count, set.size());
+        for (int i = 0; i < count; i++) {
+            assertTrue(set.contains(i * 6_317L % PlateCodec.CODE_SPACE));
+        }
+        assertFalse(set.contains(1L));
+    }
+
+    @Test
+    void testClear() {
+        // Arrange
+        PlateCodeSet set = new PlateCodeSet();
+        set.add("ABC-1234");
+
+        // Act
+        set.clear();
+
+        // Assert
+        assertTrue(set.isEmpty());
+        assertFalse(set.contains("ABC-1234"));
+    }
+
+    @Test
+    void testAdd_InvalidInput() {
+        // Arrange
+        PlateCodeSet set = new PlateCodeSet();
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> set.add("ABC1234"));
+        assertThrows(IllegalArgumentException.class, () -> set.add(PlateCodec.CODE_SPACE));
+        assertFalse(set.contains(-1L));
+    }
+}
@@ -0,0 +1,48 @@
+package br.com.tinnova.desafio_tinnova_back.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+class PlateCodecTest {
+
+    @Test
+    void testEncodeDecode_RoundTrip() {
+        // Arrange & Act & Assert
+        for (String plate : new String[] {"AAA-0000", "ABC-1234", "XYZ-1A23", "BRA-2E19", "ZZZ-9Z99", "ZZZ-9999"}) {
+            long code = PlateCodec.encode(plate);
+            assertTrue(code >= 0 && code < PlateCodec.CODE_SPACE);
+            assertEquals(plate, PlateCodec.decode(code));
+        }
+    }
+
+    @Test
+    void testEncode_NormalizesInput() {
+        // Arrange & Act & Assert
+        assertEquals(PlateCodec.encode("ABC-1A23"), PlateCodec.encode(" abc-1a23 "));
+        assertEquals(0L, PlateCodec.encode("AAA-0000"));
+        assertEquals(PlateCodec.CODE_SPACE - 1, PlateCodec.encode("ZZZ-9Z99"));
+    }
+
+    @Test
+    void testEncode_BrazilianAndMercosulDoNotCollide() {
+        // Arrange & Act & Assert
+        assertNotEquals(PlateCodec.encode("ABC-1234"), PlateCodec.encode("ABC-1C34"));
+        assertNotEquals(PlateCodec.encode("ABC-1034"), PlateCodec.encode("ABC-1A34"));
+    }
+
+    @Test
+    void testEncode_InvalidPlate() {
+        // Arrange & Act & Assert
+        assertEquals(PlateCodec.INVALID, PlateCodec.encode(null));
+        assertEquals(PlateCodec.INVALID, PlateCodec.encode("ABC1234"));
+        assertEquals(PlateCodec.INVALID, PlateCodec.encode("ABC-12A3"));
+    }
+
+    @Test
+    void testDecode_InvalidCode() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> PlateCodec.decode(-1));
+        assertThrows(IllegalArgumentException.class, () -> PlateCodec.decode(PlateCodec.CODE_SPACE));
+    }
+}
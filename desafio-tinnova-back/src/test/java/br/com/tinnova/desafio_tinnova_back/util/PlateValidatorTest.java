@@ -148,4 +148,53 @@ class PlateValidatorTest {
         assertFalse(PlateValidator.isValidPlate("ABC-1AA2")); // Duas letras consecutivas no Mercosul
         assertFalse(PlateValidator.isValidPlate("ABC-A123")); // Letra na primeira posição dos números
     }
+
+    @Test
+    void testValidateAndNormalize_ReturnsSameInstanceWhenAlreadyNormalized() {
+        // Arrange
+        String plate = "ABC-1A23";
+
+        // Act & Assert
+        assertSame(plate, PlateValidator.validateAndNormalize(plate));
+        assertSame(plate, PlateValidator.normalizePlate(plate));
+    }
+
+    @Test
+    void testValidateAndNormalize_NormalizesCaseAndSpaces() {
+        // Arrange & Act & Assert
+        assertEquals("ABC-1234", PlateValidator.validateAndNormalize(" abc-1234\t"));
+        assertEquals("XYZ-1A23", PlateValidator.validateAndNormalize(new StringBuilder("xyz-1a23")));
+        assertNull(PlateValidator.validateAndNormalize("ABC-12A3"));
+        assertNull(PlateValidator.validateAndNormalize("   "));
+        assertNull(PlateValidator.validateAndNormalize(null));
+    }
+
+    @Test
+    void testValidateAndNormalize_RejectsNonAsciiCharacters() {
+        // Arrange & Act & Assert
+        assertNull(PlateValidator.validateAndNormalize("ÁBC-1234"));
+        assertNull(PlateValidator.validateAndNormalize("ABC-１234")); // dígito de largura total
+        assertEquals(PlateType.INVALID, PlateValidator.classify("ABC\u20131234")); // travessão em vez de hífen
+    }
+
+    @Test
+    void testValidateAndNormalizeAll() {
+        // Arrange
+        CharSequence[] plates = {"abc-1234", "invalida", null, "DEF-1A23"};
+        String[] normalized = new String[plates.length];
+
+        // Act
+        int valid = PlateValidator.validateAndNormalizeAll(plates, normalized);
+
+        // Assert
+        assertEquals(2, valid);
+        assertArrayEquals(new String[] {"ABC-1234", null, null, "DEF-1A23"}, normalized);
+    }
+
+    @Test
+    void testValidateAndNormalizeAll_OutputTooSmall() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+            () -> PlateValidator.validateAndNormalizeAll(new CharSequence[] {"ABC-1234"}, new String[0]));
+    }
 }
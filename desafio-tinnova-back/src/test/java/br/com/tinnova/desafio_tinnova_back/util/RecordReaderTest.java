@@ -0,0 +1,56 @@
+package br.com.tinnova.desafio_tinnova_back.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.StringReader;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import br.com.tinnova.desafio_tinnova_back.util.RecordReader.RecordTooLongException;
+
+class RecordReaderTest {
+
+    @Test
+    void testReadCsvRecord_QuotedFields() throws Exception {
+        // Arrange
+        RecordReader reader = new RecordReader(new StringReader("a,\"b, \"\"c\"\"\",\"linha\r\nquebrada\"\r\nfim"));
+
+        // Act
+        List<String> first = reader.readCsvRecord();
+        List<String> second = reader.readCsvRecord();
+
+        // Assert
+        assertEquals(List.of("a", "b, \"c\"", "linha\r\nquebrada"), first);
+        assertEquals(List.of("fim"), second);
+        assertNull(reader.readCsvRecord());
+    }
+
+    @Test
+    void testReadCsvRecord_UnterminatedQuoteIsSkippedToNextLine() throws Exception {
+        // Arrange: a aspa nunca fecha, então o registro só terminaria no fim da entrada
+        RecordReader reader = new RecordReader(new StringReader("a,b\n\"aberto,x\ny,z\nc,d\r\n"), 8);
+
+        // Act & Assert
+        assertEquals(List.of("a", "b"), reader.readCsvRecord());
+        assertThrows(RecordTooLongException.class, reader::readCsvRecord);
+        assertEquals(List.of("y", "z"), reader.readCsvRecord());
+        assertEquals(List.of("c", "d"), reader.readCsvRecord());
+        assertNull(reader.readCsvRecord());
+    }
+
+    @Test
+    void testReadLine_LongLineIsSkippedAcrossBuffers() throws Exception {
+        // Arrange: maior que o buffer interno, para o descarte atravessar várias leituras
+        String longLine = "x".repeat(200_000);
+        RecordReader reader = new RecordReader(new StringReader("primeira\r\n" + longLine + "\n12345678\nfim"), 8);
+
+        // Act & Assert
+        assertEquals("primeira", reader.readLine());
+        RecordTooLongException exception = assertThrows(RecordTooLongException.class, reader::readLine);
+        assertEquals("Registro excede o limite de 8 caracteres", exception.getMessage());
+        assertEquals("12345678", reader.readLine());
+        assertEquals("fim", reader.readLine());
+        assertNull(reader.readLine());
+    }
+}
@@ -3,6 +3,7 @@
 DROP TABLE IF EXISTS vehicles CASCADE;
 DROP TABLE IF EXISTS models CASCADE;
 DROP TABLE IF EXISTS brands CASCADE;
+DROP SEQUENCE IF EXISTS vehicles_id_seq;
 
 -- Tabela de Marcas
 CREATE TABLE brands (
@@ -21,9 +22,11 @@ CREATE TABLE models (
     UNIQUE(name, brand_id)
 );
 
--- Tabela de Veículos
+-- Tabela de Veículos (ids alocados em blocos de 50, como no PostgreSQL)
+CREATE SEQUENCE vehicles_id_seq START WITH 1 INCREMENT BY 50;
+
 CREATE TABLE vehicles (
-    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    id BIGINT DEFAULT NEXT VALUE FOR vehicles_id_seq PRIMARY KEY,
     plate VARCHAR(10) NOT NULL UNIQUE,
     model_id BIGINT NOT NULL,
     brand_id BIGINT NOT NULL,
@@ -32,6 +35,8 @@ CREATE TABLE vehicles (
     is_sold BOOLEAN NOT NULL DEFAULT false,
     created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    -- Versão para controle de concorrência otimista (incrementada a cada UPDATE)
+    version BIGINT NOT NULL DEFAULT 0,
     FOREIGN KEY (model_id) REFERENCES models(id),
     FOREIGN KEY (brand_id) REFERENCES brands(id)
 );
@@ -55,3 +60,9 @@ INSERT INTO models (name, brand_id) VALUES
 ('Fiesta', 4),
 ('Onix', 5),
 ('Cruze', 5);
+
+-- Índices equivalentes aos do PostgreSQL (sem os específicos de varchar_pattern_ops e GIN)
+CREATE INDEX idx_vehicles_brand_model_year ON vehicles(brand_id, model_id, vehicle_year);
+CREATE INDEX idx_vehicles_is_sold_year ON vehicles(is_sold, vehicle_year);
+CREATE INDEX idx_vehicles_model_id ON vehicles(model_id);
+CREATE INDEX idx_vehicles_year ON vehicles(vehicle_year);
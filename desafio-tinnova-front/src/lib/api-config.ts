@@ -24,6 +24,7 @@ export const endpoints = {
   vehicles: {
     base: `${API_URL}/api/veiculos`,
     byId: (id: string) => `${API_URL}/api/veiculos/${id}`,
+    statistics: `${API_URL}/api/veiculos/estatisticas`,
     brands: `${API_URL}/api/veiculos/marcas`,
     modelsByBrand: (brandId: string) => `${API_URL}/api/veiculos/marcas/${brandId}/modelos`,
     brandById: (brandId: string) => `${API_URL}/api/veiculos/marcas/${brandId}`,
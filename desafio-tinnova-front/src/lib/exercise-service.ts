@@ -17,6 +17,7 @@ export interface ElectionPercentages {
 export interface BubbleSortResponse {
   originalArray: number[];
   sortedArray: number[];
+  algorithm: string;
   comparisons: number;
   swaps: number;
   executionTimeMs: number;
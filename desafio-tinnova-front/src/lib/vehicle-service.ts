@@ -99,51 +99,8 @@ export const vehicleService = {
     recentlyRegistered: number;
   }> {
     try {
-      const vehicles = await this.getAll();
-      
-      const total = vehicles.length;
-      const notSold = vehicles.filter(v => !v.isSold).length;
-      const sold = vehicles.filter(v => v.isSold).length;
-      
-      // Agrupar por ano
-      const yearGroups = vehicles.reduce((acc, vehicle) => {
-        const year = vehicle.year;
-        acc[year] = (acc[year] || 0) + 1;
-        return acc;
-      }, {} as Record<string, number>);
-      
-      const byYear = Object.entries(yearGroups)
-        .map(([year, count]) => ({ year, count }))
-        .sort((a, b) => b.year.localeCompare(a.year));
-      
-      // Agrupar por marca
-      const brandGroups = vehicles.reduce((acc, vehicle) => {
-        const brandName = vehicle.brandName;
-        acc[brandName] = (acc[brandName] || 0) + 1;
-        return acc;
-      }, {} as Record<string, number>);
-      
-      const byBrand = Object.entries(brandGroups)
-        .map(([brand, count]) => ({ brand, count }))
-        .sort((a, b) => b.count - a.count);
-      
-      // Veículos registrados na última semana
-      const lastWeek = new Date();
-      lastWeek.setDate(lastWeek.getDate() - 7);
-      
-      const recentlyRegistered = vehicles.filter(vehicle => {
-        const registrationDate = new Date(vehicle.createdAt);
-        return registrationDate >= lastWeek;
-      }).length;
-      
-      return {
-        total,
-        notSold,
-        sold,
-        byYear,
-        byBrand,
-        recentlyRegistered
-      };
+      // Estatísticas agregadas no backend, sem baixar a lista completa de veículos
+      return await ApiClient.get(endpoints.vehicles.statistics);
     } catch (error) {
       console.error('Error fetching vehicle statistics:', error);
       // Retornar estatísticas vazias em caso de erro